@@ -0,0 +1,72 @@
+package com.todev.pdv.benchmarks;
+
+import com.todev.pdv.common.dtos.ProductResponse;
+import com.todev.pdv.common.mappers.impl.ModelMapperImpl;
+import com.todev.pdv.common.paginators.impl.CursorPaginatorImpl;
+import com.todev.pdv.core.models.ProductBarcode;
+import com.todev.pdv.core.providers.contracts.ProductBarcodeProvider;
+import com.todev.pdv.core.providers.contracts.ProductProvider;
+import com.todev.pdv.core.search.contracts.ProductSearchIndex;
+import com.todev.pdv.core.search.impl.ProductBarcodeIndexImpl;
+import com.todev.pdv.core.services.impl.ProductServiceImpl;
+import com.todev.pdv.core.strategies.contracts.StockMutationStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BarcodeLookupBenchmark {
+    private static final int BARCODES = 100_000;
+
+    @Param({"true", "false"})
+    private boolean indexed;
+
+    private ProductServiceImpl productService;
+    private String[] codes;
+
+    @Setup
+    public void setUp() {
+        var productProvider = mock(ProductProvider.class, withSettings().stubOnly());
+        var productBarcodeProvider = mock(ProductBarcodeProvider.class, withSettings().stubOnly());
+        var productBarcodeIndex = new ProductBarcodeIndexImpl(productBarcodeProvider);
+        var product = SyntheticData.products(1).get(0);
+        codes = new String[BARCODES];
+
+        for (int i = 0; i < BARCODES; i++) {
+            codes[i] = String.format("789%010d", i);
+
+            if (indexed) {
+                productBarcodeIndex.put(codes[i], product.getId());
+            }
+        }
+
+        when(productProvider.findActiveById(anyInt())).thenReturn(product);
+        when(productBarcodeProvider.findByCode(anyString()))
+                .thenAnswer(invocation -> Optional.of(new ProductBarcode(1, product.getId(), invocation.getArgument(0), LocalDateTime.now())));
+
+        productService = new ProductServiceImpl(productProvider,
+                productBarcodeProvider,
+                mock(StockMutationStrategy.class, withSettings().stubOnly()),
+                mock(ProductSearchIndex.class, withSettings().stubOnly()),
+                productBarcodeIndex,
+                new CursorPaginatorImpl(20, 100),
+                new ModelMapperImpl());
+    }
+
+    @Benchmark
+    public ProductResponse findActiveByBarcode() {
+        return productService.findActiveByBarcode(codes[ThreadLocalRandom.current().nextInt(BARCODES)]);
+    }
+}
@@ -0,0 +1,53 @@
+package com.todev.pdv.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+public class BenchmarkRunner {
+    private static final DateTimeFormatter FILE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final Path RESULTS_DIRECTORY = Path.of("results");
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        var commandLineOptions = new CommandLineOptions(args);
+
+        if (commandLineOptions.shouldHelp()) {
+            commandLineOptions.showHelp();
+            return;
+        }
+
+        var options = new OptionsBuilder().parent(commandLineOptions);
+
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+
+        if (!commandLineOptions.getResult().hasValue()) {
+            Files.createDirectories(RESULTS_DIRECTORY);
+            options.result(RESULTS_DIRECTORY.resolve("jmh-" + LocalDateTime.now().format(FILE_FORMATTER) + ".json").toString());
+        }
+
+        if (commandLineOptions.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+
+        var runner = new Runner(options.build());
+
+        if (commandLineOptions.shouldList()) {
+            runner.list();
+            return;
+        }
+
+        runner.run();
+    }
+}
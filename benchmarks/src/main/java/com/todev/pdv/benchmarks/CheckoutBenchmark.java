@@ -0,0 +1,66 @@
+package com.todev.pdv.benchmarks;
+
+import com.todev.pdv.common.dtos.SaleRequest;
+import com.todev.pdv.common.dtos.SaleResponse;
+import com.todev.pdv.common.mappers.impl.ModelMapperImpl;
+import com.todev.pdv.common.paginators.impl.CursorPaginatorImpl;
+import com.todev.pdv.common.readers.contracts.SaleReader;
+import com.todev.pdv.core.providers.contracts.IdempotencyKeyProvider;
+import com.todev.pdv.core.providers.contracts.ProductProvider;
+import com.todev.pdv.core.providers.contracts.SaleItemProvider;
+import com.todev.pdv.core.providers.contracts.SaleProvider;
+import com.todev.pdv.core.providers.contracts.SaleRollupProvider;
+import com.todev.pdv.core.providers.contracts.UserProvider;
+import com.todev.pdv.core.services.contracts.ReportCacheService;
+import com.todev.pdv.core.services.impl.SaleServiceImpl;
+import com.todev.pdv.core.strategies.contracts.StockMutationStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CheckoutBenchmark {
+    @Param({"5", "50"})
+    private int items;
+
+    private SaleServiceImpl saleService;
+    private SaleRequest saleRequest;
+
+    @Setup
+    public void setUp() {
+        var saleProvider = mock(SaleProvider.class, withSettings().stubOnly());
+        var productProvider = mock(ProductProvider.class, withSettings().stubOnly());
+        var userProvider = mock(UserProvider.class, withSettings().stubOnly());
+
+        when(userProvider.findActiveByLogin(anyString())).thenReturn(SyntheticData.seller());
+        when(productProvider.findActiveByIds(any())).thenReturn(SyntheticData.products(items));
+        when(saleProvider.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        saleService = new SaleServiceImpl(saleProvider,
+                mock(SaleItemProvider.class, withSettings().stubOnly()),
+                productProvider,
+                userProvider,
+                mock(IdempotencyKeyProvider.class, withSettings().stubOnly()),
+                mock(SaleRollupProvider.class, withSettings().stubOnly()),
+                mock(StockMutationStrategy.class, withSettings().stubOnly()),
+                mock(ReportCacheService.class, withSettings().stubOnly()),
+                new CursorPaginatorImpl(20, 100),
+                new ModelMapperImpl(),
+                mock(SaleReader.class, withSettings().stubOnly()));
+        saleRequest = SyntheticData.saleRequest(items);
+    }
+
+    @Benchmark
+    public SaleResponse save() {
+        return saleService.save("vendedor", saleRequest);
+    }
+}
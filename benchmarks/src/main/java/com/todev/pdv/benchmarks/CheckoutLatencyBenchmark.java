@@ -0,0 +1,163 @@
+package com.todev.pdv.benchmarks;
+
+import com.todev.pdv.PdvApplication;
+import com.todev.pdv.common.dtos.SaleItemRequest;
+import com.todev.pdv.common.dtos.SaleRequest;
+import com.todev.pdv.common.dtos.SaleResponse;
+import com.todev.pdv.common.mappers.contracts.ModelMapper;
+import com.todev.pdv.core.exceptions.NotEnoughStockException;
+import com.todev.pdv.core.models.Money;
+import com.todev.pdv.core.models.SaleItem;
+import com.todev.pdv.core.providers.contracts.ProductProvider;
+import com.todev.pdv.core.providers.contracts.SaleItemProvider;
+import com.todev.pdv.core.providers.contracts.SaleProvider;
+import com.todev.pdv.core.providers.contracts.UserProvider;
+import com.todev.pdv.core.services.contracts.SaleService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class CheckoutLatencyBenchmark {
+    private static final String JDBC_URL = "pdv.benchmark.jdbc-url";
+    private static final String USERNAME = "pdv.benchmark.username";
+    private static final String PASSWORD = "pdv.benchmark.password";
+    private static final String SELLER = "vendedor";
+    private static final int STOCK = 1_000_000_000;
+
+    @Param({"1", "10", "100", "1000"})
+    private int lines;
+
+    private MySQLContainer<?> container;
+    private ConfigurableApplicationContext context;
+    private SaleService saleService;
+    private SaleProvider saleProvider;
+    private SaleItemProvider saleItemProvider;
+    private ProductProvider productProvider;
+    private UserProvider userProvider;
+    private ModelMapper modelMapper;
+    private TransactionTemplate transactionTemplate;
+    private SaleRequest saleRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var url = System.getProperty(JDBC_URL);
+        var username = System.getProperty(USERNAME, "root");
+        var password = System.getProperty(PASSWORD, "12345");
+
+        if (url == null) {
+            container = new MySQLContainer<>("mysql:8.0");
+            container.start();
+            url = container.getJdbcUrl() + "?rewriteBatchedStatements=true";
+            username = container.getUsername();
+            password = container.getPassword();
+        }
+
+        context = new SpringApplicationBuilder(PdvApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=" + url,
+                        "spring.datasource.username=" + username,
+                        "spring.datasource.password=" + password,
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run();
+
+        saleService = context.getBean(SaleService.class);
+        saleProvider = context.getBean(SaleProvider.class);
+        saleItemProvider = context.getBean(SaleItemProvider.class);
+        productProvider = context.getBean(ProductProvider.class);
+        userProvider = context.getBean(UserProvider.class);
+        modelMapper = context.getBean(ModelMapper.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+
+        var seller = SyntheticData.seller();
+        seller.setId(null);
+        seller.setLogin(SELLER);
+
+        if (userProvider.findByLogin(SELLER).isEmpty()) {
+            userProvider.save(seller);
+        }
+
+        var requestItems = new ArrayList<SaleItemRequest>(lines);
+
+        for (int i = 1; i <= lines; i++) {
+            var product = SyntheticData.product(i);
+            product.setId(null);
+            product.setDescription("Produto " + lines + "-" + i);
+            product.setAmount(STOCK);
+            product.setVersion(null);
+            var saved = productProvider.save(product);
+            requestItems.add(new SaleItemRequest(saved.getId(), i % 5 + 1));
+        }
+
+        saleRequest = new SaleRequest("CARD", 10, requestItems);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+    @Benchmark
+    public SaleResponse legacy() {
+        return transactionTemplate.execute(status -> saveLineByLine(saleRequest));
+    }
+
+    @Benchmark
+    public SaleResponse batched() {
+        return saleService.save(SELLER, saleRequest);
+    }
+
+    private SaleResponse saveLineByLine(SaleRequest requestDTO) {
+        var sale = modelMapper.toModel(requestDTO);
+        var user = userProvider.findActiveByLogin(SELLER);
+        var items = requestDTO.items().stream().map(modelMapper::toModel).toList();
+        var total = 0L;
+
+        sale.setUserId(user.getId());
+        sale.setTotal(Money.ZERO);
+        sale.setCreatedAt(LocalDateTime.now());
+        saleProvider.save(sale);
+
+        for (SaleItem item : items) {
+            var product = productProvider.findActiveById(item.getProductId());
+
+            if (item.getAmount() > product.getAmount()) {
+                throw new NotEnoughStockException(String.format("O produto: %s não possui estoque suficiente!", product.getId()));
+            }
+
+            total += Money.times(product.getPrice().cents(), item.getAmount());
+            product.setAmount(product.getAmount() - item.getAmount());
+            item.setSaleId(sale.getId());
+            item.setCreatedAt(LocalDateTime.now());
+            item.setPrice(product.getPrice());
+            productProvider.save(product);
+            saleItemProvider.save(item);
+        }
+
+        sale.setTotal(Money.ofCents(total));
+        saleProvider.save(sale);
+        return modelMapper.toDTO(sale);
+    }
+}
@@ -0,0 +1,68 @@
+package com.todev.pdv.benchmarks;
+
+import com.todev.pdv.common.collections.IntHashSet;
+import com.todev.pdv.core.models.SaleItem;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DuplicateCheckBenchmark {
+    @Param({"10", "100", "1000"})
+    private int items;
+
+    private List<SaleItem> saleItems;
+
+    @Setup
+    public void setUp() {
+        saleItems = SyntheticData.saleItems(items);
+    }
+
+    @Benchmark
+    public boolean nestedLoop() {
+        for (int i = 0; i < saleItems.size(); i++) {
+            var productId = saleItems.get(i).getProductId();
+
+            for (int j = i + 1; j < saleItems.size(); j++) {
+                if (productId.equals(saleItems.get(j).getProductId())) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    @Benchmark
+    public boolean boxedHashSet() {
+        var productIds = new HashSet<Integer>();
+
+        for (SaleItem item : saleItems) {
+            if (!productIds.add(item.getProductId())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Benchmark
+    public boolean intHashSet() {
+        var productIds = new IntHashSet(saleItems.size());
+
+        for (SaleItem item : saleItems) {
+            if (!productIds.add(item.getProductId())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
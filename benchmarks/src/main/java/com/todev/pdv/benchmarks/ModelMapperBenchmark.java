@@ -0,0 +1,69 @@
+package com.todev.pdv.benchmarks;
+
+import com.todev.pdv.common.dtos.ProductRequest;
+import com.todev.pdv.common.dtos.ProductResponse;
+import com.todev.pdv.common.dtos.SaleReportResponse;
+import com.todev.pdv.common.dtos.SaleRequest;
+import com.todev.pdv.common.dtos.SaleResponse;
+import com.todev.pdv.common.mappers.impl.ModelMapperImpl;
+import com.todev.pdv.core.models.Product;
+import com.todev.pdv.core.models.Sale;
+import com.todev.pdv.core.models.SaleItem;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelMapperBenchmark {
+    private static final int ITEMS = 50;
+
+    private final ModelMapperImpl modelMapper = new ModelMapperImpl();
+    private final ProductRequest productRequest = new ProductRequest("Batom", 10, 25.9);
+    private Product product;
+    private Sale sale;
+    private SaleRequest saleRequest;
+    private List<SaleItem> items;
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        product = SyntheticData.product(1);
+        sale = SyntheticData.sale();
+        saleRequest = SyntheticData.saleRequest(ITEMS);
+        items = SyntheticData.saleItems(ITEMS);
+        products = SyntheticData.products(ITEMS);
+    }
+
+    @Benchmark
+    public Product productToModel() {
+        return modelMapper.toModel(productRequest);
+    }
+
+    @Benchmark
+    public ProductResponse productToDTO() {
+        return modelMapper.toDTO(product);
+    }
+
+    @Benchmark
+    public SaleResponse saleToDTO() {
+        return modelMapper.toDTO(sale);
+    }
+
+    @Benchmark
+    public void saleRequestToModel(Blackhole blackhole) {
+        blackhole.consume(modelMapper.toModel(saleRequest));
+        saleRequest.items().forEach(item -> blackhole.consume(modelMapper.toModel(item)));
+    }
+
+    @Benchmark
+    public SaleReportResponse saleReportToDTO() {
+        return modelMapper.toDTO(10, 1750.9, 1575.81, items, products);
+    }
+}
@@ -0,0 +1,45 @@
+package com.todev.pdv.benchmarks;
+
+import com.todev.pdv.core.providers.contracts.ProductProvider;
+import com.todev.pdv.core.search.impl.ProductSearchIndexImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductSearchBenchmark {
+    private static final int PRODUCTS = 100_000;
+    private static final List<String> NAMES = List.of("Batom", "Base Líquida", "Pó Compacto", "Máscara de Cílios",
+            "Delineador", "Sombra", "Blush", "Corretivo", "Primer", "Iluminador");
+    private static final List<String> VARIANTS = List.of("Vermelho", "Nude", "Rosa", "Matte", "Cintilante",
+            "Marrom", "Preto", "Coral", "Bege", "Pêssego");
+
+    @Param({"bat", "batom nude", "cilios", "iluminadro", "b"})
+    private String query;
+
+    private ProductSearchIndexImpl productSearchIndex;
+
+    @Setup
+    public void setUp() {
+        productSearchIndex = new ProductSearchIndexImpl(mock(ProductProvider.class), 500);
+
+        for (int id = 1; id <= PRODUCTS; id++) {
+            var name = NAMES.get(id % NAMES.size());
+            var variant = VARIANTS.get(id / NAMES.size() % VARIANTS.size());
+            productSearchIndex.index(id, name + " " + variant + " " + id);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> search() {
+        return productSearchIndex.search(query);
+    }
+}
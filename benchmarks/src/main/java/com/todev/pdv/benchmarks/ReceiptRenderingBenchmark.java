@@ -0,0 +1,74 @@
+package com.todev.pdv.benchmarks;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.pdf.PdfWriter;
+import com.todev.pdv.common.dtos.SaleDetailsResponse;
+import com.todev.pdv.common.dtos.SaleItemResponse;
+import com.todev.pdv.common.reports.impl.ReceiptRendererImpl;
+import com.todev.pdv.common.reports.impl.ReportRendererImpl;
+import com.todev.pdv.core.enums.PaymentMethod;
+import com.todev.pdv.core.enums.ReceiptFormat;
+import com.todev.pdv.core.models.Money;
+import com.todev.pdv.core.models.Sale;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReceiptRenderingBenchmark {
+    private static final int ITEMS = 20;
+
+    private final ReportRendererImpl reportRenderer = new ReportRendererImpl();
+    private final ReceiptRendererImpl receiptRenderer = new ReceiptRendererImpl(48);
+    private final Sale sale = new Sale(1, 1, PaymentMethod.CARD, 10, Money.ofCents(175090L), LocalDateTime.now(), null);
+    private SaleDetailsResponse details;
+
+    @Setup
+    public void setUp() {
+        var items = new ArrayList<SaleItemResponse>();
+
+        for (int i = 1; i <= ITEMS; i++) {
+            items.add(new SaleItemResponse(i, "Produto " + i, i % 5 + 1, 19.9));
+        }
+
+        details = new SaleDetailsResponse("Vendedor", items);
+    }
+
+    @Benchmark
+    public void pdf() {
+        try (var report = new Document(PageSize.B6)) {
+            PdfWriter.getInstance(report, OutputStream.nullOutputStream());
+            report.open();
+            reportRenderer.addStoreHeader(report);
+
+            var table = reportRenderer.createTable("PROD", "QTD", "PREÇO");
+
+            for (SaleItemResponse item : details.items()) {
+                reportRenderer.addRow(table, item.productDescription(), item.amount().toString(), Money.format(Money.of(item.price()).cents()));
+            }
+
+            report.add(table);
+            reportRenderer.addFooter(report, List.of("Total: " + Money.format(sale.getTotal().cents())));
+        }
+    }
+
+    @Benchmark
+    public void text() {
+        receiptRenderer.render(sale, details, ReceiptFormat.TEXT, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void escPos() {
+        receiptRenderer.render(sale, details, ReceiptFormat.ESC_POS, OutputStream.nullOutputStream());
+    }
+}
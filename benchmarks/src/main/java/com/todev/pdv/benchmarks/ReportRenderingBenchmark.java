@@ -0,0 +1,106 @@
+package com.todev.pdv.benchmarks;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+import com.todev.pdv.common.reports.impl.ReportRendererImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.lowagie.text.Element.ALIGN_CENTER;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportRenderingBenchmark {
+    private static final int ROWS = 1000;
+
+    private final ReportRendererImpl reportRenderer = new ReportRendererImpl();
+    private final List<String[]> rows = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        for (int i = 1; i <= ROWS; i++) {
+            rows.add(new String[]{String.valueOf(i), "Produto " + i, String.valueOf(i % 50)});
+        }
+    }
+
+    @Benchmark
+    public void perCallStyles() {
+        try (var report = new Document(PageSize.B6)) {
+            PdfWriter.getInstance(report, OutputStream.nullOutputStream());
+            report.open();
+
+            var header = new ArrayList<Paragraph>();
+            var title = createParagraph("Minha Make", 22);
+            title.getFont().setStyle("bold");
+            header.add(title);
+            List.of("Vitória Park Shopping",
+                    "Rua Henrique de Holanda - Nº 3000",
+                    "(81) 99451-3987",
+                    "CNPJ 35.699.902/000010-42").forEach(subtitle -> header.add(createParagraph(subtitle, 16)));
+            header.forEach(report::add);
+
+            var table = new PdfPTable(3);
+            List.of("COD", "DESC", "QTD").forEach(value -> {
+                var cell = new PdfPCell();
+                cell.setBorder(0);
+                cell.setPadding(6);
+                cell.setPhrase(new Phrase(value));
+                cell.getPhrase().getFont().setStyle("bold");
+                table.addCell(cell);
+            });
+
+            for (String[] row : rows) {
+                var cells = new ArrayList<PdfPCell>();
+                List.of(row).forEach(value -> {
+                    var cell = new PdfPCell();
+                    cell.setBorder(0);
+                    cell.setPadding(6);
+                    cell.setPhrase(new Phrase(value));
+                    cells.add(cell);
+                });
+                cells.forEach(table::addCell);
+            }
+
+            report.add(table);
+        }
+    }
+
+    @Benchmark
+    public void styleRegistry() {
+        try (var report = new Document(PageSize.B6)) {
+            PdfWriter.getInstance(report, OutputStream.nullOutputStream());
+            report.open();
+            reportRenderer.addStoreHeader(report);
+
+            var table = reportRenderer.createTable("COD", "DESC", "QTD");
+
+            for (String[] row : rows) {
+                reportRenderer.addRow(table, row);
+            }
+
+            report.add(table);
+        }
+    }
+
+    private Paragraph createParagraph(String content, Integer fontSize) {
+        var fontStyle = FontFactory.getFont(FontFactory.defaultEncoding);
+        fontStyle.setSize(fontSize);
+        var paragraph = new Paragraph(content, fontStyle);
+        paragraph.setAlignment(ALIGN_CENTER);
+        return paragraph;
+    }
+}
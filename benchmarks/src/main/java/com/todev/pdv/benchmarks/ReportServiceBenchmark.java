@@ -0,0 +1,103 @@
+package com.todev.pdv.benchmarks;
+
+import com.todev.pdv.common.dtos.SaleReportLine;
+import com.todev.pdv.common.reports.impl.ReceiptRendererImpl;
+import com.todev.pdv.common.reports.impl.ReportRendererImpl;
+import com.todev.pdv.core.models.Money;
+import com.todev.pdv.core.models.Product;
+import com.todev.pdv.core.providers.contracts.ProductProvider;
+import com.todev.pdv.core.providers.contracts.SaleItemProvider;
+import com.todev.pdv.core.providers.contracts.SaleProvider;
+import com.todev.pdv.core.providers.contracts.SaleRollupProvider;
+import com.todev.pdv.core.providers.contracts.UserProvider;
+import com.todev.pdv.core.services.impl.ReportServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportServiceBenchmark {
+    private static final LocalDate START = LocalDate.of(2024, 6, 1);
+
+    @Param({"20", "2000"})
+    private int rows;
+
+    private ReportServiceImpl reportService;
+
+    @Setup
+    public void setUp() {
+        var saleProvider = mock(SaleProvider.class, withSettings().stubOnly());
+        var saleItemProvider = mock(SaleItemProvider.class, withSettings().stubOnly());
+        var productProvider = mock(ProductProvider.class, withSettings().stubOnly());
+        var userProvider = mock(UserProvider.class, withSettings().stubOnly());
+        var saleRollupProvider = mock(SaleRollupProvider.class, withSettings().stubOnly());
+        var products = SyntheticData.products(rows);
+        var lines = SyntheticData.saleReportLines(rows);
+        var sellers = SyntheticData.sellerTotals(rows);
+
+        when(saleProvider.findById(anyInt())).thenReturn(SyntheticData.sale());
+        when(saleItemProvider.findBySaleId(anyInt())).thenReturn(SyntheticData.saleItems(rows));
+        when(productProvider.findById(anyInt())).thenAnswer(invocation -> products.get(invocation.<Integer>getArgument(0) - 1));
+        when(productProvider.findActiveAfter(anyInt(), anyInt()))
+                .thenAnswer(invocation -> productsAfter(products, invocation.getArgument(0), invocation.getArgument(1)));
+        when(userProvider.findActiveById(anyInt())).thenReturn(SyntheticData.seller());
+        when(saleRollupProvider.sumNetByUserAndDay(anyInt(), any(), any())).thenReturn(Money.ofCents(1575000L));
+        when(saleRollupProvider.findSellerTotals(any(), any())).thenReturn(sellers);
+        doAnswer(invocation -> {
+            Consumer<SaleReportLine> consumer = invocation.getArgument(2);
+            lines.forEach(consumer);
+            return null;
+        }).when(saleProvider).findActiveLinesByDate(any(), any(), any());
+
+        reportService = new ReportServiceImpl(saleProvider,
+                saleItemProvider,
+                productProvider,
+                userProvider,
+                saleRollupProvider,
+                new ReportRendererImpl(),
+                new ReceiptRendererImpl(48));
+    }
+
+    @Benchmark
+    public void saleReport() {
+        reportService.saleReport(1, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void salesReportByDate() {
+        reportService.salesReportByDate(START.atStartOfDay(), OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void goodsReport() {
+        reportService.goodsReport(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void performanceReport() {
+        reportService.performanceReport(1, START.atStartOfDay(), OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void leaderboardReport() {
+        reportService.leaderboardReport(START, START.plusMonths(1), OutputStream.nullOutputStream());
+    }
+
+    private List<Product> productsAfter(List<Product> products, int id, int limit) {
+        var from = Math.min(id, products.size());
+        return products.subList(from, Math.min(from + limit, products.size()));
+    }
+}
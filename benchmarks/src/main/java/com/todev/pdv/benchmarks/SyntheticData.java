@@ -0,0 +1,90 @@
+package com.todev.pdv.benchmarks;
+
+import com.todev.pdv.common.dtos.SaleItemRequest;
+import com.todev.pdv.common.dtos.SaleReportLine;
+import com.todev.pdv.common.dtos.SaleRequest;
+import com.todev.pdv.common.dtos.SellerTotal;
+import com.todev.pdv.core.enums.PaymentMethod;
+import com.todev.pdv.core.enums.Role;
+import com.todev.pdv.core.models.Money;
+import com.todev.pdv.core.models.Product;
+import com.todev.pdv.core.models.Sale;
+import com.todev.pdv.core.models.SaleItem;
+import com.todev.pdv.core.models.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class SyntheticData {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 6, 1, 10, 30);
+    private static final PaymentMethod[] PAYMENT_METHODS = PaymentMethod.values();
+
+    private SyntheticData() {
+    }
+
+    static User seller() {
+        return new User(1, "Vendedor", "vendedor", "senha", Role.SELLER, CREATED_AT, null);
+    }
+
+    static Sale sale() {
+        return new Sale(1, 1, PaymentMethod.CARD, 10, Money.ofCents(175090L), CREATED_AT, null);
+    }
+
+    static Product product(int id) {
+        return new Product(id, "Produto " + id, 1000, Money.ofCents(990L + id % 100 * 50), CREATED_AT, null, 0);
+    }
+
+    static List<Product> products(int count) {
+        var products = new ArrayList<Product>(count);
+
+        for (int id = 1; id <= count; id++) {
+            products.add(product(id));
+        }
+
+        return products;
+    }
+
+    static List<SaleItem> saleItems(int count) {
+        var items = new ArrayList<SaleItem>(count);
+
+        for (int id = 1; id <= count; id++) {
+            items.add(new SaleItem(id, 1, id, id % 5 + 1, product(id).getPrice(), CREATED_AT, null));
+        }
+
+        return items;
+    }
+
+    static SaleRequest saleRequest(int items) {
+        var requestItems = new ArrayList<SaleItemRequest>(items);
+
+        for (int id = 1; id <= items; id++) {
+            requestItems.add(new SaleItemRequest(id, id % 5 + 1));
+        }
+
+        return new SaleRequest(PaymentMethod.CARD.name(), 10, requestItems);
+    }
+
+    static List<SaleReportLine> saleReportLines(int count) {
+        var lines = new ArrayList<SaleReportLine>(count);
+
+        for (int i = 0; i < count; i++) {
+            lines.add(new SaleReportLine("Vendedor " + i % 10,
+                    1990L + i * 7L,
+                    PAYMENT_METHODS[i % PAYMENT_METHODS.length],
+                    CREATED_AT.plusMinutes(i)));
+        }
+
+        return lines;
+    }
+
+    static List<SellerTotal> sellerTotals(int count) {
+        var sellers = new ArrayList<SellerTotal>(count);
+
+        for (int id = 1; id <= count; id++) {
+            sellers.add(new SellerTotal(id, "Vendedor " + id, id * 3, id * 15000L, id * 14000L));
+        }
+
+        return sellers;
+    }
+}
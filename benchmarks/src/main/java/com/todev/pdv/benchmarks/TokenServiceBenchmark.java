@@ -0,0 +1,41 @@
+package com.todev.pdv.benchmarks;
+
+import com.todev.pdv.security.services.impl.TokenServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenServiceBenchmark {
+    private final TokenServiceImpl tokenService = new TokenServiceImpl();
+    private String token;
+
+    @Setup
+    public void setUp() {
+        setField("secret", "benchmark-secret");
+        setField("expiration", 3600000);
+        token = "Bearer " + tokenService.createToken("vendedor");
+    }
+
+    @Benchmark
+    public String sign() {
+        return tokenService.createToken("vendedor");
+    }
+
+    @Benchmark
+    public String verify() {
+        return tokenService.validateToken(token);
+    }
+
+    private void setField(String name, Object value) {
+        var field = ReflectionUtils.findField(TokenServiceImpl.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, tokenService, value);
+    }
+}
@@ -0,0 +1,99 @@
+package com.todev.pdv.common.collections;
+
+public final class IntHashSet {
+    private static final float LOAD_FACTOR = 0.5f;
+    private int[] keys;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+
+    public IntHashSet() {
+        this(16);
+    }
+
+    public IntHashSet(int expectedSize) {
+        var capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        keys = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    public boolean add(int key) {
+        if (key == 0) {
+            if (containsZero) {
+                return false;
+            }
+
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        var index = indexOf(key);
+
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                return false;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        size++;
+
+        if (size > keys.length * LOAD_FACTOR) {
+            grow();
+        }
+
+        return true;
+    }
+
+    public boolean contains(int key) {
+        if (key == 0) {
+            return containsZero;
+        }
+
+        var index = indexOf(key);
+
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                return true;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void grow() {
+        var oldKeys = keys;
+        keys = new int[oldKeys.length << 1];
+        mask = keys.length - 1;
+
+        for (int key : oldKeys) {
+            if (key != 0) {
+                var index = indexOf(key);
+
+                while (keys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+
+                keys[index] = key;
+            }
+        }
+    }
+
+    private int indexOf(int key) {
+        var hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,17 @@
+package com.todev.pdv.common.config;
+
+import com.todev.pdv.common.converters.MoneyReadingConverter;
+import com.todev.pdv.common.converters.MoneyWritingConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jdbc.repository.config.AbstractJdbcConfiguration;
+
+import java.util.List;
+
+@Configuration
+public class JdbcConfig extends AbstractJdbcConfiguration {
+
+    @Override
+    protected List<?> userConverters() {
+        return List.of(new MoneyReadingConverter(), new MoneyWritingConverter());
+    }
+}
@@ -0,0 +1,26 @@
+package com.todev.pdv.common.constraints.contracts;
+
+
+import com.todev.pdv.common.constraints.impl.ReportTypeValidator;
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+@Documented
+@Retention(RUNTIME)
+@Target(FIELD)
+@Constraint(validatedBy = ReportTypeValidator.class)
+public @interface ReportType {
+
+    String message() default "O tipo de relatório é inválido!";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,23 @@
+package com.todev.pdv.common.constraints.impl;
+
+import com.todev.pdv.common.constraints.contracts.ReportType;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class ReportTypeValidator implements ConstraintValidator<ReportType, String> {
+
+    @Override
+    public void initialize(ReportType constraintAnnotation) {
+        ConstraintValidator.super.initialize(constraintAnnotation);
+    }
+
+    @Override
+    public boolean isValid(String reportType, ConstraintValidatorContext context) {
+        if (reportType == null) return false;
+
+        return switch (reportType) {
+            case "SALE", "SALES_BY_DATE", "GOODS", "PERFORMANCE" -> true;
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package com.todev.pdv.common.converters;
+
+import com.todev.pdv.core.models.Money;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+@ReadingConverter
+public class MoneyReadingConverter implements Converter<Long, Money> {
+
+    @Override
+    public Money convert(Long source) {
+        return Money.ofCents(source);
+    }
+}
@@ -0,0 +1,14 @@
+package com.todev.pdv.common.converters;
+
+import com.todev.pdv.core.models.Money;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.WritingConverter;
+
+@WritingConverter
+public class MoneyWritingConverter implements Converter<Money, Long> {
+
+    @Override
+    public Long convert(Money source) {
+        return source.cents();
+    }
+}
@@ -0,0 +1,4 @@
+package com.todev.pdv.common.dtos;
+
+public record CachedReport(byte[] content, String etag) {
+}
@@ -0,0 +1,8 @@
+package com.todev.pdv.common.dtos;
+
+import java.util.List;
+
+public record CursorPage<T>(List<T> content,
+                            Integer size,
+                            String next) {
+}
@@ -0,0 +1,10 @@
+package com.todev.pdv.common.dtos;
+
+public record LeaderboardResponse(Integer position,
+                                  Integer userId,
+                                  String name,
+                                  Integer sales,
+                                  Double gross,
+                                  Double net,
+                                  Double averageTicket) {
+}
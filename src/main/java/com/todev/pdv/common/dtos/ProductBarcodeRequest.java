@@ -0,0 +1,10 @@
+package com.todev.pdv.common.dtos;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+public record ProductBarcodeRequest(
+        @NotBlank(message = "O código de barras não pode ser nulo!")
+        @Pattern(regexp = "[0-9A-Za-z-]{1,64}", message = "O código de barras deve ter até 64 letras, números ou hífens!")
+        String code) {
+}
@@ -0,0 +1,8 @@
+package com.todev.pdv.common.dtos;
+
+import java.time.LocalDateTime;
+
+public record ProductBarcodeResponse(Integer productId,
+                                     String code,
+                                     LocalDateTime createdAt) {
+}
@@ -0,0 +1,16 @@
+package com.todev.pdv.common.dtos;
+
+import com.todev.pdv.common.constraints.contracts.ReportType;
+
+import java.time.LocalDateTime;
+
+public record ReportJobRequest(
+        @ReportType
+        String type,
+
+        Integer saleId,
+
+        Integer userId,
+
+        LocalDateTime date) {
+}
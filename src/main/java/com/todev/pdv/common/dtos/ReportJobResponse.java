@@ -0,0 +1,10 @@
+package com.todev.pdv.common.dtos;
+
+import com.todev.pdv.core.enums.ReportType;
+import com.todev.pdv.core.enums.TicketStatus;
+
+public record ReportJobResponse(String job,
+                                ReportType type,
+                                TicketStatus status,
+                                String message) {
+}
@@ -0,0 +1,17 @@
+package com.todev.pdv.common.dtos;
+
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record SaleBulkRequest(
+        @Size(message = "A operação deve conter no máximo mil vendas!", max = 1000)
+        List<Integer> ids,
+
+        Integer userId,
+
+        LocalDateTime start,
+
+        LocalDateTime end) {
+}
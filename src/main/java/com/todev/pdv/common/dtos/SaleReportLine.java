@@ -0,0 +1,11 @@
+package com.todev.pdv.common.dtos;
+
+import com.todev.pdv.core.enums.PaymentMethod;
+
+import java.time.LocalDateTime;
+
+public record SaleReportLine(String sellerName,
+                             long total,
+                             PaymentMethod paymentMethod,
+                             LocalDateTime createdAt) {
+}
@@ -7,6 +7,11 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
 import java.util.List;
 
 public record SaleRequest(
@@ -22,4 +27,21 @@ public record SaleRequest(
         @NotEmpty(message = "A venda deve conter ao menos um item!")
         @Valid
         List<SaleItemRequest> items) {
+
+    public String digest() {
+        var canonical = new StringBuilder()
+                .append(paymentMethod).append(';')
+                .append(discount).append(';');
+
+        items.stream()
+                .sorted(Comparator.comparing(SaleItemRequest::productId, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .forEach(item -> canonical.append(item.productId()).append(':').append(item.amount()).append(','));
+
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
 }
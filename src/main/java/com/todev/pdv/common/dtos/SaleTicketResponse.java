@@ -0,0 +1,9 @@
+package com.todev.pdv.common.dtos;
+
+import com.todev.pdv.core.enums.TicketStatus;
+
+public record SaleTicketResponse(String ticket,
+                                 TicketStatus status,
+                                 SaleResponse sale,
+                                 String message) {
+}
@@ -0,0 +1,8 @@
+package com.todev.pdv.common.dtos;
+
+public record SellerTotal(Integer userId,
+                          String name,
+                          int sales,
+                          long gross,
+                          long net) {
+}
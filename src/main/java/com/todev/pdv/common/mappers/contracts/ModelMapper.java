@@ -2,6 +2,7 @@ package com.todev.pdv.common.mappers.contracts;
 
 import com.todev.pdv.common.dtos.*;
 import com.todev.pdv.core.models.Product;
+import com.todev.pdv.core.models.ProductBarcode;
 import com.todev.pdv.core.models.Sale;
 import com.todev.pdv.core.models.SaleItem;
 import com.todev.pdv.core.models.User;
@@ -17,12 +18,14 @@ public interface ModelMapper {
 
     ProductResponse toDTO(Product product);
 
+    ProductBarcode toModel(ProductBarcodeRequest productBarcodeRequest);
+
+    ProductBarcodeResponse toDTO(ProductBarcode productBarcode);
+
     Sale toModel(SaleRequest saleRequest);
 
     SaleResponse toDTO(Sale sale);
 
-    SaleDetailsResponse toDTO(User user, List<SaleItem> items, List<Product> products);
-
     SaleReportResponse toDTO(Integer discount, Double total, Double totalWithDiscount, List<SaleItem> items, List<Product> products);
 
     SaleItem toModel(SaleItemRequest saleItemRequest);
@@ -4,7 +4,9 @@ import com.todev.pdv.common.dtos.*;
 import com.todev.pdv.common.mappers.contracts.ModelMapper;
 import com.todev.pdv.core.enums.PaymentMethod;
 import com.todev.pdv.core.enums.Role;
+import com.todev.pdv.core.models.Money;
 import com.todev.pdv.core.models.Product;
+import com.todev.pdv.core.models.ProductBarcode;
 import com.todev.pdv.core.models.Sale;
 import com.todev.pdv.core.models.SaleItem;
 import com.todev.pdv.core.models.User;
@@ -46,7 +48,8 @@ public class ModelMapperImpl implements ModelMapper {
                 null,
                 productRequest.description(),
                 productRequest.amount(),
-                productRequest.price(),
+                Money.of(productRequest.price()),
+                null,
                 null,
                 null
         );
@@ -58,12 +61,31 @@ public class ModelMapperImpl implements ModelMapper {
                 product.getId(),
                 product.getDescription(),
                 product.getAmount(),
-                product.getPrice(),
+                product.getPrice().toDouble(),
                 product.getCreatedAt(),
                 product.getDeletedAt()
         );
     }
 
+    @Override
+    public ProductBarcode toModel(ProductBarcodeRequest productBarcodeRequest) {
+        return new ProductBarcode(
+                null,
+                null,
+                productBarcodeRequest.code(),
+                null
+        );
+    }
+
+    @Override
+    public ProductBarcodeResponse toDTO(ProductBarcode productBarcode) {
+        return new ProductBarcodeResponse(
+                productBarcode.getProductId(),
+                productBarcode.getCode(),
+                productBarcode.getCreatedAt()
+        );
+    }
+
     @Override
     public Sale toModel(SaleRequest saleRequest) {
         return new Sale(
@@ -83,26 +105,12 @@ public class ModelMapperImpl implements ModelMapper {
                 sale.getId(),
                 sale.getPaymentMethod(),
                 sale.getDiscount(),
-                sale.getTotal(),
+                sale.getTotal().toDouble(),
                 sale.getCreatedAt(),
                 sale.getDeletedAt()
         );
     }
 
-    @Override
-    public SaleDetailsResponse toDTO(User user, List<SaleItem> items, List<Product> products) {
-        var responseItems = new ArrayList<SaleItemResponse>();
-
-        for (int i = 0; i < items.size(); i++) {
-            responseItems.add(toDTO(items.get(i), products.get(i)));
-        }
-
-        return new SaleDetailsResponse(
-                user.getName(),
-                responseItems
-        );
-    }
-
     @Override
     public SaleReportResponse toDTO(Integer discount, Double total, Double totalWithDiscount, List<SaleItem> items, List<Product> products) {
         var responseItems = new ArrayList<SaleItemResponse>();
@@ -138,7 +146,7 @@ public class ModelMapperImpl implements ModelMapper {
                 item.getProductId(),
                 product.getDescription(),
                 item.getAmount(),
-                item.getPrice()
+                item.getPrice().toDouble()
         );
     }
 }
@@ -0,0 +1,18 @@
+package com.todev.pdv.common.paginators.contracts;
+
+import com.todev.pdv.common.dtos.CursorPage;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+public interface CursorPaginator {
+    <T, R> CursorPage<R> page(String cursor,
+                              Integer size,
+                              Integer origin,
+                              BiFunction<Integer, Integer, List<T>> query,
+                              Function<T, Integer> idOf,
+                              Function<T, R> mapper);
+
+    <R> CursorPage<R> page(String cursor, Integer size, List<Integer> ids, Function<List<Integer>, List<R>> loader);
+}
@@ -0,0 +1,84 @@
+package com.todev.pdv.common.paginators.impl;
+
+import com.todev.pdv.common.dtos.CursorPage;
+import com.todev.pdv.common.paginators.contracts.CursorPaginator;
+import com.todev.pdv.core.exceptions.InvalidPayloadException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+@Component
+public class CursorPaginatorImpl implements CursorPaginator {
+    private static final String PREFIX = "id:";
+    private static final String POSITION_PREFIX = "pos:";
+    private final int defaultSize;
+    private final int maxSize;
+
+    public CursorPaginatorImpl(@Value("${pdv.pagination.default-size:20}") Integer defaultSize,
+                               @Value("${pdv.pagination.max-size:100}") Integer maxSize) {
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public <T, R> CursorPage<R> page(String cursor,
+                                     Integer size,
+                                     Integer origin,
+                                     BiFunction<Integer, Integer, List<T>> query,
+                                     Function<T, Integer> idOf,
+                                     Function<T, R> mapper) {
+        var limit = limitOf(size);
+        var id = cursor == null || cursor.isBlank() ? origin : decode(cursor, PREFIX);
+        var rows = query.apply(id, limit + 1);
+        var content = rows.stream().limit(limit).map(mapper).toList();
+        var next = rows.size() > limit ? encode(PREFIX, idOf.apply(rows.get(limit - 1))) : null;
+        return new CursorPage<>(content, limit, next);
+    }
+
+    @Override
+    public <R> CursorPage<R> page(String cursor, Integer size, List<Integer> ids, Function<List<Integer>, List<R>> loader) {
+        var limit = limitOf(size);
+        var position = cursor == null || cursor.isBlank() ? 0 : decode(cursor, POSITION_PREFIX);
+        var from = Math.min(position, ids.size());
+        var to = Math.min(from + limit, ids.size());
+        var content = from < to ? loader.apply(ids.subList(from, to)) : List.<R>of();
+        var next = to < ids.size() ? encode(POSITION_PREFIX, to) : null;
+        return new CursorPage<>(content, limit, next);
+    }
+
+    private int limitOf(Integer size) {
+        return size == null ? defaultSize : Math.max(1, Math.min(size, maxSize));
+    }
+
+    private String encode(String prefix, Integer value) {
+        var token = prefix + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Integer decode(String cursor, String prefix) {
+        try {
+            var token = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+            if (!token.startsWith(prefix)) {
+                throw new IllegalArgumentException(token);
+            }
+
+            var value = Integer.valueOf(token.substring(prefix.length()));
+
+            if (value < 0) {
+                throw new IllegalArgumentException(token);
+            }
+
+            return value;
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidPayloadException("Os argumentos recebidos são inválidos ou estão ausentes!",
+                    Set.of("O cursor informado é inválido!"));
+        }
+    }
+}
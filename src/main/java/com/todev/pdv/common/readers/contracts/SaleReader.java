@@ -0,0 +1,20 @@
+package com.todev.pdv.common.readers.contracts;
+
+import com.todev.pdv.common.dtos.SaleItemRequest;
+import com.todev.pdv.common.dtos.SaleRequest;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+
+public interface SaleReader {
+    SaleStream open(InputStream inputStream);
+
+    interface SaleStream extends Iterator<List<SaleItemRequest>>, Closeable {
+        SaleRequest header();
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,185 @@
+package com.todev.pdv.common.readers.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todev.pdv.common.dtos.SaleItemRequest;
+import com.todev.pdv.common.dtos.SaleRequest;
+import com.todev.pdv.common.readers.contracts.SaleReader;
+import com.todev.pdv.core.exceptions.InvalidPayloadException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.fasterxml.jackson.core.JsonToken.*;
+
+@Component
+public class SaleReaderImpl implements SaleReader {
+    private static final String INVALID_ARGUMENTS = "Os argumentos recebidos são inválidos ou estão ausentes!";
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final Integer chunkSize;
+
+    public SaleReaderImpl(ObjectMapper objectMapper,
+                          Validator validator,
+                          @Value("${pdv.sale.wholesale.chunk-size:1000}") Integer chunkSize) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public SaleStream open(InputStream inputStream) {
+        try {
+            var parser = objectMapper.getFactory().createParser(inputStream);
+            return new JsonSaleStream(parser, readHeader(parser));
+        } catch (IOException exception) {
+            throw translate(exception);
+        }
+    }
+
+    private SaleRequest readHeader(JsonParser parser) throws IOException {
+        if (parser.nextToken() != START_OBJECT) {
+            throw new InvalidPayloadException(INVALID_ARGUMENTS, Set.of("A venda deve ser um objeto JSON!"));
+        }
+
+        String paymentMethod = null;
+        Integer discount = null;
+
+        while (parser.nextToken() == FIELD_NAME) {
+            var field = parser.currentName();
+            var token = parser.nextToken();
+
+            switch (field) {
+                case "paymentMethod" -> paymentMethod = objectMapper.readValue(parser, String.class);
+                case "discount" -> discount = objectMapper.readValue(parser, Integer.class);
+                case "items" -> {
+                    if (token != START_ARRAY) {
+                        throw new InvalidPayloadException(INVALID_ARGUMENTS, Set.of("Os itens da venda não podem ser nulos!"));
+                    }
+
+                    var header = new SaleRequest(paymentMethod, discount, List.of());
+                    var violations = new HashSet<ConstraintViolation<SaleRequest>>();
+                    violations.addAll(validator.validateProperty(header, "paymentMethod"));
+                    violations.addAll(validator.validateProperty(header, "discount"));
+                    check(violations);
+                    return header;
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        throw new InvalidPayloadException(INVALID_ARGUMENTS, Set.of("Os itens da venda não podem ser nulos!"));
+    }
+
+    private <T> void check(Set<ConstraintViolation<T>> violations) {
+        if (!violations.isEmpty()) {
+            var details = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.toSet());
+            throw new InvalidPayloadException(INVALID_ARGUMENTS, details);
+        }
+    }
+
+    private RuntimeException translate(IOException exception) {
+        if (exception instanceof JsonProcessingException processingException) {
+            return new InvalidPayloadException(INVALID_ARGUMENTS, Set.of(processingException.getOriginalMessage()));
+        }
+
+        return new UncheckedIOException(exception);
+    }
+
+    private final class JsonSaleStream implements SaleStream {
+        private final JsonParser parser;
+        private final SaleRequest header;
+        private List<SaleItemRequest> chunk;
+        private boolean finished;
+        private boolean empty = true;
+
+        private JsonSaleStream(JsonParser parser, SaleRequest header) {
+            this.parser = parser;
+            this.header = header;
+        }
+
+        @Override
+        public SaleRequest header() {
+            return header;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (chunk == null && !finished) {
+                chunk = readChunk();
+            }
+
+            return chunk != null;
+        }
+
+        @Override
+        public List<SaleItemRequest> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            var items = chunk;
+            chunk = null;
+            return items;
+        }
+
+        @Override
+        public void close() {
+            try {
+                parser.close();
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+        private List<SaleItemRequest> readChunk() {
+            var items = new ArrayList<SaleItemRequest>(chunkSize);
+
+            try {
+                while (items.size() < chunkSize) {
+                    var token = parser.nextToken();
+
+                    if (token == END_ARRAY) {
+                        finished = true;
+                        break;
+                    }
+
+                    if (token != START_OBJECT) {
+                        throw new InvalidPayloadException(INVALID_ARGUMENTS, Set.of("Os itens da venda devem ser objetos JSON!"));
+                    }
+
+                    var item = objectMapper.readValue(parser, SaleItemRequest.class);
+                    check(validator.validate(item));
+                    items.add(item);
+                }
+            } catch (IOException exception) {
+                throw translate(exception);
+            }
+
+            if (items.isEmpty()) {
+                if (empty) {
+                    throw new InvalidPayloadException(INVALID_ARGUMENTS, Set.of("A venda deve conter ao menos um item!"));
+                }
+
+                return null;
+            }
+
+            empty = false;
+            return items;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.todev.pdv.common.reports;
+
+import java.util.List;
+
+public final class StoreHeader {
+    public static final String NAME = "Minha Make";
+    public static final List<String> DETAILS = List.of(
+            "Vitória Park Shopping",
+            "Rua Henrique de Holanda - Nº 3000",
+            "(81) 99451-3987",
+            "CNPJ 35.699.902/000010-42"
+    );
+
+    private StoreHeader() {
+    }
+}
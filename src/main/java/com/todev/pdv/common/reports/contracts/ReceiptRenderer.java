@@ -0,0 +1,11 @@
+package com.todev.pdv.common.reports.contracts;
+
+import com.todev.pdv.common.dtos.SaleDetailsResponse;
+import com.todev.pdv.core.enums.ReceiptFormat;
+import com.todev.pdv.core.models.Sale;
+
+import java.io.OutputStream;
+
+public interface ReceiptRenderer {
+    void render(Sale sale, SaleDetailsResponse details, ReceiptFormat format, OutputStream outputStream);
+}
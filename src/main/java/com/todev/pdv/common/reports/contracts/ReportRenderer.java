@@ -0,0 +1,18 @@
+package com.todev.pdv.common.reports.contracts;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.pdf.PdfPTable;
+
+import java.util.List;
+
+public interface ReportRenderer {
+    void addStoreHeader(Document report);
+
+    void addHeader(Document report, String title);
+
+    void addFooter(Document report, List<String> lines);
+
+    PdfPTable createTable(String... headers);
+
+    void addRow(PdfPTable table, String... values);
+}
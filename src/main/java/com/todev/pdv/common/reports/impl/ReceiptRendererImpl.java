@@ -0,0 +1,185 @@
+package com.todev.pdv.common.reports.impl;
+
+import com.todev.pdv.common.dtos.SaleDetailsResponse;
+import com.todev.pdv.common.dtos.SaleItemResponse;
+import com.todev.pdv.common.reports.StoreHeader;
+import com.todev.pdv.common.reports.contracts.ReceiptRenderer;
+import com.todev.pdv.core.enums.PaymentMethod;
+import com.todev.pdv.core.enums.ReceiptFormat;
+import com.todev.pdv.core.exceptions.FileExportException;
+import com.todev.pdv.core.models.Money;
+import com.todev.pdv.core.models.Sale;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.time.format.DateTimeFormatter;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Component
+public class ReceiptRendererImpl implements ReceiptRenderer {
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yy HH:mm");
+    private static final Charset ESC_POS_CHARSET = Charset.forName("IBM860");
+    private static final String INITIALIZE = "\u001b@";
+    private static final String CODE_PAGE_860 = "\u001bt\u0003";
+    private static final String BOLD_ON = "\u001bE\u0001";
+    private static final String BOLD_OFF = "\u001bE\u0000";
+    private static final String FEED_AND_CUT = "\u001dVB\u0003";
+    private static final int INITIAL_CHARS = 2048;
+    private static final int MAX_POOLED_BYTES = 64 * 1024;
+    private final ThreadLocal<Buffer> buffers = ThreadLocal.withInitial(Buffer::new);
+    private final int width;
+
+    public ReceiptRendererImpl(@Value("${pdv.receipt.width:48}") Integer width) {
+        this.width = width;
+    }
+
+    @Override
+    public void render(Sale sale, SaleDetailsResponse details, ReceiptFormat format, OutputStream outputStream) {
+        var buffer = buffers.get();
+        var text = buffer.text;
+        var escPos = format == ReceiptFormat.ESC_POS;
+        text.setLength(0);
+
+        if (escPos) {
+            text.append(INITIALIZE).append(CODE_PAGE_860).append(BOLD_ON);
+        }
+
+        center(text, StoreHeader.NAME);
+
+        if (escPos) {
+            text.append(BOLD_OFF);
+        }
+
+        StoreHeader.DETAILS.forEach(detail -> center(text, detail));
+        separator(text);
+        pair(text, "Venda: " + sale.getId(), sale.getCreatedAt().format(DATE_FORMATTER));
+        left(text, "Vendedor: " + details.sellerName());
+        separator(text);
+
+        for (SaleItemResponse item : details.items()) {
+            var price = Money.of(item.price()).cents();
+            left(text, item.productDescription());
+            pair(text, "  " + item.amount() + " x " + Money.format(price), Money.format(Money.times(price, item.amount())));
+        }
+
+        separator(text);
+
+        var total = sale.getTotal().cents();
+        var discount = Money.discountOf(total, sale.getDiscount());
+
+        if (discount > 0) {
+            pair(text, "Subtotal:", Money.format(total));
+            pair(text, "Desconto:", Money.format(discount));
+        }
+
+        if (escPos) {
+            text.append(BOLD_ON);
+        }
+
+        pair(text, "Total:", Money.format(total - discount));
+
+        if (escPos) {
+            text.append(BOLD_OFF);
+        }
+
+        pair(text, "Pagamento:", convertPaymentMethod(sale.getPaymentMethod()));
+
+        if (escPos) {
+            text.append(FEED_AND_CUT);
+        }
+
+        write(buffer, escPos ? buffer.escPosEncoder : buffer.textEncoder, outputStream);
+    }
+
+    private void write(Buffer buffer, CharsetEncoder encoder, OutputStream outputStream) {
+        var chars = CharBuffer.wrap(buffer.text);
+        var bytes = buffer.bytes.clear();
+        encoder.reset();
+
+        while (encoder.encode(chars, bytes, true).isOverflow()) {
+            bytes = grow(bytes);
+        }
+
+        while (encoder.flush(bytes).isOverflow()) {
+            bytes = grow(bytes);
+        }
+
+        try {
+            outputStream.write(bytes.array(), 0, bytes.position());
+        } catch (IOException exception) {
+            throw new FileExportException("Não foi possível gerar o cupom da venda!");
+        } finally {
+            buffer.bytes = bytes.capacity() > MAX_POOLED_BYTES ? ByteBuffer.allocate(INITIAL_CHARS * 2) : bytes;
+
+            if (buffer.text.capacity() > MAX_POOLED_BYTES) {
+                buffer.text = new StringBuilder(INITIAL_CHARS);
+            }
+        }
+    }
+
+    private ByteBuffer grow(ByteBuffer bytes) {
+        var larger = ByteBuffer.allocate(bytes.capacity() * 2);
+        return larger.put(bytes.flip());
+    }
+
+    private void center(StringBuilder text, String content) {
+        var value = fit(content);
+        var padding = (width - value.length()) / 2;
+        fill(text, ' ', padding).append(value).append('\n');
+    }
+
+    private void left(StringBuilder text, String content) {
+        text.append(fit(content)).append('\n');
+    }
+
+    private void pair(StringBuilder text, String left, String right) {
+        var available = Math.max(0, width - right.length() - 1);
+        var value = left.length() > available ? left.substring(0, available) : left;
+        fill(text.append(value), ' ', width - value.length() - right.length()).append(right).append('\n');
+    }
+
+    private void separator(StringBuilder text) {
+        fill(text, '-', width).append('\n');
+    }
+
+    private StringBuilder fill(StringBuilder text, char character, int count) {
+        for (int i = 0; i < count; i++) {
+            text.append(character);
+        }
+
+        return text;
+    }
+
+    private String fit(String content) {
+        return content.length() > width ? content.substring(0, width) : content;
+    }
+
+    private String convertPaymentMethod(PaymentMethod paymentMethod) {
+        return switch (paymentMethod) {
+            case PIX -> "PIX";
+            case CARD -> "CARTÃO";
+            case CASH -> "DINHEIRO";
+        };
+    }
+
+    private static final class Buffer {
+        private StringBuilder text = new StringBuilder(INITIAL_CHARS);
+        private ByteBuffer bytes = ByteBuffer.allocate(INITIAL_CHARS * 2);
+        private final CharsetEncoder textEncoder = encoderOf(UTF_8);
+        private final CharsetEncoder escPosEncoder = encoderOf(ESC_POS_CHARSET);
+
+        private static CharsetEncoder encoderOf(Charset charset) {
+            return charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+    }
+}
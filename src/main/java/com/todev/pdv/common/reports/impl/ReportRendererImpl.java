@@ -0,0 +1,83 @@
+package com.todev.pdv.common.reports.impl;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.Font;
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.pdf.PdfPTable;
+import com.todev.pdv.common.reports.StoreHeader;
+import com.todev.pdv.common.reports.contracts.ReportRenderer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.lowagie.text.Element.ALIGN_CENTER;
+
+@Component
+public class ReportRendererImpl implements ReportRenderer {
+    private final Font titleFont = FontFactory.getFont(FontFactory.defaultEncoding, 22, Font.BOLD);
+    private final Font lineFont = FontFactory.getFont(FontFactory.defaultEncoding, 16);
+    private final Font tableHeaderFont = new Font(Font.UNDEFINED, Font.UNDEFINED, Font.BOLD);
+    private final Font tableBodyFont = new Font();
+    private final List<Paragraph> storeHeader;
+
+    public ReportRendererImpl() {
+        var header = new ArrayList<Paragraph>();
+        header.add(createParagraph(StoreHeader.NAME, titleFont));
+        StoreHeader.DETAILS.forEach(detail -> header.add(createParagraph(detail, lineFont)));
+        this.storeHeader = List.copyOf(header);
+    }
+
+    @Override
+    public void addStoreHeader(Document report) {
+        storeHeader.forEach(report::add);
+    }
+
+    @Override
+    public void addHeader(Document report, String title) {
+        report.add(createParagraph(title, titleFont));
+    }
+
+    @Override
+    public void addFooter(Document report, List<String> lines) {
+        for (int i = 0; i < lines.size(); i++) {
+            var paragraph = createParagraph(lines.get(i), lineFont);
+
+            if (i == lines.size() - 1) {
+                paragraph.setSpacingAfter(15);
+            }
+
+            report.add(paragraph);
+        }
+    }
+
+    @Override
+    public PdfPTable createTable(String... headers) {
+        var table = new PdfPTable(headers.length);
+        table.setSpacingBefore(15);
+        table.setSpacingAfter(15);
+        table.getDefaultCell().setBorder(0);
+        table.getDefaultCell().setPadding(6);
+
+        for (String header : headers) {
+            table.addCell(new Phrase(header, tableHeaderFont));
+        }
+
+        return table;
+    }
+
+    @Override
+    public void addRow(PdfPTable table, String... values) {
+        for (String value : values) {
+            table.addCell(new Phrase(value, tableBodyFont));
+        }
+    }
+
+    private Paragraph createParagraph(String content, Font font) {
+        var paragraph = new Paragraph(content, font);
+        paragraph.setAlignment(ALIGN_CENTER);
+        return paragraph;
+    }
+}
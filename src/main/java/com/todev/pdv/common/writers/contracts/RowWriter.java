@@ -0,0 +1,7 @@
+package com.todev.pdv.common.writers.contracts;
+
+public interface RowWriter {
+    void write(Object... values);
+
+    void flush();
+}
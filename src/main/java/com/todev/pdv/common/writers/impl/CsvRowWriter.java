@@ -0,0 +1,76 @@
+package com.todev.pdv.common.writers.impl;
+
+import com.todev.pdv.common.writers.contracts.RowWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class CsvRowWriter implements RowWriter {
+    private final Writer writer;
+
+    public CsvRowWriter(OutputStream outputStream, String... columns) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8));
+        write((Object[]) columns);
+    }
+
+    @Override
+    public void write(Object... values) {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+
+                writeValue(values[i]);
+            }
+
+            writer.write("\r\n");
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        var content = value.toString();
+
+        if (!needsQuotes(content)) {
+            writer.write(content);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(content.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private boolean needsQuotes(String content) {
+        for (int i = 0; i < content.length(); i++) {
+            var character = content.charAt(i);
+
+            if (character == ',' || character == '"' || character == '\n' || character == '\r') {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
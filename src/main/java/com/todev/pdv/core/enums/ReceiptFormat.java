@@ -0,0 +1,6 @@
+package com.todev.pdv.core.enums;
+
+public enum ReceiptFormat {
+    TEXT,
+    ESC_POS
+}
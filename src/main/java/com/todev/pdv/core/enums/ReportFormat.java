@@ -0,0 +1,6 @@
+package com.todev.pdv.core.enums;
+
+public enum ReportFormat {
+    CSV,
+    NDJSON
+}
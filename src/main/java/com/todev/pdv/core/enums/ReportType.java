@@ -0,0 +1,8 @@
+package com.todev.pdv.core.enums;
+
+public enum ReportType {
+    SALE,
+    SALES_BY_DATE,
+    GOODS,
+    PERFORMANCE
+}
@@ -0,0 +1,7 @@
+package com.todev.pdv.core.enums;
+
+public enum TicketStatus {
+    PENDING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,13 @@
+package com.todev.pdv.core.exceptions;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+
+@Getter
+@RequiredArgsConstructor
+public class InvalidPayloadException extends RuntimeException {
+    private final String message;
+    private final Set<String> details;
+}
@@ -0,0 +1,10 @@
+package com.todev.pdv.core.exceptions;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class SaleQueueFullException extends RuntimeException {
+    private final String message;
+}
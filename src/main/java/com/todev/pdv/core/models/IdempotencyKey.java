@@ -0,0 +1,25 @@
+package com.todev.pdv.core.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Table(name = "idempotency_keys")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdempotencyKey {
+    @Id
+    private Integer id;
+    private String login;
+    private String idempotencyKey;
+    private String requestHash;
+    private Integer saleId;
+    private LocalDateTime createdAt;
+}
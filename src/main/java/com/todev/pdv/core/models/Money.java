@@ -0,0 +1,45 @@
+package com.todev.pdv.core.models;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public record Money(long cents) implements Comparable<Money> {
+    public static final Money ZERO = new Money(0L);
+
+    public static Money ofCents(long cents) {
+        return new Money(cents);
+    }
+
+    public static Money of(Double value) {
+        if (value == null) {
+            return null;
+        }
+
+        return new Money(BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP).movePointRight(2).longValueExact());
+    }
+
+    public static long times(long cents, int amount) {
+        return Math.multiplyExact(cents, amount);
+    }
+
+    public static long discountOf(long cents, int percent) {
+        return (Math.multiplyExact(cents, percent) + 50) / 100;
+    }
+
+    public static long withDiscount(long cents, int percent) {
+        return cents - discountOf(cents, percent);
+    }
+
+    public static String format(long cents) {
+        return String.format("R$ %.2f", BigDecimal.valueOf(cents, 2));
+    }
+
+    public Double toDouble() {
+        return BigDecimal.valueOf(cents, 2).doubleValue();
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Table;
 
 import java.time.LocalDateTime;
@@ -19,8 +20,9 @@ public class Product {
     private Integer id;
     private String description;
     private Integer amount;
-    private Double price;
+    private Money price;
     private LocalDateTime createdAt;
     private LocalDateTime deletedAt;
-
+    @Version
+    private Integer version;
 }
@@ -0,0 +1,23 @@
+package com.todev.pdv.core.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Table(name = "products_barcodes")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductBarcode {
+    @Id
+    private Integer id;
+    private Integer productId;
+    private String code;
+    private LocalDateTime createdAt;
+}
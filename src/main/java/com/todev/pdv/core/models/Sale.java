@@ -21,7 +21,7 @@ public class Sale {
     private Integer userId;
     private PaymentMethod paymentMethod;
     private Integer discount;
-    private Double total;
+    private Money total;
     private LocalDateTime createdAt;
     private LocalDateTime deletedAt;
 }
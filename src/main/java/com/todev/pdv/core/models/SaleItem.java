@@ -20,7 +20,7 @@ public class SaleItem {
     private Integer saleId;
     private Integer productId;
     private Integer amount;
-    private Double price;
+    private Money price;
     private LocalDateTime createdAt;
     private LocalDateTime deletedAt;
 }
@@ -0,0 +1,14 @@
+package com.todev.pdv.core.providers.contracts;
+
+import com.todev.pdv.core.models.IdempotencyKey;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyKeyProvider {
+    IdempotencyKey save(IdempotencyKey idempotencyKey);
+
+    Optional<IdempotencyKey> findByLoginAndKey(String login, String idempotencyKey);
+
+    int deleteCreatedBefore(LocalDateTime limit);
+}
@@ -0,0 +1,18 @@
+package com.todev.pdv.core.providers.contracts;
+
+import com.todev.pdv.core.models.ProductBarcode;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductBarcodeProvider {
+    ProductBarcode save(ProductBarcode barcode);
+
+    Optional<ProductBarcode> findByCode(String code);
+
+    List<ProductBarcode> findByProductId(Integer productId);
+
+    List<ProductBarcode> findAfter(Integer id, Integer limit);
+
+    void delete(ProductBarcode barcode);
+}
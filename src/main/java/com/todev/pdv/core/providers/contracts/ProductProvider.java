@@ -5,6 +5,9 @@ import com.todev.pdv.core.models.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductProvider {
@@ -25,4 +28,16 @@ public interface ProductProvider {
     Product findById(Integer id);
 
     Optional<Product> findByDescription(String description);
+
+    List<Product> findActiveByIds(Collection<Integer> ids);
+
+    List<Product> findActiveAfter(Integer id, Integer limit);
+
+    List<Product> findInactiveAfter(Integer id, Integer limit);
+
+    List<Product> findActiveByDescriptionContainingAfter(String description, Integer id, Integer limit);
+
+    List<Product> findInactiveByDescriptionContainingAfter(String description, Integer id, Integer limit);
+
+    void decreaseStock(Map<Integer, Integer> amounts);
 }
@@ -2,10 +2,19 @@ package com.todev.pdv.core.providers.contracts;
 
 import com.todev.pdv.core.models.SaleItem;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface SaleItemProvider {
     SaleItem save(SaleItem item);
 
+    void saveAll(List<SaleItem> items);
+
     List<SaleItem> findBySaleId(Integer saleId);
+
+    Map<Integer, Integer> sumAmountsBySaleIds(Collection<Integer> saleIds);
+
+    void updateDeletedAtBySaleIds(Collection<Integer> saleIds, LocalDateTime deletedAt);
 }
@@ -1,11 +1,15 @@
 package com.todev.pdv.core.providers.contracts;
 
+import com.todev.pdv.common.dtos.SaleDetailsResponse;
+import com.todev.pdv.common.dtos.SaleReportLine;
 import com.todev.pdv.core.models.Sale;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface SaleProvider {
     Sale save(Sale sale);
@@ -14,13 +18,31 @@ public interface SaleProvider {
 
     Page<Sale> findInactive(Pageable pageable);
 
+    List<Sale> findActiveBefore(Integer id, Integer limit);
+
+    List<Sale> findInactiveBefore(Integer id, Integer limit);
+
     List<Sale> findActiveByDate(LocalDateTime start, LocalDateTime end);
 
     List<Sale> findInactiveByDate(LocalDateTime start, LocalDateTime end);
 
+    void findActiveLinesByDate(LocalDateTime start, LocalDateTime end, Consumer<SaleReportLine> consumer);
+
     Sale findActiveById(Integer id);
 
     Sale findInactiveById(Integer id);
 
     Sale findById(Integer id);
+
+    SaleDetailsResponse findDetailsById(Integer id);
+
+    List<Integer> lockActiveIds(Collection<Integer> ids);
+
+    List<Integer> lockInactiveIds(Collection<Integer> ids);
+
+    List<Integer> lockActiveIdsByUserAndDate(Integer userId, LocalDateTime start, LocalDateTime end, Integer limit);
+
+    List<Integer> lockInactiveIdsByUserAndDate(Integer userId, LocalDateTime start, LocalDateTime end, Integer limit);
+
+    void updateDeletedAt(Collection<Integer> ids, LocalDateTime deletedAt);
 }
@@ -0,0 +1,25 @@
+package com.todev.pdv.core.providers.contracts;
+
+import com.todev.pdv.common.dtos.SellerTotal;
+import com.todev.pdv.core.models.Money;
+import com.todev.pdv.core.models.Sale;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface SaleRollupProvider {
+    void add(Sale sale);
+
+    void subtract(Sale sale);
+
+    void addBySaleIds(Collection<Integer> saleIds);
+
+    void subtractBySaleIds(Collection<Integer> saleIds);
+
+    Money sumNetByUserAndDay(Integer userId, LocalDate start, LocalDate end);
+
+    List<SellerTotal> findSellerTotals(LocalDate start, LocalDate end);
+
+    void rebuild();
+}
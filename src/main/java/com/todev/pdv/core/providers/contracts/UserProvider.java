@@ -4,6 +4,7 @@ import com.todev.pdv.core.models.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserProvider {
@@ -17,6 +18,14 @@ public interface UserProvider {
 
     Page<User> findInactiveByNameContaining(String name, Pageable pageable);
 
+    List<User> findActiveAfter(Integer id, Integer limit);
+
+    List<User> findInactiveAfter(Integer id, Integer limit);
+
+    List<User> findActiveByNameContainingAfter(String name, Integer id, Integer limit);
+
+    List<User> findInactiveByNameContainingAfter(String name, Integer id, Integer limit);
+
     User findActiveById(Integer id);
 
     User findInactiveById(Integer id);
@@ -0,0 +1,31 @@
+package com.todev.pdv.core.providers.impl;
+
+import com.todev.pdv.core.models.IdempotencyKey;
+import com.todev.pdv.core.providers.contracts.IdempotencyKeyProvider;
+import com.todev.pdv.core.repositories.IdempotencyKeyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class IdempotencyKeyProviderImpl implements IdempotencyKeyProvider {
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Override
+    public IdempotencyKey save(IdempotencyKey idempotencyKey) {
+        return idempotencyKeyRepository.save(idempotencyKey);
+    }
+
+    @Override
+    public Optional<IdempotencyKey> findByLoginAndKey(String login, String idempotencyKey) {
+        return idempotencyKeyRepository.findByLoginAndIdempotencyKey(login, idempotencyKey);
+    }
+
+    @Override
+    public int deleteCreatedBefore(LocalDateTime limit) {
+        return idempotencyKeyRepository.deleteCreatedBefore(limit);
+    }
+}
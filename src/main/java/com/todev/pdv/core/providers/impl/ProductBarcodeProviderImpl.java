@@ -0,0 +1,43 @@
+package com.todev.pdv.core.providers.impl;
+
+import com.todev.pdv.core.models.ProductBarcode;
+import com.todev.pdv.core.providers.contracts.ProductBarcodeProvider;
+import com.todev.pdv.core.repositories.ProductBarcodeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class ProductBarcodeProviderImpl implements ProductBarcodeProvider {
+    private final ProductBarcodeRepository productBarcodeRepository;
+
+    @Override
+    public ProductBarcode save(ProductBarcode barcode) {
+        return productBarcodeRepository.save(barcode);
+    }
+
+    @Override
+    public Optional<ProductBarcode> findByCode(String code) {
+        return productBarcodeRepository.findByCode(code);
+    }
+
+    @Override
+    public List<ProductBarcode> findByProductId(Integer productId) {
+        return productBarcodeRepository.findByProductId(productId);
+    }
+
+    @Override
+    public List<ProductBarcode> findAfter(Integer id, Integer limit) {
+        return productBarcodeRepository.findByIdGreaterThan(id, PageRequest.of(0, limit, Sort.by("id")));
+    }
+
+    @Override
+    public void delete(ProductBarcode barcode) {
+        productBarcodeRepository.delete(barcode);
+    }
+}
@@ -1,21 +1,33 @@
 package com.todev.pdv.core.providers.impl;
 
 import com.todev.pdv.core.exceptions.ModelNotFoundException;
+import com.todev.pdv.core.exceptions.NotEnoughStockException;
 import com.todev.pdv.core.models.Product;
 import com.todev.pdv.core.providers.contracts.ProductProvider;
 import com.todev.pdv.core.repositories.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class ProductProviderImpl implements ProductProvider {
     private final ProductRepository productRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
     private static final String ERROR_MESSAGE = "O produto: %s não foi encontrado!";
+    private static final String DECREASE_STOCK = """
+            UPDATE products SET amount = amount - :amount, version = version + 1
+            WHERE id = :id AND amount >= :amount""";
 
     @Override
     public Product save(Product product) {
@@ -67,4 +79,48 @@ public class ProductProviderImpl implements ProductProvider {
     public Optional<Product> findByDescription(String description) {
         return productRepository.findByDescription(description);
     }
+
+    @Override
+    public List<Product> findActiveByIds(Collection<Integer> ids) {
+        return productRepository.findByIdInAndDeletedAtIsNull(ids);
+    }
+
+    @Override
+    public List<Product> findActiveAfter(Integer id, Integer limit) {
+        return productRepository.findByIdGreaterThanAndDeletedAtIsNull(id, PageRequest.of(0, limit, Sort.by("id")));
+    }
+
+    @Override
+    public List<Product> findInactiveAfter(Integer id, Integer limit) {
+        return productRepository.findByIdGreaterThanAndDeletedAtIsNotNull(id, PageRequest.of(0, limit, Sort.by("id")));
+    }
+
+    @Override
+    public List<Product> findActiveByDescriptionContainingAfter(String description, Integer id, Integer limit) {
+        return productRepository.findByDescriptionContainingAndIdGreaterThanAndDeletedAtIsNull(description, id,
+                PageRequest.of(0, limit, Sort.by("id")));
+    }
+
+    @Override
+    public List<Product> findInactiveByDescriptionContainingAfter(String description, Integer id, Integer limit) {
+        return productRepository.findByDescriptionContainingAndIdGreaterThanAndDeletedAtIsNotNull(description, id,
+                PageRequest.of(0, limit, Sort.by("id")));
+    }
+
+    @Override
+    public void decreaseStock(Map<Integer, Integer> amounts) {
+        var productIds = amounts.keySet().stream().sorted().toList();
+        var batch = productIds.stream()
+                .map(id -> new MapSqlParameterSource()
+                        .addValue("id", id)
+                        .addValue("amount", amounts.get(id)))
+                .toArray(MapSqlParameterSource[]::new);
+        var counts = jdbcTemplate.batchUpdate(DECREASE_STOCK, batch);
+
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                throw new NotEnoughStockException(String.format("O produto: %s não possui estoque suficiente!", productIds.get(i)));
+            }
+        }
+    }
 }
@@ -4,22 +4,57 @@ import com.todev.pdv.core.models.SaleItem;
 import com.todev.pdv.core.providers.contracts.SaleItemProvider;
 import com.todev.pdv.core.repositories.SaleItemRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
 public class SaleItemProviderImpl implements SaleItemProvider {
     private final SaleItemRepository saleItemRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private static final int BATCH_SIZE = 500;
+    private static final String SUM_AMOUNTS = """
+            SELECT product_id, SUM(amount) AS amount FROM sales_items
+            WHERE sale_id IN (:saleIds)
+            GROUP BY product_id""";
 
     @Override
     public SaleItem save(SaleItem item) {
         return saleItemRepository.save(item);
     }
 
+    @Override
+    public void saveAll(List<SaleItem> items) {
+        for (int start = 0; start < items.size(); start += BATCH_SIZE) {
+            saleItemRepository.saveAll(items.subList(start, Math.min(start + BATCH_SIZE, items.size())));
+        }
+    }
+
     @Override
     public List<SaleItem> findBySaleId(Integer saleId) {
         return saleItemRepository.findBySaleId(saleId);
     }
+
+    @Override
+    public Map<Integer, Integer> sumAmountsBySaleIds(Collection<Integer> saleIds) {
+        var amounts = new HashMap<Integer, Integer>();
+
+        jdbcTemplate.query(SUM_AMOUNTS, new MapSqlParameterSource("saleIds", saleIds), resultSet -> {
+            amounts.put(resultSet.getInt("product_id"), resultSet.getInt("amount"));
+        });
+
+        return amounts;
+    }
+
+    @Override
+    public void updateDeletedAtBySaleIds(Collection<Integer> saleIds, LocalDateTime deletedAt) {
+        saleItemRepository.updateDeletedAtBySaleIdIn(saleIds, deletedAt);
+    }
 }
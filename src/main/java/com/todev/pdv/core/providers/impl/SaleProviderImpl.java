@@ -1,22 +1,60 @@
 package com.todev.pdv.core.providers.impl;
 
+import com.todev.pdv.common.dtos.SaleDetailsResponse;
+import com.todev.pdv.common.dtos.SaleItemResponse;
+import com.todev.pdv.common.dtos.SaleReportLine;
+import com.todev.pdv.core.enums.PaymentMethod;
 import com.todev.pdv.core.exceptions.ModelNotFoundException;
+import com.todev.pdv.core.models.Money;
 import com.todev.pdv.core.models.Sale;
 import com.todev.pdv.core.providers.contracts.SaleProvider;
 import com.todev.pdv.core.repositories.SaleRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
 import org.springframework.stereotype.Component;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
+
+import static java.sql.ResultSet.CONCUR_READ_ONLY;
+import static java.sql.ResultSet.TYPE_FORWARD_ONLY;
+import static org.springframework.data.domain.Sort.Direction.DESC;
 
 @Component
 @RequiredArgsConstructor
 public class SaleProviderImpl implements SaleProvider {
     private final SaleRepository saleRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
     private static final String ERROR_MESSAGE = "A venda: %s não foi encontrada!";
+    private static final String DETAILS = """
+            SELECT u.name AS seller_name, si.product_id, p.description, si.amount, si.price
+            FROM sales s
+            INNER JOIN users u ON u.id = s.user_id
+            LEFT JOIN sales_items si ON si.sale_id = s.id
+            LEFT JOIN products p ON p.id = si.product_id
+            WHERE s.id = :id
+            ORDER BY si.id""";
+    private static final String LINES_BY_DATE = """
+            SELECT u.name AS seller_name, s.total - (s.total * s.discount + 50) DIV 100 AS total,
+                   s.payment_method, s.created_at
+            FROM sales s
+            INNER JOIN users u ON u.id = s.user_id
+            WHERE s.created_at BETWEEN :start AND :end AND s.deleted_at IS NULL
+            ORDER BY s.id""";
 
     @Override
     public Sale save(Sale sale) {
@@ -33,6 +71,16 @@ public class SaleProviderImpl implements SaleProvider {
         return saleRepository.findByDeletedAtIsNotNull(pageable);
     }
 
+    @Override
+    public List<Sale> findActiveBefore(Integer id, Integer limit) {
+        return saleRepository.findByIdLessThanAndDeletedAtIsNull(id, PageRequest.of(0, limit, Sort.by(DESC, "id")));
+    }
+
+    @Override
+    public List<Sale> findInactiveBefore(Integer id, Integer limit) {
+        return saleRepository.findByIdLessThanAndDeletedAtIsNotNull(id, PageRequest.of(0, limit, Sort.by(DESC, "id")));
+    }
+
     @Override
     public List<Sale> findActiveByDate(LocalDateTime start, LocalDateTime end) {
         return saleRepository.findByCreatedAtBetweenAndDeletedAtIsNull(start, end);
@@ -43,6 +91,22 @@ public class SaleProviderImpl implements SaleProvider {
         return saleRepository.findByCreatedAtBetweenAndDeletedAtIsNotNull(start, end);
     }
 
+    @Override
+    public void findActiveLinesByDate(LocalDateTime start, LocalDateTime end, Consumer<SaleReportLine> consumer) {
+        var parameters = new MapSqlParameterSource()
+                .addValue("start", start)
+                .addValue("end", end);
+
+        stream(LINES_BY_DATE, parameters, resultSet -> {
+            consumer.accept(new SaleReportLine(
+                    resultSet.getString("seller_name"),
+                    resultSet.getLong("total"),
+                    PaymentMethod.valueOf(resultSet.getString("payment_method")),
+                    resultSet.getObject("created_at", LocalDateTime.class)
+            ));
+        });
+    }
+
     @Override
     public Sale findActiveById(Integer id) {
         return saleRepository
@@ -63,4 +127,83 @@ public class SaleProviderImpl implements SaleProvider {
                 .findById(id)
                 .orElseThrow(() -> new ModelNotFoundException(String.format(ERROR_MESSAGE, id)));
     }
+
+    @Override
+    public List<Integer> lockActiveIds(Collection<Integer> ids) {
+        return idsOf(saleRepository.findByIdInAndDeletedAtIsNullOrderById(ids));
+    }
+
+    @Override
+    public List<Integer> lockInactiveIds(Collection<Integer> ids) {
+        return idsOf(saleRepository.findByIdInAndDeletedAtIsNotNullOrderById(ids));
+    }
+
+    @Override
+    public List<Integer> lockActiveIdsByUserAndDate(Integer userId, LocalDateTime start, LocalDateTime end, Integer limit) {
+        return idsOf(saleRepository.findByUserIdAndCreatedAtBetweenAndDeletedAtIsNullOrderById(userId, start, end,
+                PageRequest.of(0, limit)));
+    }
+
+    @Override
+    public List<Integer> lockInactiveIdsByUserAndDate(Integer userId, LocalDateTime start, LocalDateTime end, Integer limit) {
+        return idsOf(saleRepository.findByUserIdAndCreatedAtBetweenAndDeletedAtIsNotNullOrderById(userId, start, end,
+                PageRequest.of(0, limit)));
+    }
+
+    @Override
+    public void updateDeletedAt(Collection<Integer> ids, LocalDateTime deletedAt) {
+        saleRepository.updateDeletedAtByIdIn(ids, deletedAt);
+    }
+
+    @Override
+    public SaleDetailsResponse findDetailsById(Integer id) {
+        var details = jdbcTemplate.query(DETAILS, new MapSqlParameterSource("id", id), this::toDetails);
+
+        if (details == null) {
+            throw new ModelNotFoundException(String.format(ERROR_MESSAGE, id));
+        }
+
+        return details;
+    }
+
+    private List<Integer> idsOf(List<Sale> sales) {
+        return sales.stream().map(Sale::getId).toList();
+    }
+
+    private SaleDetailsResponse toDetails(ResultSet resultSet) throws SQLException {
+        String sellerName = null;
+        var items = new ArrayList<SaleItemResponse>();
+
+        while (resultSet.next()) {
+            sellerName = resultSet.getString("seller_name");
+            var productId = resultSet.getObject("product_id", Integer.class);
+
+            if (productId != null) {
+                items.add(new SaleItemResponse(
+                        productId,
+                        resultSet.getString("description"),
+                        resultSet.getInt("amount"),
+                        Money.ofCents(resultSet.getLong("price")).toDouble()
+                ));
+            }
+        }
+
+        return sellerName == null ? null : new SaleDetailsResponse(sellerName, items);
+    }
+
+    private void stream(String sql, MapSqlParameterSource parameters, RowCallbackHandler handler) {
+        var parsedSql = NamedParameterUtils.substituteNamedParameters(sql, parameters);
+        var values = NamedParameterUtils.buildValueArray(sql, parameters.getValues());
+
+        jdbcTemplate.getJdbcOperations().query(connection -> {
+            var statement = connection.prepareStatement(parsedSql, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY);
+            statement.setFetchSize(Integer.MIN_VALUE);
+
+            for (int i = 0; i < values.length; i++) {
+                StatementCreatorUtils.setParameterValue(statement, i + 1, SqlTypeValue.TYPE_UNKNOWN, values[i]);
+            }
+
+            return statement;
+        }, handler);
+    }
 }
@@ -0,0 +1,134 @@
+package com.todev.pdv.core.providers.impl;
+
+import com.todev.pdv.common.dtos.SellerTotal;
+import com.todev.pdv.core.models.Money;
+import com.todev.pdv.core.models.Sale;
+import com.todev.pdv.core.providers.contracts.SaleRollupProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class SaleRollupProviderImpl implements SaleRollupProvider {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private static final String MERGE = """
+            ON DUPLICATE KEY UPDATE sales = sales_daily_rollup.sales + delta.sales,
+                                    gross = sales_daily_rollup.gross + delta.gross,
+                                    net = sales_daily_rollup.net + delta.net""";
+    private static final String APPLY = """
+            INSERT INTO sales_daily_rollup (day, user_id, payment_method, sales, gross, net)
+            SELECT * FROM (
+                SELECT :day AS day, :userId AS user_id, :paymentMethod AS payment_method,
+                       :sales AS sales, :gross AS gross, :net AS net
+            ) AS delta
+            """ + MERGE;
+    private static final String APPLY_BY_SALE_IDS = """
+            INSERT INTO sales_daily_rollup (day, user_id, payment_method, sales, gross, net)
+            SELECT * FROM (
+                SELECT DATE(created_at) AS day, user_id, payment_method, :sign * COUNT(*) AS sales,
+                       :sign * SUM(total) AS gross, :sign * SUM(total - (total * discount + 50) DIV 100) AS net
+                FROM sales
+                WHERE id IN (:saleIds)
+                GROUP BY DATE(created_at), user_id, payment_method
+            ) AS delta
+            """ + MERGE;
+    private static final String CLEAR = "DELETE FROM sales_daily_rollup";
+    private static final String REBUILD = """
+            INSERT INTO sales_daily_rollup (day, user_id, payment_method, sales, gross, net)
+            SELECT DATE(created_at), user_id, payment_method, COUNT(*),
+                   SUM(total), SUM(total - (total * discount + 50) DIV 100)
+            FROM sales
+            WHERE deleted_at IS NULL
+            GROUP BY DATE(created_at), user_id, payment_method""";
+    private static final String SUM_NET = """
+            SELECT CAST(COALESCE(SUM(net), 0) AS SIGNED) FROM sales_daily_rollup
+            WHERE user_id = :userId AND day BETWEEN :start AND :end""";
+    private static final String SELLER_TOTALS = """
+            SELECT u.id AS user_id, u.name,
+                   CAST(COALESCE(SUM(r.sales), 0) AS SIGNED) AS sales,
+                   CAST(COALESCE(SUM(r.gross), 0) AS SIGNED) AS gross,
+                   CAST(COALESCE(SUM(r.net), 0) AS SIGNED) AS net
+            FROM users u
+            LEFT JOIN sales_daily_rollup r ON r.user_id = u.id AND r.day BETWEEN :start AND :end
+            WHERE u.deleted_at IS NULL
+            GROUP BY u.id, u.name
+            ORDER BY net DESC, u.id""";
+
+    @Override
+    public void add(Sale sale) {
+        apply(sale, 1);
+    }
+
+    @Override
+    public void subtract(Sale sale) {
+        apply(sale, -1);
+    }
+
+    @Override
+    public void addBySaleIds(Collection<Integer> saleIds) {
+        applyBySaleIds(saleIds, 1);
+    }
+
+    @Override
+    public void subtractBySaleIds(Collection<Integer> saleIds) {
+        applyBySaleIds(saleIds, -1);
+    }
+
+    @Override
+    public Money sumNetByUserAndDay(Integer userId, LocalDate start, LocalDate end) {
+        var parameters = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("start", start)
+                .addValue("end", end);
+
+        return Money.ofCents(jdbcTemplate.queryForObject(SUM_NET, parameters, Long.class));
+    }
+
+    @Override
+    public List<SellerTotal> findSellerTotals(LocalDate start, LocalDate end) {
+        var parameters = new MapSqlParameterSource()
+                .addValue("start", start)
+                .addValue("end", end);
+
+        return jdbcTemplate.query(SELLER_TOTALS, parameters, (resultSet, rowNum) -> new SellerTotal(
+                resultSet.getInt("user_id"),
+                resultSet.getString("name"),
+                resultSet.getInt("sales"),
+                resultSet.getLong("gross"),
+                resultSet.getLong("net")
+        ));
+    }
+
+    @Override
+    public void rebuild() {
+        jdbcTemplate.getJdbcTemplate().update(CLEAR);
+        jdbcTemplate.getJdbcTemplate().update(REBUILD);
+    }
+
+    private void apply(Sale sale, int sign) {
+        var gross = sale.getTotal().cents();
+        var parameters = new MapSqlParameterSource()
+                .addValue("day", sale.getCreatedAt().toLocalDate())
+                .addValue("userId", sale.getUserId())
+                .addValue("paymentMethod", sale.getPaymentMethod().name())
+                .addValue("sales", sign)
+                .addValue("gross", sign * gross)
+                .addValue("net", sign * Money.withDiscount(gross, sale.getDiscount()));
+
+        jdbcTemplate.update(APPLY, parameters);
+    }
+
+    private void applyBySaleIds(Collection<Integer> saleIds, int sign) {
+        var parameters = new MapSqlParameterSource()
+                .addValue("saleIds", saleIds)
+                .addValue("sign", sign);
+
+        jdbcTemplate.update(APPLY_BY_SALE_IDS, parameters);
+    }
+}
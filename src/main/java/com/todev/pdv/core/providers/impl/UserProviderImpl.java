@@ -6,9 +6,12 @@ import com.todev.pdv.core.providers.contracts.UserProvider;
 import com.todev.pdv.core.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -42,6 +45,28 @@ public class UserProviderImpl implements UserProvider {
         return userRepository.findByNameContainingAndDeletedAtIsNotNull(name, pageable);
     }
 
+    @Override
+    public List<User> findActiveAfter(Integer id, Integer limit) {
+        return userRepository.findByIdGreaterThanAndDeletedAtIsNull(id, PageRequest.of(0, limit, Sort.by("id")));
+    }
+
+    @Override
+    public List<User> findInactiveAfter(Integer id, Integer limit) {
+        return userRepository.findByIdGreaterThanAndDeletedAtIsNotNull(id, PageRequest.of(0, limit, Sort.by("id")));
+    }
+
+    @Override
+    public List<User> findActiveByNameContainingAfter(String name, Integer id, Integer limit) {
+        return userRepository.findByNameContainingAndIdGreaterThanAndDeletedAtIsNull(name, id,
+                PageRequest.of(0, limit, Sort.by("id")));
+    }
+
+    @Override
+    public List<User> findInactiveByNameContainingAfter(String name, Integer id, Integer limit) {
+        return userRepository.findByNameContainingAndIdGreaterThanAndDeletedAtIsNotNull(name, id,
+                PageRequest.of(0, limit, Sort.by("id")));
+    }
+
     @Override
     public User findActiveById(Integer id) {
         return userRepository
@@ -0,0 +1,20 @@
+package com.todev.pdv.core.repositories;
+
+import com.todev.pdv.core.models.IdempotencyKey;
+import org.springframework.data.jdbc.repository.query.Modifying;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyKeyRepository extends CrudRepository<IdempotencyKey, Integer> {
+    Optional<IdempotencyKey> findByLoginAndIdempotencyKey(String login, String idempotencyKey);
+
+    @Modifying
+    @Query("DELETE FROM idempotency_keys WHERE created_at < :limit")
+    int deleteCreatedBefore(@Param("limit") LocalDateTime limit);
+}
@@ -0,0 +1,18 @@
+package com.todev.pdv.core.repositories;
+
+import com.todev.pdv.core.models.ProductBarcode;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProductBarcodeRepository extends CrudRepository<ProductBarcode, Integer> {
+    Optional<ProductBarcode> findByCode(String code);
+
+    List<ProductBarcode> findByProductId(Integer productId);
+
+    List<ProductBarcode> findByIdGreaterThan(Integer id, Pageable pageable);
+}
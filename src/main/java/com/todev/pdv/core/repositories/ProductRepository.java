@@ -6,6 +6,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -23,4 +25,14 @@ public interface ProductRepository extends CrudRepository<Product, Integer> {
     Optional<Product> findByIdAndDeletedAtIsNotNull(Integer id);
 
     Optional<Product> findByDescription(String description);
+
+    List<Product> findByIdInAndDeletedAtIsNull(Collection<Integer> ids);
+
+    List<Product> findByIdGreaterThanAndDeletedAtIsNull(Integer id, Pageable pageable);
+
+    List<Product> findByIdGreaterThanAndDeletedAtIsNotNull(Integer id, Pageable pageable);
+
+    List<Product> findByDescriptionContainingAndIdGreaterThanAndDeletedAtIsNull(String description, Integer id, Pageable pageable);
+
+    List<Product> findByDescriptionContainingAndIdGreaterThanAndDeletedAtIsNotNull(String description, Integer id, Pageable pageable);
 }
@@ -1,12 +1,21 @@
 package com.todev.pdv.core.repositories;
 
 import com.todev.pdv.core.models.SaleItem;
+import org.springframework.data.jdbc.repository.query.Modifying;
+import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface SaleItemRepository extends CrudRepository<SaleItem, Integer> {
     List<SaleItem> findBySaleId(Integer saleId);
+
+    @Modifying
+    @Query("UPDATE sales_items SET deleted_at = :deletedAt WHERE sale_id IN (:saleIds)")
+    int updateDeletedAtBySaleIdIn(@Param("saleIds") Collection<Integer> saleIds, @Param("deletedAt") LocalDateTime deletedAt);
 }
@@ -3,10 +3,16 @@ package com.todev.pdv.core.repositories;
 import com.todev.pdv.core.models.Sale;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jdbc.repository.query.Modifying;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.repository.Lock;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +22,10 @@ public interface SaleRepository extends CrudRepository<Sale, Integer> {
 
     Page<Sale> findByDeletedAtIsNotNull(Pageable pageable);
 
+    List<Sale> findByIdLessThanAndDeletedAtIsNull(Integer id, Pageable pageable);
+
+    List<Sale> findByIdLessThanAndDeletedAtIsNotNull(Integer id, Pageable pageable);
+
     List<Sale> findByCreatedAtBetweenAndDeletedAtIsNull(LocalDateTime start, LocalDateTime end);
 
     List<Sale> findByCreatedAtBetweenAndDeletedAtIsNotNull(LocalDateTime start, LocalDateTime end);
@@ -23,4 +33,22 @@ public interface SaleRepository extends CrudRepository<Sale, Integer> {
     Optional<Sale> findByIdAndDeletedAtIsNull(Integer id);
 
     Optional<Sale> findByIdAndDeletedAtIsNotNull(Integer id);
+
+    @Lock(LockMode.PESSIMISTIC_WRITE)
+    List<Sale> findByIdInAndDeletedAtIsNullOrderById(Collection<Integer> ids);
+
+    @Lock(LockMode.PESSIMISTIC_WRITE)
+    List<Sale> findByIdInAndDeletedAtIsNotNullOrderById(Collection<Integer> ids);
+
+    @Lock(LockMode.PESSIMISTIC_WRITE)
+    List<Sale> findByUserIdAndCreatedAtBetweenAndDeletedAtIsNullOrderById(Integer userId, LocalDateTime start, LocalDateTime end,
+                                                                         Pageable pageable);
+
+    @Lock(LockMode.PESSIMISTIC_WRITE)
+    List<Sale> findByUserIdAndCreatedAtBetweenAndDeletedAtIsNotNullOrderById(Integer userId, LocalDateTime start, LocalDateTime end,
+                                                                            Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE sales SET deleted_at = :deletedAt WHERE id IN (:ids)")
+    int updateDeletedAtByIdIn(@Param("ids") Collection<Integer> ids, @Param("deletedAt") LocalDateTime deletedAt);
 }
@@ -6,6 +6,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,6 +20,14 @@ public interface UserRepository extends CrudRepository<User, Integer> {
 
     Page<User> findByNameContainingAndDeletedAtIsNotNull(String name, Pageable pageable);
 
+    List<User> findByIdGreaterThanAndDeletedAtIsNull(Integer id, Pageable pageable);
+
+    List<User> findByIdGreaterThanAndDeletedAtIsNotNull(Integer id, Pageable pageable);
+
+    List<User> findByNameContainingAndIdGreaterThanAndDeletedAtIsNull(String name, Integer id, Pageable pageable);
+
+    List<User> findByNameContainingAndIdGreaterThanAndDeletedAtIsNotNull(String name, Integer id, Pageable pageable);
+
     Optional<User> findByIdAndDeletedAtIsNull(Integer id);
 
     Optional<User> findByIdAndDeletedAtIsNotNull(Integer id);
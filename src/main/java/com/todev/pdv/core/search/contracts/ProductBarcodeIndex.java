@@ -0,0 +1,11 @@
+package com.todev.pdv.core.search.contracts;
+
+import java.util.Optional;
+
+public interface ProductBarcodeIndex {
+    Optional<Integer> find(String code);
+
+    void put(String code, Integer productId);
+
+    void remove(String code);
+}
@@ -0,0 +1,13 @@
+package com.todev.pdv.core.search.contracts;
+
+import java.util.List;
+
+public interface ProductSearchIndex {
+    boolean isReady();
+
+    void index(Integer id, String description);
+
+    void remove(Integer id);
+
+    List<Integer> search(String query);
+}
@@ -0,0 +1,68 @@
+package com.todev.pdv.core.search.impl;
+
+import com.todev.pdv.core.models.ProductBarcode;
+import com.todev.pdv.core.providers.contracts.ProductBarcodeProvider;
+import com.todev.pdv.core.search.contracts.ProductBarcodeIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductBarcodeIndexImpl implements ProductBarcodeIndex {
+    private static final int BATCH_SIZE = 1000;
+    private final ProductBarcodeProvider productBarcodeProvider;
+    private final Map<String, Integer> productIds = new ConcurrentHashMap<>();
+    private final Set<String> removed = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuilding = true;
+        var barcodes = productBarcodeProvider.findAfter(0, BATCH_SIZE);
+
+        while (!barcodes.isEmpty()) {
+            for (ProductBarcode barcode : barcodes) {
+                productIds.compute(barcode.getCode(), (code, productId) ->
+                        productId != null || removed.contains(code) ? productId : barcode.getProductId());
+            }
+
+            barcodes = barcodes.size() < BATCH_SIZE
+                    ? List.of()
+                    : productBarcodeProvider.findAfter(barcodes.get(barcodes.size() - 1).getId(), BATCH_SIZE);
+        }
+
+        rebuilding = false;
+        removed.clear();
+        log.info("Product barcode index rebuilt with {} barcodes", productIds.size());
+    }
+
+    @Override
+    public Optional<Integer> find(String code) {
+        return Optional.ofNullable(productIds.get(code));
+    }
+
+    @Override
+    public void put(String code, Integer productId) {
+        removed.remove(code);
+        productIds.put(code, productId);
+    }
+
+    @Override
+    public void remove(String code) {
+        if (rebuilding) {
+            removed.add(code);
+        }
+
+        productIds.remove(code);
+    }
+}
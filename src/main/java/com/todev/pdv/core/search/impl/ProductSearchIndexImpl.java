@@ -0,0 +1,560 @@
+package com.todev.pdv.core.search.impl;
+
+import com.todev.pdv.core.models.Product;
+import com.todev.pdv.core.providers.contracts.ProductProvider;
+import com.todev.pdv.core.search.contracts.ProductSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Component
+public class ProductSearchIndexImpl implements ProductSearchIndex {
+    private static final int ALPHABET = 37;
+    private static final int TRIGRAMS = ALPHABET * ALPHABET * ALPHABET;
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_TYPOS = 1;
+    private static final int TIERS = 4;
+    private static final int LENGTHS = 256;
+    private final ProductProvider productProvider;
+    private final int maxResults;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int[][] postings = new int[TRIGRAMS][];
+    private final int[] sizes = new int[TRIGRAMS];
+    private final ThreadLocal<short[]> counters = ThreadLocal.withInitial(() -> new short[0]);
+    private final Set<Integer> touched = ConcurrentHashMap.newKeySet();
+    private String[] descriptions = new String[1024];
+    private short[] leads = new short[1024];
+    private short[] lengths = new short[1024];
+    private int indexed;
+    private volatile boolean ready;
+    private volatile boolean rebuilding;
+
+    public ProductSearchIndexImpl(ProductProvider productProvider,
+                                  @Value("${pdv.search.max-results:500}") Integer maxResults) {
+        this.productProvider = productProvider;
+        this.maxResults = maxResults;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuilding = true;
+        var products = productProvider.findActiveAfter(0, BATCH_SIZE);
+
+        while (!products.isEmpty()) {
+            for (Product product : products) {
+                store(product.getId(), normalize(product.getDescription()), true);
+            }
+
+            products = products.size() < BATCH_SIZE
+                    ? List.of()
+                    : productProvider.findActiveAfter(products.get(products.size() - 1).getId(), BATCH_SIZE);
+        }
+
+        rebuilding = false;
+        touched.clear();
+        ready = true;
+        log.info("Product search index rebuilt with {} products", indexed);
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void index(Integer id, String description) {
+        if (rebuilding) {
+            touched.add(id);
+        }
+
+        store(id, normalize(description), false);
+    }
+
+    @Override
+    public void remove(Integer id) {
+        if (rebuilding) {
+            touched.add(id);
+        }
+
+        lock.writeLock().lock();
+
+        try {
+            var previous = id < descriptions.length ? descriptions[id] : null;
+
+            if (previous != null) {
+                trigramsOf(padded(previous)).forEach(trigram -> removePosting(trigram, id));
+                descriptions[id] = null;
+                indexed--;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void store(Integer id, String text, boolean skipTouched) {
+        lock.writeLock().lock();
+
+        try {
+            if (skipTouched && touched.contains(id)) {
+                return;
+            }
+
+            if (id >= descriptions.length) {
+                var capacity = Math.max(id + 1, descriptions.length << 1);
+                descriptions = Arrays.copyOf(descriptions, capacity);
+                leads = Arrays.copyOf(leads, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+            }
+
+            var previous = descriptions[id];
+
+            if (previous != null) {
+                trigramsOf(padded(previous)).forEach(trigram -> removePosting(trigram, id));
+            } else {
+                indexed++;
+            }
+
+            descriptions[id] = text;
+            leads[id] = leadOf(text);
+            lengths[id] = (short) Math.min(text.length(), LENGTHS - 1);
+            trigramsOf(padded(text)).forEach(trigram -> addPosting(trigram, id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Integer> search(String query) {
+        var text = normalize(query);
+
+        if (text.isEmpty() || text.length() >= LENGTHS) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+
+        try {
+            if (text.length() < 3) {
+                return ranked(candidates(wordPrefixTrigramsOf(text), 1, false), text, false);
+            }
+
+            var trigrams = trigramsOf(text).stream().distinct().toList();
+            var matches = ranked(intersection(trigrams), text, false);
+
+            if (!matches.isEmpty()) {
+                return matches;
+            }
+
+            var candidates = candidates(trigrams, Math.max(1, trigrams.size() - 3 * MAX_TYPOS), true);
+            return ranked(withinOneTypo(candidates, text), text, true);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String value) {
+        var decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        var builder = new StringBuilder(decomposed.length());
+        var separated = true;
+
+        for (int i = 0; i < decomposed.length(); i++) {
+            var character = Character.toLowerCase(decomposed.charAt(i));
+
+            if (Character.getType(character) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+
+            if (codeOf(character) > 0) {
+                builder.append(character);
+                separated = false;
+            } else if (!separated) {
+                builder.append(' ');
+                separated = true;
+            }
+        }
+
+        var length = builder.length();
+        return length > 0 && builder.charAt(length - 1) == ' ' ? builder.substring(0, length - 1) : builder.toString();
+    }
+
+    private List<Integer> wordPrefixTrigramsOf(String text) {
+        if (text.length() == 2) {
+            return List.of(trigramOf(' ', text.charAt(0), text.charAt(1)));
+        }
+
+        var trigrams = new ArrayList<Integer>(ALPHABET);
+
+        for (int code = 0; code < ALPHABET; code++) {
+            trigrams.add(trigramOf(' ', text.charAt(0), ' ') + code);
+        }
+
+        return trigrams;
+    }
+
+    private int[] intersection(List<Integer> trigrams) {
+        var lists = trigrams.stream()
+                .sorted((first, second) -> Integer.compare(sizes[first], sizes[second]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        if (sizes[lists[0]] == 0) {
+            return new int[0];
+        }
+
+        var matches = Arrays.copyOf(postings[lists[0]], sizes[lists[0]]);
+        var count = matches.length;
+
+        for (int j = 1; j < lists.length && count > 0; j++) {
+            var list = postings[lists[j]];
+            var size = sizes[lists[j]];
+            var cursor = 0;
+            var kept = 0;
+
+            for (int i = 0; i < count && cursor < size; i++) {
+                var id = matches[i];
+
+                while (cursor < size && list[cursor] < id) {
+                    cursor++;
+                }
+
+                if (cursor < size && list[cursor] == id) {
+                    matches[kept++] = id;
+                }
+            }
+
+            count = kept;
+        }
+
+        return Arrays.copyOf(matches, count);
+    }
+
+    private int[] candidates(List<Integer> trigrams, int threshold, boolean byOverlap) {
+        var counts = counters.get();
+
+        if (counts.length < descriptions.length) {
+            counts = new short[descriptions.length];
+            counters.set(counts);
+        }
+
+        var first = Integer.MAX_VALUE;
+        var last = -1;
+        var matched = 0;
+
+        for (int trigram : trigrams) {
+            var list = postings[trigram];
+
+            for (int i = 0; i < sizes[trigram]; i++) {
+                if (++counts[list[i]] == threshold) {
+                    matched++;
+                }
+            }
+
+            if (sizes[trigram] > 0) {
+                first = Math.min(first, list[0]);
+                last = Math.max(last, list[sizes[trigram] - 1]);
+            }
+        }
+
+        var candidates = new int[matched];
+        var overlaps = byOverlap ? new short[matched] : null;
+        var count = 0;
+
+        for (int id = first; id <= last; id++) {
+            if (counts[id] >= threshold) {
+                if (byOverlap) {
+                    overlaps[count] = counts[id];
+                }
+
+                candidates[count++] = id;
+            }
+
+            counts[id] = 0;
+        }
+
+        return byOverlap ? byOverlap(candidates, overlaps, count, trigrams.size()) : candidates;
+    }
+
+    private int[] byOverlap(int[] candidates, short[] overlaps, int count, int trigrams) {
+        var offsets = new int[trigrams + 2];
+
+        for (int i = 0; i < count; i++) {
+            offsets[trigrams - overlaps[i] + 1]++;
+        }
+
+        for (int i = 1; i < offsets.length; i++) {
+            offsets[i] += offsets[i - 1];
+        }
+
+        var sorted = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            sorted[offsets[trigrams - overlaps[i]]++] = candidates[i];
+        }
+
+        return sorted;
+    }
+
+    private int[] withinOneTypo(int[] candidates, String text) {
+        var columns = new int[3][text.length() + 2];
+        var matches = new int[Math.min(candidates.length, maxResults)];
+        var count = 0;
+
+        for (int i = 0; i < candidates.length && count < matches.length; i++) {
+            var description = descriptions[candidates[i]];
+
+            if (lengths[candidates[i]] >= text.length() - MAX_TYPOS && withinOneTypo(text, description, columns)) {
+                matches[count++] = candidates[i];
+            }
+        }
+
+        Arrays.sort(matches, 0, count);
+        return Arrays.copyOf(matches, count);
+    }
+
+    private List<Integer> ranked(int[] candidates, String text, boolean fuzzy) {
+        var keys = new short[candidates.length];
+        var order = byPotentialKey(candidates, text, fuzzy, keys);
+        var counts = new int[TIERS * LENGTHS];
+        var wordStart = " " + text;
+        var better = 0;
+        var current = 0;
+
+        for (int position = 0; position < order.length; position++) {
+            var i = order[position];
+
+            while (current < keys[i]) {
+                better += counts[current++];
+            }
+
+            if (better >= maxResults) {
+                for (int skipped = position; skipped < order.length; skipped++) {
+                    keys[order[skipped]] = -1;
+                }
+
+                break;
+            }
+
+            if (!fuzzy) {
+                var tier = tierOf(descriptions[candidates[i]], text, wordStart);
+                keys[i] = (short) (tier < 0 ? -1 : tier * LENGTHS + lengths[candidates[i]]);
+            }
+
+            if (keys[i] >= 0) {
+                counts[keys[i]]++;
+            }
+        }
+
+        var offsets = new int[counts.length];
+        var position = 0;
+
+        for (int key = 0; key < counts.length; key++) {
+            offsets[key] = position;
+            position += counts[key];
+        }
+
+        var ranked = new Integer[Math.min(position, maxResults)];
+
+        for (int i = 0; i < candidates.length; i++) {
+            if (keys[i] >= 0 && offsets[keys[i]] < ranked.length) {
+                ranked[offsets[keys[i]]++] = candidates[i];
+            }
+        }
+
+        return Arrays.asList(ranked);
+    }
+
+    private int[] byPotentialKey(int[] candidates, String text, boolean fuzzy, short[] keys) {
+        var lead = leadOf(text);
+        var wordStarts = text.length() > 2 ? trigramOf(' ', text.charAt(0), text.charAt(1)) : -1;
+        var offsets = new int[TIERS * LENGTHS + 1];
+        var cursor = 0;
+
+        for (int i = 0; i < candidates.length; i++) {
+            var id = candidates[i];
+            int tier;
+
+            if (fuzzy) {
+                tier = 3;
+            } else if (text.length() == 1 ? leads[id] / ALPHABET == lead / ALPHABET : leads[id] == lead) {
+                tier = 0;
+            } else if (wordStarts < 0) {
+                tier = 1;
+            } else {
+                while (cursor < sizes[wordStarts] && postings[wordStarts][cursor] < id) {
+                    cursor++;
+                }
+
+                tier = cursor < sizes[wordStarts] && postings[wordStarts][cursor] == id ? 1 : 2;
+            }
+
+            keys[i] = (short) (tier * LENGTHS + lengths[id]);
+            offsets[keys[i] + 1]++;
+        }
+
+        for (int key = 1; key < offsets.length; key++) {
+            offsets[key] += offsets[key - 1];
+        }
+
+        var order = new int[candidates.length];
+
+        for (int i = 0; i < candidates.length; i++) {
+            order[offsets[keys[i]]++] = i;
+        }
+
+        return order;
+    }
+
+    private int tierOf(String description, String text, String wordStart) {
+        if (description.startsWith(text)) {
+            return 0;
+        }
+
+        if (description.contains(wordStart)) {
+            return 1;
+        }
+
+        return description.contains(text) ? 2 : -1;
+    }
+
+    private boolean withinOneTypo(String pattern, String text, int[][] columns) {
+        var size = pattern.length();
+        var ceiling = MAX_TYPOS + 1;
+        var beforePrevious = columns[0];
+        var previous = columns[1];
+        var current = columns[2];
+        var last = Math.min(size, MAX_TYPOS);
+
+        for (int i = 0; i <= size + 1; i++) {
+            previous[i] = Math.min(i, ceiling);
+        }
+
+        for (int j = 1; j <= text.length(); j++) {
+            var rows = Math.min(size, last + 1);
+            current[0] = 0;
+            last = 0;
+
+            for (int i = 1; i <= rows; i++) {
+                var cost = pattern.charAt(i - 1) == text.charAt(j - 1) ? 0 : 1;
+                var distance = Math.min(Math.min(current[i - 1] + 1, previous[i] + 1), previous[i - 1] + cost);
+
+                if (i > 1 && j > 1 && pattern.charAt(i - 1) == text.charAt(j - 2) && pattern.charAt(i - 2) == text.charAt(j - 1)) {
+                    distance = Math.min(distance, beforePrevious[i - 2] + 1);
+                }
+
+                current[i] = Math.min(distance, ceiling);
+
+                if (current[i] <= MAX_TYPOS) {
+                    last = i;
+                }
+            }
+
+            if (last == size) {
+                return true;
+            }
+
+            current[rows + 1] = ceiling;
+            var recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+
+        return false;
+    }
+
+    private void addPosting(int trigram, int id) {
+        var list = postings[trigram];
+        var size = sizes[trigram];
+
+        if (list == null) {
+            list = new int[4];
+        }
+
+        var index = size == 0 || list[size - 1] < id ? -(size + 1) : Arrays.binarySearch(list, 0, size, id);
+
+        if (index >= 0) {
+            return;
+        }
+
+        var position = -(index + 1);
+
+        if (size == list.length) {
+            list = Arrays.copyOf(list, size << 1);
+        }
+
+        System.arraycopy(list, position, list, position + 1, size - position);
+        list[position] = id;
+        postings[trigram] = list;
+        sizes[trigram] = size + 1;
+    }
+
+    private void removePosting(int trigram, int id) {
+        var size = sizes[trigram];
+
+        if (size == 0) {
+            return;
+        }
+
+        var index = Arrays.binarySearch(postings[trigram], 0, size, id);
+
+        if (index < 0) {
+            return;
+        }
+
+        System.arraycopy(postings[trigram], index + 1, postings[trigram], index, size - index - 1);
+        sizes[trigram] = size - 1;
+
+        if (sizes[trigram] == 0) {
+            postings[trigram] = null;
+        }
+    }
+
+    private short leadOf(String text) {
+        if (text.isEmpty()) {
+            return 0;
+        }
+
+        return (short) (codeOf(text.charAt(0)) * ALPHABET + (text.length() > 1 ? codeOf(text.charAt(1)) : 0));
+    }
+
+    private String padded(String text) {
+        return " " + text + " ";
+    }
+
+    private List<Integer> trigramsOf(String text) {
+        var trigrams = new ArrayList<Integer>(Math.max(0, text.length() - 2));
+
+        for (int i = 0; i + 2 < text.length(); i++) {
+            trigrams.add(trigramOf(text.charAt(i), text.charAt(i + 1), text.charAt(i + 2)));
+        }
+
+        return trigrams;
+    }
+
+    private int trigramOf(char first, char second, char third) {
+        return (codeOf(first) * ALPHABET + codeOf(second)) * ALPHABET + codeOf(third);
+    }
+
+    private static int codeOf(char character) {
+        if (character >= 'a' && character <= 'z') {
+            return character - 'a' + 1;
+        }
+
+        if (character >= '0' && character <= '9') {
+            return character - '0' + 27;
+        }
+
+        return 0;
+    }
+}
@@ -0,0 +1,12 @@
+package com.todev.pdv.core.services.contracts;
+
+import com.todev.pdv.common.dtos.SaleRequest;
+import com.todev.pdv.common.dtos.SaleResponse;
+
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+    SaleResponse save(String onlineUser, String idempotencyKey, SaleRequest requestDTO);
+
+    SaleResponse save(String onlineUser, String idempotencyKey, SaleRequest requestDTO, Supplier<SaleResponse> execution);
+}
@@ -1,10 +1,15 @@
 package com.todev.pdv.core.services.contracts;
 
+import com.todev.pdv.common.dtos.CursorPage;
+import com.todev.pdv.common.dtos.ProductBarcodeRequest;
+import com.todev.pdv.common.dtos.ProductBarcodeResponse;
 import com.todev.pdv.common.dtos.ProductRequest;
 import com.todev.pdv.common.dtos.ProductResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface ProductService {
     ProductResponse save(ProductRequest requestDTO);
 
@@ -16,10 +21,26 @@ public interface ProductService {
 
     Page<ProductResponse> findInactiveByDescriptionContaining(String description, Pageable pageable);
 
+    CursorPage<ProductResponse> findActive(String cursor, Integer size);
+
+    CursorPage<ProductResponse> findInactive(String cursor, Integer size);
+
+    CursorPage<ProductResponse> findActiveByDescriptionContaining(String description, String cursor, Integer size);
+
+    CursorPage<ProductResponse> findInactiveByDescriptionContaining(String description, String cursor, Integer size);
+
     ProductResponse findActiveById(Integer id);
 
     ProductResponse findInactiveById(Integer id);
 
+    ProductResponse findActiveByBarcode(String code);
+
+    List<ProductBarcodeResponse> findBarcodes(Integer id);
+
+    ProductBarcodeResponse saveBarcode(Integer id, ProductBarcodeRequest requestDTO);
+
+    void deleteBarcode(Integer id, String code);
+
     ProductResponse update(Integer id, ProductRequest requestDTO);
 
     void delete(Integer id);
@@ -0,0 +1,10 @@
+package com.todev.pdv.core.services.contracts;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+public interface ReportBundleService {
+    Path build(LocalDate day);
+
+    Path findBundle(LocalDate day);
+}
@@ -0,0 +1,16 @@
+package com.todev.pdv.core.services.contracts;
+
+import com.todev.pdv.common.dtos.CachedReport;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface ReportCacheService {
+    boolean isCacheable(LocalDateTime date);
+
+    CachedReport salesReportByDate(LocalDateTime date);
+
+    void evictSalesReport(LocalDate day);
+
+    void evictSalesReports();
+}
@@ -0,0 +1,14 @@
+package com.todev.pdv.core.services.contracts;
+
+import com.todev.pdv.core.enums.ReportFormat;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+public interface ReportExportService {
+    void salesByDate(LocalDateTime date, ReportFormat format, OutputStream outputStream);
+
+    void goods(ReportFormat format, OutputStream outputStream);
+
+    void performance(Integer userId, LocalDateTime start, ReportFormat format, OutputStream outputStream);
+}
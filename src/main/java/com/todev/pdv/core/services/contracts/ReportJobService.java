@@ -0,0 +1,14 @@
+package com.todev.pdv.core.services.contracts;
+
+import com.todev.pdv.common.dtos.ReportJobRequest;
+import com.todev.pdv.common.dtos.ReportJobResponse;
+
+import java.nio.file.Path;
+
+public interface ReportJobService {
+    ReportJobResponse submit(String onlineUser, ReportJobRequest requestDTO);
+
+    ReportJobResponse findJob(String onlineUser, String job);
+
+    Path findFile(String onlineUser, String job);
+}
@@ -1,15 +1,31 @@
 package com.todev.pdv.core.services.contracts;
 
-import jakarta.servlet.http.HttpServletResponse;
+import com.todev.pdv.common.dtos.LeaderboardResponse;
+import com.todev.pdv.common.dtos.SaleReportLine;
+import com.todev.pdv.common.dtos.SellerTotal;
+import com.todev.pdv.core.enums.ReceiptFormat;
 
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public interface ReportService {
-    void saleReport(Integer id, HttpServletResponse response);
+    void saleReport(Integer id, OutputStream outputStream);
 
-    void salesReportByDate(LocalDateTime date, HttpServletResponse response);
+    void saleReceipt(Integer id, ReceiptFormat format, OutputStream outputStream);
 
-    void goodsReport(HttpServletResponse response);
+    void salesReportByDate(LocalDateTime date, OutputStream outputStream);
 
-    void performanceReport(Integer userId, LocalDateTime start, HttpServletResponse response);
+    void salesReport(List<SaleReportLine> lines, OutputStream outputStream);
+
+    void goodsReport(OutputStream outputStream);
+
+    void performanceReport(Integer userId, LocalDateTime start, OutputStream outputStream);
+
+    void performanceReport(SellerTotal seller, LocalDate start, LocalDate end, OutputStream outputStream);
+
+    List<LeaderboardResponse> leaderboard(LocalDate start, LocalDate end);
+
+    void leaderboardReport(LocalDate start, LocalDate end, OutputStream outputStream);
 }
@@ -0,0 +1,15 @@
+package com.todev.pdv.core.services.contracts;
+
+import com.todev.pdv.common.dtos.SaleRequest;
+import com.todev.pdv.common.dtos.SaleTicketResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+public interface SaleIngestionService {
+    boolean isEnabled();
+
+    SaleTicketResponse submit(String onlineUser, String idempotencyKey, SaleRequest requestDTO);
+
+    CompletableFuture<SaleTicketResponse> findTicket(String onlineUser, String ticket, Duration wait);
+}
@@ -1,21 +1,36 @@
 package com.todev.pdv.core.services.contracts;
 
+import com.todev.pdv.common.dtos.CursorPage;
+import com.todev.pdv.common.dtos.SaleBulkRequest;
 import com.todev.pdv.common.dtos.SaleDetailsResponse;
 import com.todev.pdv.common.dtos.SaleRequest;
 import com.todev.pdv.common.dtos.SaleResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 
 public interface SaleService {
     SaleResponse save(String onlineUser, SaleRequest requestDTO);
 
+    SaleResponse save(String onlineUser, String idempotencyKey, SaleRequest requestDTO);
+
+    SaleResponse saveReserved(String onlineUser, SaleRequest requestDTO);
+
+    SaleResponse saveReserved(String onlineUser, String idempotencyKey, SaleRequest requestDTO);
+
+    SaleResponse saveWholesale(String onlineUser, InputStream inputStream);
+
     Page<SaleResponse> findActive(Pageable pageable);
 
     Page<SaleResponse> findInactive(Pageable pageable);
 
+    CursorPage<SaleResponse> findActive(String cursor, Integer size);
+
+    CursorPage<SaleResponse> findInactive(String cursor, Integer size);
+
     List<SaleResponse> findActiveByDate(LocalDateTime date);
 
     List<SaleResponse> findInactiveByDate(LocalDateTime date);
@@ -29,4 +44,10 @@ public interface SaleService {
     void delete(Integer id);
 
     void reactivate(Integer id);
+
+    void deleteAll(SaleBulkRequest requestDTO);
+
+    void reactivateAll(SaleBulkRequest requestDTO);
+
+    void rebuildRollup();
 }
@@ -1,5 +1,6 @@
 package com.todev.pdv.core.services.contracts;
 
+import com.todev.pdv.common.dtos.CursorPage;
 import com.todev.pdv.common.dtos.UserRequest;
 import com.todev.pdv.common.dtos.UserResponse;
 import org.springframework.data.domain.Page;
@@ -16,6 +17,14 @@ public interface UserService {
 
     Page<UserResponse> findInactiveByNameContaining(String name, Pageable pageable);
 
+    CursorPage<UserResponse> findActive(String cursor, Integer size);
+
+    CursorPage<UserResponse> findInactive(String cursor, Integer size);
+
+    CursorPage<UserResponse> findActiveByNameContaining(String name, String cursor, Integer size);
+
+    CursorPage<UserResponse> findInactiveByNameContaining(String name, String cursor, Integer size);
+
     UserResponse findActiveById(Integer id);
 
     UserResponse findInactiveById(Integer id);
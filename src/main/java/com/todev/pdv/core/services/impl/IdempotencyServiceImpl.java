@@ -0,0 +1,152 @@
+package com.todev.pdv.core.services.impl;
+
+import com.todev.pdv.common.dtos.SaleRequest;
+import com.todev.pdv.common.dtos.SaleResponse;
+import com.todev.pdv.common.mappers.contracts.ModelMapper;
+import com.todev.pdv.core.exceptions.ConstraintConflictException;
+import com.todev.pdv.core.providers.contracts.IdempotencyKeyProvider;
+import com.todev.pdv.core.providers.contracts.SaleProvider;
+import com.todev.pdv.core.services.contracts.IdempotencyService;
+import com.todev.pdv.core.services.contracts.SaleService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.relational.core.conversion.DbActionExecutionException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+    private final SaleService saleService;
+    private final SaleProvider saleProvider;
+    private final IdempotencyKeyProvider idempotencyKeyProvider;
+    private final ModelMapper modelMapper;
+    private final Duration ttl;
+    private final Map<String, StoredResponse> responses;
+    private final Map<String, Execution> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyServiceImpl(SaleService saleService,
+                                  SaleProvider saleProvider,
+                                  IdempotencyKeyProvider idempotencyKeyProvider,
+                                  ModelMapper modelMapper,
+                                  @Value("${pdv.idempotency.capacity:10000}") Integer capacity,
+                                  @Value("${pdv.idempotency.ttl:24h}") Duration ttl) {
+        this.saleService = saleService;
+        this.saleProvider = saleProvider;
+        this.idempotencyKeyProvider = idempotencyKeyProvider;
+        this.modelMapper = modelMapper;
+        this.ttl = ttl;
+        this.responses = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > capacity;
+            }
+        });
+    }
+
+    @Override
+    public SaleResponse save(String onlineUser, String idempotencyKey, SaleRequest requestDTO) {
+        return save(onlineUser, idempotencyKey, requestDTO, () -> saleService.save(onlineUser, idempotencyKey, requestDTO));
+    }
+
+    @Override
+    public SaleResponse save(String onlineUser, String idempotencyKey, SaleRequest requestDTO, Supplier<SaleResponse> execution) {
+        var scope = onlineUser + ":" + idempotencyKey;
+        var requestHash = requestDTO.digest();
+        var stored = responses.get(scope);
+
+        if (stored != null && stored.expiresAt().isAfter(LocalDateTime.now())) {
+            checkSameRequest(stored.requestHash(), requestHash);
+            return stored.response();
+        }
+
+        var outcome = new CompletableFuture<SaleResponse>();
+        var running = inFlight.putIfAbsent(scope, new Execution(requestHash, outcome));
+
+        if (running != null) {
+            checkSameRequest(running.requestHash(), requestHash);
+            return await(running.outcome());
+        }
+
+        try {
+            var response = findStored(onlineUser, idempotencyKey, requestHash)
+                    .orElseGet(() -> execute(onlineUser, idempotencyKey, requestHash, execution));
+            responses.put(scope, new StoredResponse(response, requestHash, LocalDateTime.now().plus(ttl)));
+            outcome.complete(response);
+            return response;
+        } catch (RuntimeException exception) {
+            outcome.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            inFlight.remove(scope);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${pdv.idempotency.eviction-interval:600000}")
+    public void evictExpired() {
+        var now = LocalDateTime.now();
+
+        synchronized (responses) {
+            responses.values().removeIf(stored -> stored.expiresAt().isBefore(now));
+        }
+
+        idempotencyKeyProvider.deleteCreatedBefore(now.minus(ttl));
+    }
+
+    private SaleResponse execute(String onlineUser, String idempotencyKey, String requestHash, Supplier<SaleResponse> execution) {
+        try {
+            return execution.get();
+        } catch (DataIntegrityViolationException | DbActionExecutionException exception) {
+            return findStored(onlineUser, idempotencyKey, requestHash).orElseThrow(() -> exception);
+        }
+    }
+
+    private Optional<SaleResponse> findStored(String onlineUser, String idempotencyKey, String requestHash) {
+        var limit = LocalDateTime.now().minus(ttl);
+
+        return idempotencyKeyProvider
+                .findByLoginAndKey(onlineUser, idempotencyKey)
+                .filter(key -> key.getCreatedAt().isAfter(limit))
+                .map(key -> {
+                    if (!key.getRequestHash().isEmpty()) {
+                        checkSameRequest(key.getRequestHash(), requestHash);
+                    }
+
+                    return modelMapper.toDTO(saleProvider.findById(key.getSaleId()));
+                });
+    }
+
+    private void checkSameRequest(String storedHash, String requestHash) {
+        if (!storedHash.equals(requestHash)) {
+            throw new ConstraintConflictException("A chave de idempotência já foi usada em outra venda!");
+        }
+    }
+
+    private SaleResponse await(CompletableFuture<SaleResponse> running) {
+        try {
+            return running.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw exception;
+        }
+    }
+
+    private record StoredResponse(SaleResponse response, String requestHash, LocalDateTime expiresAt) {
+    }
+
+    private record Execution(String requestHash, CompletableFuture<SaleResponse> outcome) {
+    }
+}
@@ -1,24 +1,47 @@
 package com.todev.pdv.core.services.impl;
 
+import com.todev.pdv.common.dtos.CursorPage;
+import com.todev.pdv.common.dtos.ProductBarcodeRequest;
+import com.todev.pdv.common.dtos.ProductBarcodeResponse;
 import com.todev.pdv.common.dtos.ProductRequest;
 import com.todev.pdv.common.dtos.ProductResponse;
 import com.todev.pdv.common.mappers.contracts.ModelMapper;
+import com.todev.pdv.common.paginators.contracts.CursorPaginator;
 import com.todev.pdv.core.exceptions.ConstraintConflictException;
+import com.todev.pdv.core.exceptions.ModelNotFoundException;
+import com.todev.pdv.core.models.Product;
+import com.todev.pdv.core.models.ProductBarcode;
+import com.todev.pdv.core.providers.contracts.ProductBarcodeProvider;
 import com.todev.pdv.core.providers.contracts.ProductProvider;
+import com.todev.pdv.core.search.contracts.ProductBarcodeIndex;
+import com.todev.pdv.core.search.contracts.ProductSearchIndex;
 import com.todev.pdv.core.services.contracts.ProductService;
+import com.todev.pdv.core.strategies.contracts.StockMutationStrategy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 public class ProductServiceImpl implements ProductService {
     private final ProductProvider productProvider;
+    private final ProductBarcodeProvider productBarcodeProvider;
+    private final StockMutationStrategy stockMutationStrategy;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductBarcodeIndex productBarcodeIndex;
+    private final CursorPaginator cursorPaginator;
     private final ModelMapper modelMapper;
+    private static final String BARCODE_NOT_FOUND_MESSAGE = "O código de barras: %s não foi encontrado!";
 
     @Transactional
     @Override
@@ -31,6 +54,7 @@ public class ProductServiceImpl implements ProductService {
 
         product.setCreatedAt(LocalDateTime.now());
         productProvider.save(product);
+        afterCommit(() -> productSearchIndex.index(product.getId(), product.getDescription()));
         return modelMapper.toDTO(product);
     }
 
@@ -48,8 +72,14 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     public Page<ProductResponse> findActiveByDescriptionContaining(String description, Pageable pageable) {
-        var products = productProvider.findActiveByDescriptionContaining(description, pageable);
-        return products.map(modelMapper::toDTO);
+        if (!productSearchIndex.isReady() || description.isBlank()) {
+            var products = productProvider.findActiveByDescriptionContaining(description, pageable);
+            return products.map(modelMapper::toDTO);
+        }
+
+        var ids = productSearchIndex.search(description);
+        var pageIds = pageable.isPaged() ? pageOf(ids, pageable) : ids;
+        return new PageImpl<>(findActiveInOrder(pageIds), pageable, ids.size());
     }
 
     @Override
@@ -58,6 +88,36 @@ public class ProductServiceImpl implements ProductService {
         return products.map(modelMapper::toDTO);
     }
 
+    @Override
+    public CursorPage<ProductResponse> findActive(String cursor, Integer size) {
+        return cursorPaginator.page(cursor, size, 0, productProvider::findActiveAfter, Product::getId, modelMapper::toDTO);
+    }
+
+    @Override
+    public CursorPage<ProductResponse> findInactive(String cursor, Integer size) {
+        return cursorPaginator.page(cursor, size, 0, productProvider::findInactiveAfter, Product::getId, modelMapper::toDTO);
+    }
+
+    @Override
+    public CursorPage<ProductResponse> findActiveByDescriptionContaining(String description, String cursor, Integer size) {
+        if (!productSearchIndex.isReady() || description.isBlank()) {
+            return cursorPaginator.page(cursor, size, 0,
+                    (id, limit) -> productProvider.findActiveByDescriptionContainingAfter(description, id, limit),
+                    Product::getId,
+                    modelMapper::toDTO);
+        }
+
+        return cursorPaginator.page(cursor, size, productSearchIndex.search(description), this::findActiveInOrder);
+    }
+
+    @Override
+    public CursorPage<ProductResponse> findInactiveByDescriptionContaining(String description, String cursor, Integer size) {
+        return cursorPaginator.page(cursor, size, 0,
+                (id, limit) -> productProvider.findInactiveByDescriptionContainingAfter(description, id, limit),
+                Product::getId,
+                modelMapper::toDTO);
+    }
+
     @Override
     public ProductResponse findActiveById(Integer id) {
         var product = productProvider.findActiveById(id);
@@ -70,6 +130,52 @@ public class ProductServiceImpl implements ProductService {
         return modelMapper.toDTO(product);
     }
 
+    @Override
+    public ProductResponse findActiveByBarcode(String code) {
+        var productId = productBarcodeIndex.find(code).orElseGet(() -> productBarcodeProvider
+                .findByCode(code)
+                .map(ProductBarcode::getProductId)
+                .orElseThrow(() -> new ModelNotFoundException(String.format(BARCODE_NOT_FOUND_MESSAGE, code))));
+        var product = productProvider.findActiveById(productId);
+        return modelMapper.toDTO(product);
+    }
+
+    @Override
+    public List<ProductBarcodeResponse> findBarcodes(Integer id) {
+        var product = productProvider.findById(id);
+        var barcodes = productBarcodeProvider.findByProductId(product.getId());
+        return barcodes.stream().map(modelMapper::toDTO).toList();
+    }
+
+    @Transactional
+    @Override
+    public ProductBarcodeResponse saveBarcode(Integer id, ProductBarcodeRequest requestDTO) {
+        var product = productProvider.findActiveById(id);
+        var barcode = modelMapper.toModel(requestDTO);
+
+        if (productBarcodeProvider.findByCode(barcode.getCode()).isPresent()) {
+            throw new ConstraintConflictException(String.format("O código de barras: %s já está em uso!", barcode.getCode()));
+        }
+
+        barcode.setProductId(product.getId());
+        barcode.setCreatedAt(LocalDateTime.now());
+        productBarcodeProvider.save(barcode);
+        afterCommit(() -> productBarcodeIndex.put(barcode.getCode(), barcode.getProductId()));
+        return modelMapper.toDTO(barcode);
+    }
+
+    @Transactional
+    @Override
+    public void deleteBarcode(Integer id, String code) {
+        var barcode = productBarcodeProvider
+                .findByCode(code)
+                .filter(savedBarcode -> savedBarcode.getProductId().equals(id))
+                .orElseThrow(() -> new ModelNotFoundException(String.format(BARCODE_NOT_FOUND_MESSAGE, code)));
+
+        productBarcodeProvider.delete(barcode);
+        afterCommit(() -> productBarcodeIndex.remove(barcode.getCode()));
+    }
+
     @Transactional
     @Override
     public ProductResponse update(Integer id, ProductRequest requestDTO) {
@@ -82,9 +188,13 @@ public class ProductServiceImpl implements ProductService {
         }
 
         savedProduct.setDescription(product.getDescription());
-        savedProduct.setAmount(product.getAmount());
         savedProduct.setPrice(product.getPrice());
         productProvider.save(savedProduct);
+        afterCommit(() -> productSearchIndex.index(savedProduct.getId(), savedProduct.getDescription()));
+
+        stockMutationStrategy.replace(savedProduct.getId(), product.getAmount());
+        savedProduct.setAmount(product.getAmount());
+
         return modelMapper.toDTO(savedProduct);
     }
 
@@ -94,6 +204,7 @@ public class ProductServiceImpl implements ProductService {
         var product = productProvider.findActiveById(id);
         product.setDeletedAt(LocalDateTime.now());
         productProvider.save(product);
+        afterCommit(() -> productSearchIndex.remove(product.getId()));
     }
 
     @Transactional
@@ -102,6 +213,41 @@ public class ProductServiceImpl implements ProductService {
         var product = productProvider.findInactiveById(id);
         product.setDeletedAt(null);
         productProvider.save(product);
+        afterCommit(() -> productSearchIndex.index(product.getId(), product.getDescription()));
+    }
+
+    private List<ProductResponse> findActiveInOrder(List<Integer> ids) {
+        var products = new HashMap<Integer, Product>();
+
+        if (!ids.isEmpty()) {
+            productProvider.findActiveByIds(ids).forEach(product -> products.put(product.getId(), product));
+        }
+
+        return ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .map(modelMapper::toDTO)
+                .toList();
+    }
+
+    private List<Integer> pageOf(List<Integer> ids, Pageable pageable) {
+        var from = (int) Math.min(pageable.getOffset(), ids.size());
+        var to = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), ids.size());
+        return ids.subList(from, to);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     private boolean isDescriptionInUse(String description) {
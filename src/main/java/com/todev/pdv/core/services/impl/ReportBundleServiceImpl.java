@@ -0,0 +1,202 @@
+package com.todev.pdv.core.services.impl;
+
+import com.todev.pdv.common.dtos.SaleReportLine;
+import com.todev.pdv.common.dtos.SellerTotal;
+import com.todev.pdv.core.exceptions.FileExportException;
+import com.todev.pdv.core.exceptions.ModelNotFoundException;
+import com.todev.pdv.core.providers.contracts.SaleProvider;
+import com.todev.pdv.core.providers.contracts.SaleRollupProvider;
+import com.todev.pdv.core.services.contracts.ReportBundleService;
+import com.todev.pdv.core.services.contracts.ReportService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+@Slf4j
+@Service
+public class ReportBundleServiceImpl implements ReportBundleService {
+    private static final String PREFIX = "bundle-";
+    private static final String EXTENSION = ".zip";
+    private final SaleProvider saleProvider;
+    private final SaleRollupProvider saleRollupProvider;
+    private final ReportService reportService;
+    private final ForkJoinPool pool;
+    private final Path directory;
+    private final int retention;
+
+    public ReportBundleServiceImpl(SaleProvider saleProvider,
+                                   SaleRollupProvider saleRollupProvider,
+                                   ReportService reportService,
+                                   @Value("${pdv.report.bundle.parallelism:4}") Integer parallelism,
+                                   @Value("${pdv.report.bundle.retention:7}") Integer retention,
+                                   @Value("${pdv.report.bundle.directory:${java.io.tmpdir}/pdv-report-bundles}") Path directory) {
+        this.saleProvider = saleProvider;
+        this.saleRollupProvider = saleRollupProvider;
+        this.reportService = reportService;
+        this.pool = new ForkJoinPool(parallelism);
+        this.retention = retention;
+        this.directory = directory;
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        pool.shutdown();
+        pool.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    @Scheduled(cron = "${pdv.report.bundle.cron:0 5 0 * * *}")
+    public void buildPreviousDay() {
+        var day = LocalDate.now().minusDays(1);
+
+        try {
+            build(day);
+        } catch (RuntimeException exception) {
+            log.error("Falha ao gerar o pacote de relatórios do dia {}", day, exception);
+        }
+
+        removeExpired(day.minusDays(retention));
+    }
+
+    @Override
+    public synchronized Path build(LocalDate day) {
+        var lines = new ArrayList<SaleReportLine>();
+        saleProvider.findActiveLinesByDate(day.atStartOfDay(), day.atTime(23, 59, 59), lines::add);
+
+        var firstDay = day.withDayOfMonth(1);
+        var sellers = saleRollupProvider.findSellerTotals(firstDay, day);
+        var entries = new ArrayList<Entry>();
+
+        entries.add(new Entry("vendas-" + day + ".pdf", outputStream -> reportService.salesReport(lines, outputStream)));
+        entries.add(new Entry("estoque-" + day + ".pdf", reportService::goodsReport));
+
+        for (SellerTotal seller : sellers) {
+            entries.add(new Entry("performance-" + seller.userId() + "-" + day + ".pdf",
+                    outputStream -> reportService.performanceReport(seller, firstDay, day, outputStream)));
+        }
+
+        Path workDirectory = null;
+
+        try {
+            Files.createDirectories(directory);
+            workDirectory = Files.createTempDirectory(directory, "work-");
+            render(entries, workDirectory);
+
+            var bundle = directory.resolve(PREFIX + day + EXTENSION);
+            var pending = workDirectory.resolve(PREFIX + day + EXTENSION);
+            zip(entries, workDirectory, pending);
+            Files.move(pending, bundle, REPLACE_EXISTING, ATOMIC_MOVE);
+            return bundle;
+        } catch (IOException | RuntimeException exception) {
+            log.error("Falha ao montar o pacote de relatórios do dia {}", day, exception);
+            throw new FileExportException("Não foi possível gerar o pacote de relatórios!");
+        } finally {
+            deleteDirectory(workDirectory);
+        }
+    }
+
+    @Override
+    public Path findBundle(LocalDate day) {
+        var bundle = directory.resolve(PREFIX + day + EXTENSION);
+
+        if (!Files.isRegularFile(bundle)) {
+            throw new ModelNotFoundException(String.format("O pacote de relatórios do dia: %s não foi encontrado!", day));
+        }
+
+        return bundle;
+    }
+
+    private void render(List<Entry> entries, Path workDirectory) {
+        var tasks = new ArrayList<ForkJoinTask<?>>();
+
+        for (Entry entry : entries) {
+            tasks.add(pool.submit(() -> {
+                try (var outputStream = new BufferedOutputStream(Files.newOutputStream(workDirectory.resolve(entry.name())))) {
+                    entry.renderer().accept(outputStream);
+                }
+
+                return null;
+            }));
+        }
+
+        tasks.forEach(ForkJoinTask::join);
+    }
+
+    private void zip(List<Entry> entries, Path workDirectory, Path target) throws IOException {
+        try (var zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(target)))) {
+            for (Entry entry : entries) {
+                zip.putNextEntry(new ZipEntry(entry.name()));
+                Files.copy(workDirectory.resolve(entry.name()), zip);
+                zip.closeEntry();
+            }
+        }
+    }
+
+    private void removeExpired(LocalDate limit) {
+        try (var files = Files.exists(directory) ? Files.list(directory) : Stream.<Path>empty()) {
+            files.filter(file -> isBundleBefore(file, limit)).forEach(this::deleteFile);
+        } catch (IOException exception) {
+            log.warn("Não foi possível remover os pacotes de relatórios expirados: {}", exception.getMessage());
+        }
+    }
+
+    private boolean isBundleBefore(Path file, LocalDate limit) {
+        var name = file.getFileName().toString();
+
+        if (!name.startsWith(PREFIX) || !name.endsWith(EXTENSION)) {
+            return false;
+        }
+
+        try {
+            return LocalDate.parse(name.substring(PREFIX.length(), name.length() - EXTENSION.length())).isBefore(limit);
+        } catch (DateTimeParseException exception) {
+            return false;
+        }
+    }
+
+    private void deleteDirectory(Path workDirectory) {
+        if (workDirectory == null) {
+            return;
+        }
+
+        try (var files = Files.list(workDirectory)) {
+            files.forEach(this::deleteFile);
+        } catch (IOException exception) {
+            log.warn("Não foi possível limpar o diretório {}: {}", workDirectory, exception.getMessage());
+        }
+
+        deleteFile(workDirectory);
+    }
+
+    private void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException exception) {
+            log.warn("Não foi possível remover o arquivo {}: {}", file, exception.getMessage());
+        }
+    }
+
+    private record Entry(String name, Consumer<OutputStream> renderer) {
+    }
+}
@@ -0,0 +1,233 @@
+package com.todev.pdv.core.services.impl;
+
+import com.todev.pdv.common.dtos.CachedReport;
+import com.todev.pdv.core.exceptions.FileExportException;
+import com.todev.pdv.core.services.contracts.ReportCacheService;
+import com.todev.pdv.core.services.contracts.ReportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class ReportCacheServiceImpl implements ReportCacheService {
+    private static final String SALES_BY_DATE = "sales-by-date";
+    private final ReportService reportService;
+    private final long maxBytes;
+    private final long diskMaxBytes;
+    private final Path directory;
+    private final Map<String, CachedReport> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Long> disk = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong generation = new AtomicLong();
+    private long memoryBytes;
+    private long diskBytes;
+
+    public ReportCacheServiceImpl(ReportService reportService,
+                                  @Value("${pdv.report.cache.max-bytes:16777216}") Long maxBytes,
+                                  @Value("${pdv.report.cache.disk-max-bytes:268435456}") Long diskMaxBytes,
+                                  @Value("${pdv.report.cache.directory:${java.io.tmpdir}/pdv-report-cache}") Path directory) {
+        this.reportService = reportService;
+        this.maxBytes = maxBytes;
+        this.diskMaxBytes = diskMaxBytes;
+        this.directory = directory;
+        clearDirectory();
+    }
+
+    @Override
+    public boolean isCacheable(LocalDateTime date) {
+        return date.toLocalDate().isBefore(LocalDate.now());
+    }
+
+    @Override
+    public CachedReport salesReportByDate(LocalDateTime date) {
+        var key = keyOf(SALES_BY_DATE, date.toLocalDate());
+        var cached = find(key);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        var startedAt = generation.get();
+        var content = new ByteArrayOutputStream();
+        reportService.salesReportByDate(date, content);
+
+        var report = new CachedReport(content.toByteArray(), etagOf(content.toByteArray()));
+        put(key, report, startedAt);
+        return report;
+    }
+
+    @Override
+    public void evictSalesReport(LocalDate day) {
+        var key = keyOf(SALES_BY_DATE, day);
+        afterCommit(() -> evict(key::equals));
+    }
+
+    @Override
+    public void evictSalesReports() {
+        afterCommit(() -> evict(key -> key.startsWith(SALES_BY_DATE)));
+    }
+
+    private synchronized CachedReport find(String key) {
+        var cached = memory.get(key);
+
+        if (cached != null || !disk.containsKey(key)) {
+            return cached;
+        }
+
+        try {
+            var content = Files.readAllBytes(fileOf(key));
+            cached = new CachedReport(content, etagOf(content));
+            removeFromDisk(key);
+            putInMemory(key, cached);
+            return cached;
+        } catch (IOException exception) {
+            log.warn("Não foi possível ler o relatório {} do disco: {}", key, exception.getMessage());
+            disk.remove(key);
+            return null;
+        }
+    }
+
+    private synchronized void put(String key, CachedReport report, long startedAt) {
+        if (startedAt != generation.get() || report.content().length > maxBytes) {
+            return;
+        }
+
+        putInMemory(key, report);
+    }
+
+    private void putInMemory(String key, CachedReport report) {
+        var previous = memory.put(key, report);
+
+        if (previous != null) {
+            memoryBytes -= previous.content().length;
+        }
+
+        memoryBytes += report.content().length;
+        var iterator = memory.entrySet().iterator();
+
+        while (memoryBytes > maxBytes && iterator.hasNext()) {
+            var eldest = iterator.next();
+            iterator.remove();
+            memoryBytes -= eldest.getValue().content().length;
+            spill(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    private void spill(String key, CachedReport report) {
+        if (report.content().length > diskMaxBytes) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(directory);
+            Files.write(fileOf(key), report.content());
+            disk.put(key, (long) report.content().length);
+            diskBytes += report.content().length;
+        } catch (IOException exception) {
+            log.warn("Não foi possível gravar o relatório {} em disco: {}", key, exception.getMessage());
+            return;
+        }
+
+        var iterator = disk.entrySet().iterator();
+
+        while (diskBytes > diskMaxBytes && iterator.hasNext()) {
+            var eldest = iterator.next();
+            iterator.remove();
+            diskBytes -= eldest.getValue();
+            deleteFile(eldest.getKey());
+        }
+    }
+
+    private synchronized void evict(Predicate<String> matches) {
+        generation.incrementAndGet();
+
+        memory.entrySet().removeIf(entry -> {
+            if (matches.test(entry.getKey())) {
+                memoryBytes -= entry.getValue().content().length;
+                return true;
+            }
+
+            return false;
+        });
+
+        disk.keySet().stream().filter(matches).toList().forEach(this::removeFromDisk);
+    }
+
+    private void removeFromDisk(String key) {
+        var size = disk.remove(key);
+
+        if (size != null) {
+            diskBytes -= size;
+            deleteFile(key);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void clearDirectory() {
+        try (var files = Files.exists(directory) ? Files.list(directory) : Stream.<Path>empty()) {
+            files.filter(file -> file.toString().endsWith(".pdf")).forEach(file -> {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException exception) {
+                    log.warn("Não foi possível remover o relatório {}: {}", file, exception.getMessage());
+                }
+            });
+        } catch (IOException exception) {
+            log.warn("Não foi possível limpar o cache de relatórios: {}", exception.getMessage());
+        }
+    }
+
+    private void deleteFile(String key) {
+        try {
+            Files.deleteIfExists(fileOf(key));
+        } catch (IOException exception) {
+            log.warn("Não foi possível remover o relatório {}: {}", key, exception.getMessage());
+        }
+    }
+
+    private Path fileOf(String key) {
+        return directory.resolve(key + ".pdf");
+    }
+
+    private String keyOf(String type, LocalDate day) {
+        return type + "-" + day;
+    }
+
+    private String etagOf(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new FileExportException("Não foi possível gerar o PDF das vendas!");
+        }
+    }
+}
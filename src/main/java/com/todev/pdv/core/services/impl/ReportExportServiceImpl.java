@@ -0,0 +1,90 @@
+package com.todev.pdv.core.services.impl;
+
+import com.todev.pdv.common.writers.contracts.RowWriter;
+import com.todev.pdv.common.writers.impl.CsvRowWriter;
+import com.todev.pdv.common.writers.impl.NdjsonRowWriter;
+import com.todev.pdv.core.enums.ReportFormat;
+import com.todev.pdv.core.models.Product;
+import com.todev.pdv.core.providers.contracts.ProductProvider;
+import com.todev.pdv.core.providers.contracts.SaleProvider;
+import com.todev.pdv.core.providers.contracts.SaleRollupProvider;
+import com.todev.pdv.core.providers.contracts.UserProvider;
+import com.todev.pdv.core.services.contracts.ReportExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+@RequiredArgsConstructor
+public class ReportExportServiceImpl implements ReportExportService {
+    private final SaleProvider saleProvider;
+    private final ProductProvider productProvider;
+    private final UserProvider userProvider;
+    private final SaleRollupProvider saleRollupProvider;
+    private static final int BATCH_SIZE = 1000;
+
+    @Override
+    public void salesByDate(LocalDateTime date, ReportFormat format, OutputStream outputStream) {
+        var start = date.withHour(0).withMinute(0).withSecond(0);
+        var end = date.withHour(23).withMinute(59).withSecond(59);
+        var writer = writerOf(format, outputStream, "seller", "total", "payment_method", "created_at");
+        var lines = new AtomicInteger();
+
+        saleProvider.findActiveLinesByDate(start, end, line -> {
+            writer.write(line.sellerName(), BigDecimal.valueOf(line.total(), 2), line.paymentMethod(), line.createdAt());
+
+            if (lines.incrementAndGet() % BATCH_SIZE == 0) {
+                writer.flush();
+            }
+        });
+
+        writer.flush();
+    }
+
+    @Override
+    public void goods(ReportFormat format, OutputStream outputStream) {
+        var writer = writerOf(format, outputStream, "id", "description", "amount", "price");
+        var products = productProvider.findActiveAfter(0, BATCH_SIZE);
+
+        while (!products.isEmpty()) {
+            for (Product product : products) {
+                writer.write(product.getId(),
+                        product.getDescription(),
+                        product.getAmount(),
+                        BigDecimal.valueOf(product.getPrice().cents(), 2));
+            }
+
+            writer.flush();
+
+            products = products.size() < BATCH_SIZE
+                    ? List.of()
+                    : productProvider.findActiveAfter(products.get(products.size() - 1).getId(), BATCH_SIZE);
+        }
+
+        writer.flush();
+    }
+
+    @Override
+    public void performance(Integer userId, LocalDateTime start, ReportFormat format, OutputStream outputStream) {
+        start = start.withHour(0).withMinute(0).withSecond(0);
+        var end = start.plusMonths(1L).withHour(23).withMinute(59).withSecond(59);
+        var user = userProvider.findActiveById(userId);
+        var total = saleRollupProvider.sumNetByUserAndDay(userId, start.toLocalDate(), end.toLocalDate());
+        var writer = writerOf(format, outputStream, "name", "start", "end", "total");
+
+        writer.write(user.getName(), start.toLocalDate(), end.toLocalDate(), BigDecimal.valueOf(total.cents(), 2));
+        writer.flush();
+    }
+
+    private RowWriter writerOf(ReportFormat format, OutputStream outputStream, String... columns) {
+        return switch (format) {
+            case CSV -> new CsvRowWriter(outputStream, columns);
+            case NDJSON -> new NdjsonRowWriter(outputStream, columns);
+        };
+    }
+}
@@ -0,0 +1,208 @@
+package com.todev.pdv.core.services.impl;
+
+import com.todev.pdv.common.dtos.ReportJobRequest;
+import com.todev.pdv.common.dtos.ReportJobResponse;
+import com.todev.pdv.core.enums.ReportType;
+import com.todev.pdv.core.exceptions.*;
+import com.todev.pdv.core.services.contracts.ReportJobService;
+import com.todev.pdv.core.services.contracts.ReportService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static com.todev.pdv.core.enums.TicketStatus.*;
+
+@Slf4j
+@Service
+public class ReportJobServiceImpl implements ReportJobService {
+    private final ReportService reportService;
+    private final int perUserLimit;
+    private final Duration ttl;
+    private final Path directory;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final Map<String, Integer> activeJobs = new ConcurrentHashMap<>();
+
+    public ReportJobServiceImpl(ReportService reportService,
+                                @Value("${pdv.report.jobs.threads:2}") Integer threads,
+                                @Value("${pdv.report.jobs.capacity:32}") Integer capacity,
+                                @Value("${pdv.report.jobs.per-user-limit:2}") Integer perUserLimit,
+                                @Value("${pdv.report.jobs.ttl:30m}") Duration ttl,
+                                @Value("${pdv.report.jobs.directory:${java.io.tmpdir}/pdv-report-jobs}") Path directory) {
+        var counter = new AtomicInteger();
+        this.reportService = reportService;
+        this.perUserLimit = perUserLimit;
+        this.ttl = ttl;
+        this.directory = directory;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity),
+                runnable -> new Thread(runnable, "report-job-" + counter.incrementAndGet()));
+        clearDirectory();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public ReportJobResponse submit(String onlineUser, ReportJobRequest requestDTO) {
+        var type = ReportType.valueOf(requestDTO.type());
+        checkArguments(type, requestDTO);
+
+        if (activeJobs.merge(onlineUser, 1, Integer::sum) > perUserLimit) {
+            release(onlineUser);
+            throw new ReportJobLimitException("Você já possui relatórios em processamento, aguarde a conclusão!");
+        }
+
+        var id = UUID.randomUUID().toString();
+        var job = new Job(id, onlineUser, type, directory.resolve(id + ".pdf"), new CompletableFuture<>(), LocalDateTime.now());
+        jobs.put(job.id(), job);
+
+        try {
+            executor.execute(() -> process(job, requestDTO));
+        } catch (RejectedExecutionException exception) {
+            jobs.remove(job.id());
+            release(onlineUser);
+            throw new ReportQueueFullException("A fila de relatórios está cheia, tente novamente!");
+        }
+
+        return pending(job);
+    }
+
+    @Override
+    public ReportJobResponse findJob(String onlineUser, String job) {
+        var savedJob = findOwned(onlineUser, job);
+        return savedJob.outcome().getNow(pending(savedJob));
+    }
+
+    @Override
+    public Path findFile(String onlineUser, String job) {
+        var savedJob = findOwned(onlineUser, job);
+        var response = savedJob.outcome().getNow(pending(savedJob));
+
+        if (response.status() != COMPLETED) {
+            throw new ConstraintConflictException(String.format("O relatório do job: %s não está disponível!", job));
+        }
+
+        return savedJob.file();
+    }
+
+    @Scheduled(fixedDelayString = "${pdv.report.jobs.eviction-interval:60000}")
+    public void evictExpired() {
+        var limit = LocalDateTime.now().minus(ttl);
+
+        jobs.values().removeIf(job -> {
+            if (job.outcome().isDone() && job.createdAt().isBefore(limit)) {
+                deleteFile(job.file());
+                return true;
+            }
+
+            return false;
+        });
+    }
+
+    private void process(Job job, ReportJobRequest requestDTO) {
+        try {
+            Files.createDirectories(directory);
+
+            try (var outputStream = new BufferedOutputStream(Files.newOutputStream(job.file()))) {
+                render(job.type(), requestDTO, outputStream);
+            }
+
+            job.outcome().complete(new ReportJobResponse(job.id(), job.type(), COMPLETED, null));
+        } catch (ModelNotFoundException | FileExportException exception) {
+            deleteFile(job.file());
+            job.outcome().complete(failed(job, exception.getMessage()));
+        } catch (IOException | RuntimeException exception) {
+            log.error("Falha ao processar o relatório {}", job.id(), exception);
+            deleteFile(job.file());
+            job.outcome().complete(failed(job, "Não foi possível gerar o relatório!"));
+        } finally {
+            release(job.login());
+        }
+    }
+
+    private void render(ReportType type, ReportJobRequest requestDTO, OutputStream outputStream) {
+        switch (type) {
+            case SALE -> reportService.saleReport(requestDTO.saleId(), outputStream);
+            case SALES_BY_DATE -> reportService.salesReportByDate(requestDTO.date(), outputStream);
+            case GOODS -> reportService.goodsReport(outputStream);
+            case PERFORMANCE -> reportService.performanceReport(requestDTO.userId(), requestDTO.date(), outputStream);
+        }
+    }
+
+    private void checkArguments(ReportType type, ReportJobRequest requestDTO) {
+        var missing = switch (type) {
+            case SALE -> requestDTO.saleId() == null ? "Informe o ID da venda!" : null;
+            case SALES_BY_DATE -> requestDTO.date() == null ? "Informe a data das vendas!" : null;
+            case GOODS -> null;
+            case PERFORMANCE -> requestDTO.userId() == null || requestDTO.date() == null
+                    ? "Informe o usuário e a data inicial!"
+                    : null;
+        };
+
+        if (missing != null) {
+            throw new InvalidPayloadException("Os argumentos recebidos são inválidos ou estão ausentes!", Set.of(missing));
+        }
+    }
+
+    private Job findOwned(String onlineUser, String job) {
+        var savedJob = jobs.get(job);
+
+        if (savedJob == null || !savedJob.login().equals(onlineUser)) {
+            throw new ModelNotFoundException(String.format("O job: %s não foi encontrado!", job));
+        }
+
+        return savedJob;
+    }
+
+    private void release(String onlineUser) {
+        activeJobs.computeIfPresent(onlineUser, (login, active) -> active > 1 ? active - 1 : null);
+    }
+
+    private void clearDirectory() {
+        try (var files = Files.exists(directory) ? Files.list(directory) : Stream.<Path>empty()) {
+            files.filter(file -> file.toString().endsWith(".pdf")).forEach(this::deleteFile);
+        } catch (IOException exception) {
+            log.warn("Não foi possível limpar os relatórios gerados: {}", exception.getMessage());
+        }
+    }
+
+    private void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException exception) {
+            log.warn("Não foi possível remover o relatório {}: {}", file, exception.getMessage());
+        }
+    }
+
+    private ReportJobResponse pending(Job job) {
+        return new ReportJobResponse(job.id(), job.type(), PENDING, null);
+    }
+
+    private ReportJobResponse failed(Job job, String message) {
+        return new ReportJobResponse(job.id(), job.type(), FAILED, message);
+    }
+
+    private record Job(String id, String login, ReportType type, Path file,
+                       CompletableFuture<ReportJobResponse> outcome, LocalDateTime createdAt) {
+    }
+}
@@ -1,33 +1,37 @@
 package com.todev.pdv.core.services.impl;
 
-import com.lowagie.text.*;
 import com.lowagie.text.Document;
-import com.lowagie.text.FontFactory;
 import com.lowagie.text.PageSize;
-import com.lowagie.text.Paragraph;
-import com.lowagie.text.Phrase;
-import com.lowagie.text.pdf.PdfPCell;
 import com.lowagie.text.pdf.PdfPTable;
 import com.lowagie.text.pdf.PdfWriter;
+import com.todev.pdv.common.dtos.LeaderboardResponse;
+import com.todev.pdv.common.dtos.SaleReportLine;
+import com.todev.pdv.common.dtos.SellerTotal;
+import com.todev.pdv.common.reports.contracts.ReceiptRenderer;
+import com.todev.pdv.common.reports.contracts.ReportRenderer;
 import com.todev.pdv.core.enums.PaymentMethod;
+import com.todev.pdv.core.enums.ReceiptFormat;
 import com.todev.pdv.core.exceptions.FileExportException;
-import com.todev.pdv.core.models.Sale;
+import com.todev.pdv.core.models.Money;
+import com.todev.pdv.core.models.Product;
 import com.todev.pdv.core.providers.contracts.ProductProvider;
 import com.todev.pdv.core.providers.contracts.SaleItemProvider;
 import com.todev.pdv.core.providers.contracts.SaleProvider;
+import com.todev.pdv.core.providers.contracts.SaleRollupProvider;
 import com.todev.pdv.core.providers.contracts.UserProvider;
 import com.todev.pdv.core.services.contracts.ReportService;
-import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
-
-import static com.lowagie.text.Element.ALIGN_CENTER;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -36,198 +40,232 @@ public class ReportServiceImpl implements ReportService {
     private final SaleItemProvider saleItemProvider;
     private final ProductProvider productProvider;
     private final UserProvider userProvider;
+    private final SaleRollupProvider saleRollupProvider;
+    private final ReportRenderer reportRenderer;
+    private final ReceiptRenderer receiptRenderer;
+    private static final int BATCH_SIZE = 1000;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yy");
 
     @Override
-    public void saleReport(Integer id, HttpServletResponse response) {
+    public void saleReport(Integer id, OutputStream outputStream) {
         try (var report = new Document(PageSize.B6)) {
-            PdfWriter.getInstance(report, response.getOutputStream());
+            PdfWriter.getInstance(report, outputStream);
             var sale = saleProvider.findById(id);
             var items = saleItemProvider.findBySaleId(id);
 
             report.open();
 
-            var reportHeader = createReportHeader("Minha Make", List.of(
-                    "Vitória Park Shopping",
-                    "Rua Henrique de Holanda - Nº 3000",
-                    "(81) 99451-3987",
-                    "CNPJ 35.699.902/000010-42"
-            ));
-
-            reportHeader.forEach(report::add);
+            reportRenderer.addStoreHeader(report);
 
-            var table = createTable(3, List.of("PROD", "QTD", "PREÇO"));
+            var table = reportRenderer.createTable("PROD", "QTD", "PREÇO");
 
             items.forEach(item -> {
                 var product = productProvider.findById(item.getProductId());
 
-                var tableCells = createTableCells(List.of(
+                reportRenderer.addRow(table,
                         product.getDescription(),
                         item.getAmount().toString(),
-                        String.format("R$ %.2f", item.getPrice())
-                ));
-
-                tableCells.forEach(table::addCell);
-
+                        Money.format(item.getPrice().cents())
+                );
             });
 
             report.add(table);
-            var discount = (double) sale.getDiscount() / 100 * sale.getTotal();
-            List<Paragraph> reportFooter;
+            var total = sale.getTotal().cents();
+            var discount = Money.discountOf(total, sale.getDiscount());
 
             if (discount > 0) {
-                reportFooter = createReportFooter(List.of(
-                        String.format("Subtotal: R$ %.2f", sale.getTotal()),
-                        String.format("Desconto: R$ %.2f", discount),
-                        String.format("Total: R$ %.2f", sale.getTotal() - discount)
+                reportRenderer.addFooter(report, List.of(
+                        "Subtotal: " + Money.format(total),
+                        "Desconto: " + Money.format(discount),
+                        "Total: " + Money.format(total - discount)
                 ));
             } else {
-                reportFooter = createReportFooter(List.of(
-                        String.format("Total: R$ %.2f", sale.getTotal())
-                ));
+                reportRenderer.addFooter(report, List.of("Total: " + Money.format(total)));
             }
 
-            var lastItemOfFooter = reportFooter.get(reportFooter.size() - 1);
-            lastItemOfFooter.setSpacingAfter(15);
-
-            reportFooter.forEach(report::add);
-
-
         } catch (Exception exception) {
             throw new FileExportException("Não foi possível gerar o PDF da venda!");
         }
     }
 
     @Override
-    public void salesReportByDate(LocalDateTime date, HttpServletResponse response) {
-        try (var report = new Document(PageSize.B6)) {
-            PdfWriter.getInstance(report, response.getOutputStream());
-            var start = date.withHour(0).withMinute(0).withSecond(0);
-            var end = date.withHour(23).withMinute(59).withSecond(59);
-            var sales = saleProvider.findActiveByDate(start, end);
-            var totalOfSales = 0.0;
+    public void saleReceipt(Integer id, ReceiptFormat format, OutputStream outputStream) {
+        var sale = saleProvider.findById(id);
+        var details = saleProvider.findDetailsById(id);
+        receiptRenderer.render(sale, details, format, outputStream);
+    }
 
-            report.open();
+    @Override
+    public void salesReportByDate(LocalDateTime date, OutputStream outputStream) {
+        var start = date.withHour(0).withMinute(0).withSecond(0);
+        var end = date.withHour(23).withMinute(59).withSecond(59);
+        renderSales(consumer -> saleProvider.findActiveLinesByDate(start, end, consumer), outputStream);
+    }
 
-            var reportHeader = createReportHeader("Relatório de Vendas", List.of());
+    @Override
+    public void salesReport(List<SaleReportLine> lines, OutputStream outputStream) {
+        renderSales(lines::forEach, outputStream);
+    }
 
-            reportHeader.forEach(report::add);
+    @Override
+    public void goodsReport(OutputStream outputStream) {
+        try (var report = new Document(PageSize.B6)) {
+            PdfWriter.getInstance(report, outputStream);
 
-            var table = createTable(4, List.of("VEND", "TOTAL", "PAG", "DATA"));
+            report.open();
 
-            for (Sale sale : sales) {
-                var total = sale.getTotal();
-                var discount = (double) sale.getDiscount() / 100 * sale.getTotal();
-                var user = userProvider.findById(sale.getUserId());
+            reportRenderer.addHeader(report, "Relatório do Estoque");
 
-                total = sale.getTotal() - discount;
+            var table = reportRenderer.createTable("COD", "DESC", "QTD");
+            var spacingAfter = startStreaming(table);
+            var products = productProvider.findActiveAfter(0, BATCH_SIZE);
 
-                totalOfSales += total;
+            while (!products.isEmpty()) {
+                for (Product product : products) {
+                    reportRenderer.addRow(table,
+                            product.getId().toString(),
+                            product.getDescription(),
+                            product.getAmount().toString()
+                    );
+                }
 
-                var tableCells = createTableCells(List.of(
-                        user.getName(),
-                        String.format("R$ %.2f", total),
-                        convertPaymentMethod(sale.getPaymentMethod()),
-                        sale.getCreatedAt().format(DateTimeFormatter.ofPattern("dd/MM/yy"))
-                ));
+                flush(report, table);
 
-                tableCells.forEach(table::addCell);
+                products = products.size() < BATCH_SIZE
+                        ? List.of()
+                        : productProvider.findActiveAfter(products.get(products.size() - 1).getId(), BATCH_SIZE);
             }
 
-            report.add(table);
-
-            var reportFooter = createReportFooter(List.of(String.format("Total: R$ %.2f", totalOfSales)));
-            var lastItemOfFooter = reportFooter.get(reportFooter.size() - 1);
-
-            lastItemOfFooter.setSpacingAfter(15);
-
-            reportFooter.forEach(report::add);
+            complete(report, table, spacingAfter);
 
         } catch (Exception exception) {
-            throw new FileExportException("Não foi possível gerar o PDF das vendas!");
+            throw new FileExportException("Não foi possível gerar o relatório do estoque!");
         }
     }
 
     @Override
-    public void goodsReport(HttpServletResponse response) {
-        try (var report = new Document(PageSize.B6)) {
-            PdfWriter.getInstance(report, response.getOutputStream());
-            var actualPage = 0;
-            var activeProducts = productProvider.findActive(PageRequest.of(actualPage, 20));
-            var totalPages = activeProducts.getTotalPages();
-
-            report.open();
-
-            var reportHeader = createReportHeader("Relatório do Estoque", List.of());
+    public void performanceReport(Integer userId,
+                                  LocalDateTime start,
+                                  OutputStream outputStream) {
+        var firstDay = start.toLocalDate();
+        var lastDay = firstDay.plusMonths(1L);
+        var user = userProvider.findActiveById(userId);
+        var total = saleRollupProvider.sumNetByUserAndDay(userId, firstDay, lastDay);
+        renderPerformance(user.getName(), firstDay, lastDay, total.cents(), outputStream);
+    }
 
-            reportHeader.forEach(report::add);
+    @Override
+    public void performanceReport(SellerTotal seller, LocalDate start, LocalDate end, OutputStream outputStream) {
+        renderPerformance(seller.name(), start, end, seller.net(), outputStream);
+    }
 
-            var table = createTable(3, List.of("COD", "DESC", "QTD"));
+    @Override
+    public List<LeaderboardResponse> leaderboard(LocalDate start, LocalDate end) {
+        var sellers = saleRollupProvider.findSellerTotals(start, end);
+        var leaderboard = new ArrayList<LeaderboardResponse>(sellers.size());
+
+        for (SellerTotal seller : sellers) {
+            leaderboard.add(new LeaderboardResponse(
+                    leaderboard.size() + 1,
+                    seller.userId(),
+                    seller.name(),
+                    seller.sales(),
+                    Money.ofCents(seller.gross()).toDouble(),
+                    Money.ofCents(seller.net()).toDouble(),
+                    Money.ofCents(averageTicketOf(seller)).toDouble()
+            ));
+        }
 
+        return leaderboard;
+    }
 
-            while (actualPage < totalPages) {
-                activeProducts = productProvider.findActive(PageRequest.of(actualPage, 20));
+    @Override
+    public void leaderboardReport(LocalDate start, LocalDate end, OutputStream outputStream) {
+        var sellers = saleRollupProvider.findSellerTotals(start, end);
 
-                activeProducts.getContent().forEach(product -> {
+        try (var report = new Document(PageSize.A4)) {
+            PdfWriter.getInstance(report, outputStream);
 
-                    var tableCells = createTableCells(List.of(
-                            product.getId().toString(),
-                            product.getDescription(),
-                            product.getAmount().toString()
-                    ));
+            report.open();
 
-                    tableCells.forEach(table::addCell);
+            reportRenderer.addHeader(report, "Ranking de Vendedores");
 
-                });
+            var table = reportRenderer.createTable("POS", "NOME", "VENDAS", "BRUTO", "LÍQUIDO", "TICKET MÉDIO");
+            var position = 0;
 
-                actualPage++;
+            for (SellerTotal seller : sellers) {
+                reportRenderer.addRow(table,
+                        String.valueOf(++position),
+                        seller.name(),
+                        String.valueOf(seller.sales()),
+                        Money.format(seller.gross()),
+                        Money.format(seller.net()),
+                        Money.format(averageTicketOf(seller))
+                );
             }
 
             report.add(table);
 
+            reportRenderer.addFooter(report, List.of(start.format(DATE_FORMATTER) + " - " + end.format(DATE_FORMATTER)));
+
         } catch (Exception exception) {
-            throw new FileExportException("Não foi possível gerar o relatório do estoque!");
+            throw new FileExportException("Não foi possível gerar o ranking de vendedores!");
         }
     }
 
-    @Override
-    public void performanceReport(Integer userId,
-                                  LocalDateTime start,
-                                  HttpServletResponse response) {
-        try (var report = new Document(PageSize.A4)) {
-            PdfWriter.getInstance(report, response.getOutputStream());
-            start = start.withHour(0).withMinute(0).withSecond(0);
-            var end = start.plusMonths(1L).withHour(23).withMinute(59).withSecond(59);
+    private void renderSales(Consumer<Consumer<SaleReportLine>> source, OutputStream outputStream) {
+        try (var report = new Document(PageSize.B6)) {
+            PdfWriter.getInstance(report, outputStream);
+            var totalOfSales = new AtomicLong();
+            var lines = new AtomicInteger();
 
             report.open();
 
-            var user = userProvider.findActiveById(userId);
-            var sales = saleProvider.findActiveByDate(start, end)
-                    .stream().filter(sale -> sale.getUserId().equals(userId)).toList();
-            var reportHeader = createReportHeader("Performance Mensal", List.of());
-            var total = 0.0;
+            reportRenderer.addHeader(report, "Relatório de Vendas");
 
-            reportHeader.forEach(report::add);
+            var table = reportRenderer.createTable("VEND", "TOTAL", "PAG", "DATA");
+            var spacingAfter = startStreaming(table);
 
-            var table = createTable(4, List.of("NOME", "INÍCIO", "FIM", "TOTAL"));
+            source.accept(line -> {
+                totalOfSales.addAndGet(line.total());
 
-            for (Sale sale : sales) {
+                reportRenderer.addRow(table,
+                        line.sellerName(),
+                        Money.format(line.total()),
+                        convertPaymentMethod(line.paymentMethod()),
+                        line.createdAt().format(DATE_FORMATTER)
+                );
 
-                if (sale.getDiscount() > 0) {
-                    var discount = (double) sale.getDiscount() / 100 * sale.getTotal();
-                    total += sale.getTotal() - discount;
-                } else {
-                    total += sale.getTotal();
+                if (lines.incrementAndGet() % BATCH_SIZE == 0) {
+                    flush(report, table);
                 }
-            }
+            });
 
-            var tableContent = createTableCells(List.of(
-                    user.getName(),
-                    start.format(DateTimeFormatter.ofPattern("dd/MM/yy")),
-                    end.format(DateTimeFormatter.ofPattern("dd/MM/yy")),
-                    String.format("R$ %.2f", total)
-            ));
+            complete(report, table, spacingAfter);
+
+            reportRenderer.addFooter(report, List.of("Total: " + Money.format(totalOfSales.get())));
+
+        } catch (Exception exception) {
+            throw new FileExportException("Não foi possível gerar o PDF das vendas!");
+        }
+    }
+
+    private void renderPerformance(String name, LocalDate start, LocalDate end, long total, OutputStream outputStream) {
+        try (var report = new Document(PageSize.A4)) {
+            PdfWriter.getInstance(report, outputStream);
+
+            report.open();
 
-            tableContent.forEach(table::addCell);
+            reportRenderer.addHeader(report, "Performance Mensal");
+
+            var table = reportRenderer.createTable("NOME", "INÍCIO", "FIM", "TOTAL");
+
+            reportRenderer.addRow(table,
+                    name,
+                    start.format(DATE_FORMATTER),
+                    end.format(DATE_FORMATTER),
+                    Money.format(total)
+            );
 
             report.add(table);
 
@@ -236,54 +274,30 @@ public class ReportServiceImpl implements ReportService {
         }
     }
 
-    private List<Paragraph> createReportHeader(String titleContent, List<String> subtitles) {
-        List<Paragraph> paragraphs = new ArrayList<>();
-        var title = createParagraph(titleContent, 22);
-        title.getFont().setStyle("bold");
-        paragraphs.add(title);
-        subtitles.forEach(subtitle -> paragraphs.add(createParagraph(subtitle, 16)));
-        return paragraphs;
+    private float startStreaming(PdfPTable table) {
+        var spacingAfter = table.spacingAfter();
+        table.setComplete(false);
+        table.setSpacingAfter(0);
+        return spacingAfter;
     }
 
-    private List<Paragraph> createReportFooter(List<String> contents) {
-        List<Paragraph> paragraphs = new ArrayList<>();
-        contents.forEach(content -> paragraphs.add(createParagraph(content, 16)));
-        return paragraphs;
+    private void flush(Document report, PdfPTable table) {
+        report.add(table);
+        table.setSpacingBefore(0);
     }
 
-    private Paragraph createParagraph(String content, Integer fontSize) {
-        var fontStyle = FontFactory.getFont(FontFactory.defaultEncoding);
-        fontStyle.setSize(fontSize);
-        var paragraph = new Paragraph(content, fontStyle);
-        paragraph.setAlignment(ALIGN_CENTER);
-        return paragraph;
+    private void complete(Document report, PdfPTable table, float spacingAfter) {
+        table.setComplete(true);
+        table.setSpacingAfter(spacingAfter);
+        report.add(table);
     }
 
-    private PdfPTable createTable(int columns, List<String> headers) {
-        var table = new PdfPTable(columns);
-        table.setSpacingBefore(15);
-        table.setSpacingAfter(15);
-        headers.forEach(title -> {
-            var header = new PdfPCell();
-            header.setBorder(0);
-            header.setPadding(6);
-            header.setPhrase(new Phrase(title));
-            header.getPhrase().getFont().setStyle("bold");
-            table.addCell(header);
-        });
-        return table;
-    }
+    private long averageTicketOf(SellerTotal seller) {
+        if (seller.sales() <= 0) {
+            return 0L;
+        }
 
-    private List<PdfPCell> createTableCells(List<String> contents) {
-        List<PdfPCell> cells = new ArrayList<>();
-        contents.forEach(content -> {
-            var cell = new PdfPCell();
-            cell.setBorder(0);
-            cell.setPadding(6);
-            cell.setPhrase(new Phrase(content));
-            cells.add(cell);
-        });
-        return cells;
+        return (seller.net() + seller.sales() / 2) / seller.sales();
     }
 
     private String convertPaymentMethod(PaymentMethod paymentMethod) {
@@ -0,0 +1,367 @@
+package com.todev.pdv.core.services.impl;
+
+import com.todev.pdv.common.collections.IntHashSet;
+import com.todev.pdv.common.dtos.SaleItemRequest;
+import com.todev.pdv.common.dtos.SaleRequest;
+import com.todev.pdv.common.dtos.SaleResponse;
+import com.todev.pdv.common.dtos.SaleTicketResponse;
+import com.todev.pdv.core.exceptions.*;
+import com.todev.pdv.core.providers.contracts.ProductProvider;
+import com.todev.pdv.core.services.contracts.IdempotencyService;
+import com.todev.pdv.core.services.contracts.SaleIngestionService;
+import com.todev.pdv.core.services.contracts.SaleService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.todev.pdv.core.enums.TicketStatus.*;
+
+@Slf4j
+@Service
+public class SaleIngestionServiceImpl implements SaleIngestionService {
+    private final SaleService saleService;
+    private final IdempotencyService idempotencyService;
+    private final ProductProvider productProvider;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Duration refreshInterval;
+    private final int workerCount;
+    private final BlockingQueue<Task> tasks;
+    private final List<Shard> shards = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+    private volatile boolean running;
+
+    public SaleIngestionServiceImpl(SaleService saleService,
+                                    IdempotencyService idempotencyService,
+                                    ProductProvider productProvider,
+                                    @Value("${pdv.sale.ingestion.mode:sync}") String mode,
+                                    @Value("${pdv.stock.strategy:atomic}") String stockStrategy,
+                                    @Value("${pdv.sale.ingestion.shards:4}") Integer shards,
+                                    @Value("${pdv.sale.ingestion.workers:4}") Integer workers,
+                                    @Value("${pdv.sale.ingestion.capacity:1024}") Integer capacity,
+                                    @Value("${pdv.sale.ingestion.ticket-ttl:10m}") Duration ttl,
+                                    @Value("${pdv.sale.ingestion.refresh-interval:500ms}") Duration refreshInterval) {
+        this.saleService = saleService;
+        this.idempotencyService = idempotencyService;
+        this.productProvider = productProvider;
+        this.enabled = "async".equals(mode);
+
+        if (enabled && "ledger".equals(stockStrategy)) {
+            throw new IllegalStateException("A ingestão assíncrona de vendas não pode ser usada com a estratégia de estoque ledger!");
+        }
+
+        this.ttl = ttl;
+        this.refreshInterval = refreshInterval;
+        this.workerCount = workers;
+        this.tasks = new ArrayBlockingQueue<>(Math.max(1, capacity));
+
+        for (int i = 0; i < shards; i++) {
+            this.shards.add(new Shard());
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        running = true;
+
+        for (int i = 0; i < shards.size(); i++) {
+            shards.get(i).start("sale-shard-" + i);
+        }
+
+        for (int i = 0; i < workerCount; i++) {
+            var worker = new Thread(this::work, "sale-worker-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        }
+
+        for (Shard shard : shards) {
+            shard.stop();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public SaleTicketResponse submit(String onlineUser, String idempotencyKey, SaleRequest requestDTO) {
+        var productIds = new IntHashSet(requestDTO.items().size());
+
+        for (SaleItemRequest item : requestDTO.items()) {
+            if (!productIds.add(item.productId())) {
+                throw new DuplicatedItemException("A venda não pode ter itens duplicados!");
+            }
+        }
+
+        var ticket = new Ticket(UUID.randomUUID().toString(), onlineUser, new CompletableFuture<>(), LocalDateTime.now());
+        tickets.put(ticket.id(), ticket);
+
+        if (!running || !tasks.offer(new Task(ticket, idempotencyKey, requestDTO))) {
+            tickets.remove(ticket.id());
+            throw new SaleQueueFullException("A fila de vendas está cheia, tente novamente!");
+        }
+
+        return pending(ticket);
+    }
+
+    @Override
+    public CompletableFuture<SaleTicketResponse> findTicket(String onlineUser, String ticket, Duration wait) {
+        var savedTicket = tickets.get(ticket);
+
+        if (savedTicket == null || !savedTicket.login().equals(onlineUser)) {
+            throw new ModelNotFoundException(String.format("O ticket: %s não foi encontrado!", ticket));
+        }
+
+        if (wait.isZero() || savedTicket.outcome().isDone()) {
+            return CompletableFuture.completedFuture(savedTicket.outcome().getNow(pending(savedTicket)));
+        }
+
+        return savedTicket.outcome()
+                .copy()
+                .completeOnTimeout(pending(savedTicket), wait.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Scheduled(fixedDelayString = "${pdv.sale.ingestion.eviction-interval:60000}")
+    public void evictExpired() {
+        var limit = LocalDateTime.now().minus(ttl);
+        tickets.values().removeIf(ticket -> ticket.outcome().isDone() && ticket.createdAt().isBefore(limit));
+    }
+
+    private void work() {
+        while (running || !tasks.isEmpty()) {
+            try {
+                var task = tasks.poll(200, TimeUnit.MILLISECONDS);
+
+                if (task != null) {
+                    process(task);
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void process(Task task) {
+        var ticket = task.ticket();
+        var login = ticket.login();
+        var key = task.idempotencyKey();
+        var requestDTO = task.requestDTO();
+
+        try {
+            var sale = key == null
+                    ? checkout(requestDTO, () -> saleService.saveReserved(login, requestDTO))
+                    : idempotencyService.save(login, key, requestDTO, () -> checkout(requestDTO, () -> saleService.saveReserved(login, key, requestDTO)));
+            ticket.outcome().complete(new SaleTicketResponse(ticket.id(), COMPLETED, sale, null));
+        } catch (NotEnoughStockException | ModelNotFoundException | DuplicatedItemException | ConstraintConflictException exception) {
+            ticket.outcome().complete(failed(ticket, exception.getMessage()));
+        } catch (RuntimeException exception) {
+            log.error("Falha ao processar o ticket {}", ticket.id(), exception);
+            ticket.outcome().complete(failed(ticket, "Não foi possível processar a venda!"));
+        }
+    }
+
+    private SaleResponse checkout(SaleRequest requestDTO, Supplier<SaleResponse> persist) {
+        var amounts = new LinkedHashMap<Shard, Map<Integer, Integer>>();
+
+        for (SaleItemRequest item : requestDTO.items()) {
+            amounts.computeIfAbsent(shards.get(Math.floorMod(item.productId(), shards.size())), shard -> new HashMap<>())
+                    .put(item.productId(), item.amount());
+        }
+
+        reserve(amounts);
+
+        try {
+            var sale = persist.get();
+            amounts.forEach(Shard::commit);
+            return sale;
+        } catch (RuntimeException exception) {
+            amounts.forEach(Shard::release);
+            throw exception;
+        }
+    }
+
+    private void reserve(Map<Shard, Map<Integer, Integer>> amounts) {
+        var reservations = new LinkedHashMap<Shard, CompletableFuture<Void>>();
+        amounts.forEach((shard, shardAmounts) -> reservations.put(shard, shard.reserve(shardAmounts)));
+        RuntimeException failure = null;
+
+        for (CompletableFuture<Void> reservation : reservations.values()) {
+            try {
+                reservation.join();
+            } catch (CompletionException exception) {
+                if (failure == null) {
+                    failure = exception.getCause() instanceof RuntimeException cause ? cause : exception;
+                }
+            }
+        }
+
+        if (failure != null) {
+            reservations.forEach((shard, reservation) -> {
+                if (!reservation.isCompletedExceptionally()) {
+                    shard.release(amounts.get(shard));
+                }
+            });
+
+            throw failure;
+        }
+    }
+
+    private SaleTicketResponse pending(Ticket ticket) {
+        return new SaleTicketResponse(ticket.id(), PENDING, null, null);
+    }
+
+    private SaleTicketResponse failed(Ticket ticket, String message) {
+        return new SaleTicketResponse(ticket.id(), FAILED, null, message);
+    }
+
+    private static Integer sumOrRemove(Integer current, Integer delta) {
+        var sum = current + delta;
+        return sum == 0 ? null : sum;
+    }
+
+    private record Ticket(String id, String login, CompletableFuture<SaleTicketResponse> outcome, LocalDateTime createdAt) {
+    }
+
+    private record Task(Ticket ticket, String idempotencyKey, SaleRequest requestDTO) {
+    }
+
+    private final class Shard {
+        private final BlockingQueue<Runnable> commands = new LinkedBlockingQueue<>();
+        private final Map<Integer, Integer> available = new HashMap<>();
+        private final Map<Integer, Integer> reserved = new HashMap<>();
+        private volatile boolean active;
+        private Thread thread;
+
+        private void start(String name) {
+            active = true;
+            thread = new Thread(this::run, name);
+            thread.start();
+        }
+
+        private void stop() throws InterruptedException {
+            active = false;
+
+            if (thread != null) {
+                thread.join(TimeUnit.SECONDS.toMillis(30));
+            }
+        }
+
+        private CompletableFuture<Void> reserve(Map<Integer, Integer> amounts) {
+            var reservation = new CompletableFuture<Void>();
+
+            commands.add(() -> {
+                try {
+                    apply(amounts);
+                    reservation.complete(null);
+                } catch (RuntimeException exception) {
+                    reservation.completeExceptionally(exception);
+                }
+            });
+
+            return reservation;
+        }
+
+        private void commit(Map<Integer, Integer> amounts) {
+            commands.add(() -> amounts.forEach((id, amount) -> reserved.merge(id, -amount, SaleIngestionServiceImpl::sumOrRemove)));
+        }
+
+        private void release(Map<Integer, Integer> amounts) {
+            commands.add(() -> amounts.forEach((id, amount) -> {
+                reserved.merge(id, -amount, SaleIngestionServiceImpl::sumOrRemove);
+                available.computeIfPresent(id, (productId, current) -> current + amount);
+            }));
+        }
+
+        private void run() {
+            var refreshedAt = System.nanoTime();
+
+            while (active || !commands.isEmpty()) {
+                try {
+                    var command = commands.poll(Math.min(200, refreshInterval.toMillis()), TimeUnit.MILLISECONDS);
+
+                    if (command != null) {
+                        command.run();
+                    }
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+
+                if (System.nanoTime() - refreshedAt >= refreshInterval.toNanos()) {
+                    available.clear();
+                    refreshedAt = System.nanoTime();
+                }
+            }
+        }
+
+        private void apply(Map<Integer, Integer> amounts) {
+            load(amounts.keySet());
+
+            for (var amount : new TreeMap<>(amounts).entrySet()) {
+                if (available.get(amount.getKey()) < amount.getValue()) {
+                    throw new NotEnoughStockException(String.format("O produto: %s não possui estoque suficiente!", amount.getKey()));
+                }
+            }
+
+            amounts.forEach((id, amount) -> {
+                available.merge(id, -amount, Integer::sum);
+                reserved.merge(id, amount, Integer::sum);
+            });
+        }
+
+        private void load(Set<Integer> productIds) {
+            var missing = productIds.stream().filter(id -> !available.containsKey(id)).toList();
+
+            if (missing.isEmpty()) {
+                return;
+            }
+
+            productProvider.findActiveByIds(missing)
+                    .forEach(product -> available.put(product.getId(), product.getAmount() - reserved.getOrDefault(product.getId(), 0)));
+
+            for (Integer id : missing) {
+                if (!available.containsKey(id)) {
+                    throw new ModelNotFoundException(String.format("O produto: %s não foi encontrado!", id));
+                }
+            }
+        }
+    }
+}
@@ -1,74 +1,128 @@
 package com.todev.pdv.core.services.impl;
 
+import com.todev.pdv.common.collections.IntHashSet;
+import com.todev.pdv.common.dtos.CursorPage;
+import com.todev.pdv.common.dtos.SaleBulkRequest;
 import com.todev.pdv.common.dtos.SaleDetailsResponse;
 import com.todev.pdv.common.dtos.SaleRequest;
 import com.todev.pdv.common.dtos.SaleResponse;
 import com.todev.pdv.common.mappers.contracts.ModelMapper;
+import com.todev.pdv.common.paginators.contracts.CursorPaginator;
+import com.todev.pdv.common.readers.contracts.SaleReader;
 import com.todev.pdv.core.exceptions.DuplicatedItemException;
-import com.todev.pdv.core.exceptions.NotEnoughStockException;
+import com.todev.pdv.core.exceptions.InvalidPayloadException;
+import com.todev.pdv.core.exceptions.ModelNotFoundException;
+import com.todev.pdv.core.models.IdempotencyKey;
+import com.todev.pdv.core.models.Money;
 import com.todev.pdv.core.models.Product;
+import com.todev.pdv.core.models.Sale;
 import com.todev.pdv.core.models.SaleItem;
+import com.todev.pdv.core.providers.contracts.IdempotencyKeyProvider;
 import com.todev.pdv.core.providers.contracts.ProductProvider;
 import com.todev.pdv.core.providers.contracts.SaleItemProvider;
 import com.todev.pdv.core.providers.contracts.SaleProvider;
+import com.todev.pdv.core.providers.contracts.SaleRollupProvider;
 import com.todev.pdv.core.providers.contracts.UserProvider;
+import com.todev.pdv.core.services.contracts.ReportCacheService;
 import com.todev.pdv.core.services.contracts.SaleService;
+import com.todev.pdv.core.strategies.contracts.StockMutationStrategy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.springframework.transaction.annotation.Isolation.READ_COMMITTED;
 
 @Service
 @RequiredArgsConstructor
 public class SaleServiceImpl implements SaleService {
+    private static final int MAX_BULK_SALES = 1000;
     private final SaleProvider saleProvider;
     private final SaleItemProvider saleItemProvider;
     private final ProductProvider productProvider;
     private final UserProvider userProvider;
+    private final IdempotencyKeyProvider idempotencyKeyProvider;
+    private final SaleRollupProvider saleRollupProvider;
+    private final StockMutationStrategy stockMutationStrategy;
+    private final ReportCacheService reportCacheService;
+    private final CursorPaginator cursorPaginator;
     private final ModelMapper modelMapper;
+    private final SaleReader saleReader;
 
-    @Transactional
+    @Transactional(isolation = READ_COMMITTED)
     @Override
     public SaleResponse save(String onlineUser, SaleRequest requestDTO) {
-        var sale = modelMapper.toModel(requestDTO);
-        var user = userProvider.findActiveByLogin(onlineUser);
-        var items = requestDTO.items().stream().map(modelMapper::toModel).toList();
-        var total = 0.0;
+        return create(onlineUser, requestDTO, false);
+    }
 
-        if (hasDuplicatedProductIds(items)) {
-            throw new DuplicatedItemException("A venda não pode ter itens duplicados!");
-        }
+    @Transactional(isolation = READ_COMMITTED)
+    @Override
+    public SaleResponse save(String onlineUser, String idempotencyKey, SaleRequest requestDTO) {
+        var sale = save(onlineUser, requestDTO);
+        idempotencyKeyProvider.save(new IdempotencyKey(null, onlineUser, idempotencyKey, requestDTO.digest(), sale.id(), LocalDateTime.now()));
+        return sale;
+    }
 
-        sale.setUserId(user.getId());
-        sale.setTotal(total);
-        sale.setCreatedAt(LocalDateTime.now());
-        saleProvider.save(sale);
+    @Transactional(isolation = READ_COMMITTED)
+    @Override
+    public SaleResponse saveReserved(String onlineUser, SaleRequest requestDTO) {
+        return create(onlineUser, requestDTO, true);
+    }
 
-        for (SaleItem item : items) {
-            var product = productProvider.findActiveById(item.getProductId());
+    @Transactional(isolation = READ_COMMITTED)
+    @Override
+    public SaleResponse saveReserved(String onlineUser, String idempotencyKey, SaleRequest requestDTO) {
+        var sale = saveReserved(onlineUser, requestDTO);
+        idempotencyKeyProvider.save(new IdempotencyKey(null, onlineUser, idempotencyKey, requestDTO.digest(), sale.id(), LocalDateTime.now()));
+        return sale;
+    }
 
-            if (item.getAmount() > product.getAmount()) {
-                throw new NotEnoughStockException(String.format("O produto: %s não possui estoque suficiente!", product.getId()));
+    @Transactional(isolation = READ_COMMITTED)
+    @Override
+    public SaleResponse saveWholesale(String onlineUser, InputStream inputStream) {
+        try (var stream = saleReader.open(inputStream)) {
+            var sale = modelMapper.toModel(stream.header());
+            var user = userProvider.findActiveByLogin(onlineUser);
+            var productIds = new IntHashSet();
+            var createdAt = LocalDateTime.now();
+            var total = 0L;
+
+            sale.setUserId(user.getId());
+            sale.setTotal(Money.ZERO);
+            sale.setCreatedAt(createdAt);
+            saleProvider.save(sale);
+
+            while (stream.hasNext()) {
+                var items = stream.next().stream().map(modelMapper::toModel).toList();
+                items.forEach(item -> checkDuplicated(productIds, item));
+
+                var products = findProductsOf(items);
+
+                for (SaleItem item : items) {
+                    var product = products.get(item.getProductId());
+                    total = Math.addExact(total, Money.times(product.getPrice().cents(), item.getAmount()));
+                    item.setSaleId(sale.getId());
+                    item.setCreatedAt(createdAt);
+                    item.setPrice(product.getPrice());
+                }
+
+                stockMutationStrategy.decrease(amountsOf(items));
+                saleItemProvider.saveAll(items);
             }
 
-            total += item.getAmount() * product.getPrice();
-            product.setAmount(product.getAmount() - item.getAmount());
-            item.setSaleId(sale.getId());
-            item.setCreatedAt(LocalDateTime.now());
-            item.setPrice(product.getPrice());
-            productProvider.save(product);
-            saleItemProvider.save(item);
+            sale.setTotal(Money.ofCents(total));
+            saleProvider.save(sale);
+            saleRollupProvider.add(sale);
+            return modelMapper.toDTO(sale);
         }
-
-        sale.setTotal(total);
-        saleProvider.save(sale);
-
-        return modelMapper.toDTO(sale);
     }
 
     @Override
@@ -83,6 +137,16 @@ public class SaleServiceImpl implements SaleService {
         return sales.map(modelMapper::toDTO);
     }
 
+    @Override
+    public CursorPage<SaleResponse> findActive(String cursor, Integer size) {
+        return cursorPaginator.page(cursor, size, Integer.MAX_VALUE, saleProvider::findActiveBefore, Sale::getId, modelMapper::toDTO);
+    }
+
+    @Override
+    public CursorPage<SaleResponse> findInactive(String cursor, Integer size) {
+        return cursorPaginator.page(cursor, size, Integer.MAX_VALUE, saleProvider::findInactiveBefore, Sale::getId, modelMapper::toDTO);
+    }
+
     @Override
     public List<SaleResponse> findActiveByDate(LocalDateTime date) {
         var start = date.withHour(0).withMinute(0).withSecond(0);
@@ -113,76 +177,170 @@ public class SaleServiceImpl implements SaleService {
 
     @Override
     public SaleDetailsResponse details(Integer id) {
-        var sale = saleProvider.findById(id);
-        var user = userProvider.findById(sale.getUserId());
-        var items = saleItemProvider.findBySaleId(sale.getId());
-        var products = new ArrayList<Product>();
-
-        items.forEach(item -> {
-            var product = productProvider.findById(item.getProductId());
-            products.add(product);
-        });
-
-        return modelMapper.toDTO(user, items, products);
+        return saleProvider.findDetailsById(id);
     }
 
-    @Transactional
+    @Transactional(isolation = READ_COMMITTED)
     @Override
     public void delete(Integer id) {
         var sale = saleProvider.findActiveById(id);
         var saleItems = saleItemProvider.findBySaleId(sale.getId());
+        var deletedAt = LocalDateTime.now();
 
-        saleItems.forEach(item -> {
-            var product = productProvider.findById(item.getProductId());
-            product.setAmount(product.getAmount() + item.getAmount());
-            item.setDeletedAt(LocalDateTime.now());
+        stockMutationStrategy.increase(amountsOf(saleItems));
 
-            productProvider.save(product);
-            saleItemProvider.save(item);
-        });
+        saleItems.forEach(item -> item.setDeletedAt(deletedAt));
+        saleItemProvider.saveAll(saleItems);
 
-        sale.setDeletedAt(LocalDateTime.now());
+        sale.setDeletedAt(deletedAt);
         saleProvider.save(sale);
+        saleRollupProvider.subtract(sale);
+        reportCacheService.evictSalesReport(sale.getCreatedAt().toLocalDate());
     }
 
-    @Transactional
+    @Transactional(isolation = READ_COMMITTED)
     @Override
     public void reactivate(Integer id) {
         var sale = saleProvider.findInactiveById(id);
         var saleItems = saleItemProvider.findBySaleId(sale.getId());
 
-        saleItems.forEach(item -> {
-            var product = productProvider.findById(item.getProductId());
+        stockMutationStrategy.decrease(amountsOf(saleItems));
 
-            if (item.getAmount() > product.getAmount()) {
-                throw new NotEnoughStockException(String.format("O produto: %s não possui estoque suficiente!", product.getId()));
-            }
+        saleItems.forEach(item -> item.setDeletedAt(null));
+        saleItemProvider.saveAll(saleItems);
 
-            product.setAmount(product.getAmount() - item.getAmount());
-            productProvider.save(product);
+        sale.setDeletedAt(null);
+        saleProvider.save(sale);
+        saleRollupProvider.add(sale);
+        reportCacheService.evictSalesReport(sale.getCreatedAt().toLocalDate());
+    }
 
-            item.setDeletedAt(null);
-            saleItemProvider.save(item);
-        });
+    @Transactional(isolation = READ_COMMITTED)
+    @Override
+    public void deleteAll(SaleBulkRequest requestDTO) {
+        var saleIds = hasIds(requestDTO)
+                ? saleProvider.lockActiveIds(requestDTO.ids())
+                : saleProvider.lockActiveIdsByUserAndDate(requestDTO.userId(), requestDTO.start(), requestDTO.end(), MAX_BULK_SALES + 1);
+        checkBulkSize(saleIds);
+
+        if (saleIds.isEmpty()) {
+            return;
+        }
 
-        sale.setDeletedAt(null);
+        var deletedAt = LocalDateTime.now();
+        stockMutationStrategy.increase(saleItemProvider.sumAmountsBySaleIds(saleIds));
+        saleItemProvider.updateDeletedAtBySaleIds(saleIds, deletedAt);
+        saleProvider.updateDeletedAt(saleIds, deletedAt);
+        saleRollupProvider.subtractBySaleIds(saleIds);
+        reportCacheService.evictSalesReports();
+    }
 
+    @Transactional(isolation = READ_COMMITTED)
+    @Override
+    public void reactivateAll(SaleBulkRequest requestDTO) {
+        var saleIds = hasIds(requestDTO)
+                ? saleProvider.lockInactiveIds(requestDTO.ids())
+                : saleProvider.lockInactiveIdsByUserAndDate(requestDTO.userId(), requestDTO.start(), requestDTO.end(), MAX_BULK_SALES + 1);
+        checkBulkSize(saleIds);
+
+        if (saleIds.isEmpty()) {
+            return;
+        }
+
+        stockMutationStrategy.decrease(saleItemProvider.sumAmountsBySaleIds(saleIds));
+        saleItemProvider.updateDeletedAtBySaleIds(saleIds, null);
+        saleProvider.updateDeletedAt(saleIds, null);
+        saleRollupProvider.addBySaleIds(saleIds);
+        reportCacheService.evictSalesReports();
+    }
+
+    @Transactional
+    @Override
+    public void rebuildRollup() {
+        saleRollupProvider.rebuild();
+    }
+
+    private SaleResponse create(String onlineUser, SaleRequest requestDTO, boolean reserved) {
+        var sale = modelMapper.toModel(requestDTO);
+        var user = userProvider.findActiveByLogin(onlineUser);
+        var items = requestDTO.items().stream().map(modelMapper::toModel).toList();
+        var total = 0L;
+
+        var productIds = new IntHashSet(items.size());
+        items.forEach(item -> checkDuplicated(productIds, item));
+
+        var products = findProductsOf(items);
+        var createdAt = LocalDateTime.now();
+
+        for (SaleItem item : items) {
+            var product = products.get(item.getProductId());
+            total = Math.addExact(total, Money.times(product.getPrice().cents(), item.getAmount()));
+            item.setCreatedAt(createdAt);
+            item.setPrice(product.getPrice());
+        }
+
+        if (reserved) {
+            productProvider.decreaseStock(amountsOf(items));
+        } else {
+            stockMutationStrategy.decrease(amountsOf(items));
+        }
+
+        sale.setUserId(user.getId());
+        sale.setTotal(Money.ofCents(total));
+        sale.setCreatedAt(createdAt);
         saleProvider.save(sale);
+        saleRollupProvider.add(sale);
+
+        items.forEach(item -> item.setSaleId(sale.getId()));
+        saleItemProvider.saveAll(items);
+
+        return modelMapper.toDTO(sale);
     }
 
-    private boolean hasDuplicatedProductIds(List<SaleItem> items) {
-        for (int i = 0; i < items.size(); i++) {
-            var productId = items.get(i).getProductId();
+    private boolean hasIds(SaleBulkRequest requestDTO) {
+        if (requestDTO.ids() != null && !requestDTO.ids().isEmpty()) {
+            return true;
+        }
 
-            for (int j = i + 1; j < items.size(); j++) {
+        if (requestDTO.userId() == null || requestDTO.start() == null || requestDTO.end() == null) {
+            throw new InvalidPayloadException("Os argumentos recebidos são inválidos ou estão ausentes!",
+                    Set.of("Informe os IDs das vendas ou o usuário e o período!"));
+        }
 
-                if (productId.equals(items.get(j).getProductId())) {
-                    return true;
-                }
+        return false;
+    }
 
+    private void checkBulkSize(List<Integer> saleIds) {
+        if (saleIds.size() > MAX_BULK_SALES) {
+            throw new InvalidPayloadException("Os argumentos recebidos são inválidos ou estão ausentes!",
+                    Set.of("A operação deve conter no máximo mil vendas!"));
+        }
+    }
+
+    private Map<Integer, Product> findProductsOf(List<SaleItem> items) {
+        var ids = items.stream().map(SaleItem::getProductId).toList();
+        var products = new HashMap<Integer, Product>();
+
+        productProvider.findActiveByIds(ids).forEach(product -> products.put(product.getId(), product));
+
+        for (Integer id : ids) {
+            if (!products.containsKey(id)) {
+                throw new ModelNotFoundException(String.format("O produto: %s não foi encontrado!", id));
             }
         }
 
-        return false;
+        return products;
+    }
+
+    private Map<Integer, Integer> amountsOf(List<SaleItem> items) {
+        var amounts = new HashMap<Integer, Integer>();
+        items.forEach(item -> amounts.merge(item.getProductId(), item.getAmount(), Integer::sum));
+        return amounts;
+    }
+
+    private void checkDuplicated(IntHashSet productIds, SaleItem item) {
+        if (!productIds.add(item.getProductId())) {
+            throw new DuplicatedItemException("A venda não pode ter itens duplicados!");
+        }
     }
 }
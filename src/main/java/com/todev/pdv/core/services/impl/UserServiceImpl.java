@@ -1,13 +1,17 @@
 package com.todev.pdv.core.services.impl;
 
+import com.todev.pdv.common.dtos.CursorPage;
 import com.todev.pdv.common.dtos.UserRequest;
 import com.todev.pdv.common.dtos.UserResponse;
 import com.todev.pdv.common.mappers.contracts.ModelMapper;
+import com.todev.pdv.common.paginators.contracts.CursorPaginator;
 import com.todev.pdv.core.enums.Role;
 import com.todev.pdv.core.exceptions.ConstraintConflictException;
 import com.todev.pdv.core.exceptions.DependencyInUseException;
 import com.todev.pdv.core.exceptions.PermissionDeniedException;
+import com.todev.pdv.core.models.User;
 import com.todev.pdv.core.providers.contracts.UserProvider;
+import com.todev.pdv.core.services.contracts.ReportCacheService;
 import com.todev.pdv.core.services.contracts.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -23,6 +27,8 @@ import java.time.LocalDateTime;
 public class UserServiceImpl implements UserService {
     private final UserProvider userProvider;
     private final PasswordEncoder BCryptEncoder;
+    private final ReportCacheService reportCacheService;
+    private final CursorPaginator cursorPaginator;
     private final ModelMapper modelMapper;
 
     @Transactional
@@ -68,6 +74,32 @@ public class UserServiceImpl implements UserService {
         return users.map(modelMapper::toDTO);
     }
 
+    @Override
+    public CursorPage<UserResponse> findActive(String cursor, Integer size) {
+        return cursorPaginator.page(cursor, size, 0, userProvider::findActiveAfter, User::getId, modelMapper::toDTO);
+    }
+
+    @Override
+    public CursorPage<UserResponse> findInactive(String cursor, Integer size) {
+        return cursorPaginator.page(cursor, size, 0, userProvider::findInactiveAfter, User::getId, modelMapper::toDTO);
+    }
+
+    @Override
+    public CursorPage<UserResponse> findActiveByNameContaining(String name, String cursor, Integer size) {
+        return cursorPaginator.page(cursor, size, 0,
+                (id, limit) -> userProvider.findActiveByNameContainingAfter(name, id, limit),
+                User::getId,
+                modelMapper::toDTO);
+    }
+
+    @Override
+    public CursorPage<UserResponse> findInactiveByNameContaining(String name, String cursor, Integer size) {
+        return cursorPaginator.page(cursor, size, 0,
+                (id, limit) -> userProvider.findInactiveByNameContainingAfter(name, id, limit),
+                User::getId,
+                modelMapper::toDTO);
+    }
+
     @Override
     public UserResponse findActiveById(Integer id) {
         var user = userProvider.findActiveById(id);
@@ -90,11 +122,18 @@ public class UserServiceImpl implements UserService {
             throw new ConstraintConflictException(String.format("O login: %s já está em uso!", newUser.getLogin()));
         }
 
+        var renamed = !savedUser.getName().equals(newUser.getName());
+
         savedUser.setName(newUser.getName());
         savedUser.setLogin(newUser.getLogin());
         savedUser.setPassword(BCryptEncoder.encode(newUser.getPassword()));
         savedUser.setRole(newUser.getRole());
         userProvider.save(savedUser);
+
+        if (renamed) {
+            reportCacheService.evictSalesReports();
+        }
+
         return modelMapper.toDTO(savedUser);
     }
 
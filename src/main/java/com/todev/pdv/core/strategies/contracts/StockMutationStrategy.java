@@ -0,0 +1,11 @@
+package com.todev.pdv.core.strategies.contracts;
+
+import java.util.Map;
+
+public interface StockMutationStrategy {
+    void decrease(Map<Integer, Integer> amounts);
+
+    void increase(Map<Integer, Integer> amounts);
+
+    void replace(Integer productId, Integer amount);
+}
@@ -0,0 +1,71 @@
+package com.todev.pdv.core.strategies.impl;
+
+import com.todev.pdv.core.exceptions.NotEnoughStockException;
+import com.todev.pdv.core.strategies.contracts.StockMutationStrategy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+@ConditionalOnProperty(name = "pdv.stock.strategy", havingValue = "atomic", matchIfMissing = true)
+@RequiredArgsConstructor
+public class AtomicStockMutationStrategy implements StockMutationStrategy {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private static final String DECREASE = """
+            UPDATE products SET amount = amount - :amount, version = version + 1
+            WHERE id = :id AND amount >= :amount""";
+    private static final String INCREASE = """
+            UPDATE products SET amount = amount + CASE id %s END, version = version + 1
+            WHERE id IN (:ids)""";
+    private static final String REPLACE = """
+            UPDATE products SET amount = :amount, version = version + 1
+            WHERE id = :id""";
+
+    @Override
+    public void decrease(Map<Integer, Integer> amounts) {
+        var productIds = amounts.keySet().stream().sorted().toList();
+        var counts = jdbcTemplate.batchUpdate(DECREASE, toBatch(productIds, amounts));
+
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                throw new NotEnoughStockException(String.format("O produto: %s não possui estoque suficiente!", productIds.get(i)));
+            }
+        }
+    }
+
+    @Override
+    public void increase(Map<Integer, Integer> amounts) {
+        if (amounts.isEmpty()) {
+            return;
+        }
+
+        var productIds = amounts.keySet().stream().sorted().toList();
+        var cases = new StringBuilder();
+        var parameters = new MapSqlParameterSource("ids", productIds);
+
+        for (int i = 0; i < productIds.size(); i++) {
+            cases.append("WHEN :id").append(i).append(" THEN :amount").append(i).append(' ');
+            parameters.addValue("id" + i, productIds.get(i)).addValue("amount" + i, amounts.get(productIds.get(i)));
+        }
+
+        jdbcTemplate.update(String.format(INCREASE, cases), parameters);
+    }
+
+    @Override
+    public void replace(Integer productId, Integer amount) {
+        jdbcTemplate.update(REPLACE, Map.of("id", productId, "amount", amount));
+    }
+
+    private MapSqlParameterSource[] toBatch(List<Integer> productIds, Map<Integer, Integer> amounts) {
+        return productIds.stream()
+                .map(id -> new MapSqlParameterSource()
+                        .addValue("id", id)
+                        .addValue("amount", amounts.get(id)))
+                .toArray(MapSqlParameterSource[]::new);
+    }
+}
@@ -0,0 +1,212 @@
+package com.todev.pdv.core.strategies.impl;
+
+import com.todev.pdv.core.exceptions.NotEnoughStockException;
+import com.todev.pdv.core.repositories.ProductRepository;
+import com.todev.pdv.core.strategies.contracts.StockMutationStrategy;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "pdv.stock.strategy", havingValue = "ledger")
+public class LedgerStockMutationStrategy implements StockMutationStrategy {
+    private static final int STRIPES = 64;
+    private static final String FLUSH = """
+            UPDATE products SET amount = amount + :amount, version = version + 1
+            WHERE id = :id""";
+    private final ProductRepository productRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    private final Map<Integer, Integer> available = new ConcurrentHashMap<>();
+    private final Map<Integer, Integer> pending = new ConcurrentHashMap<>();
+
+    public LedgerStockMutationStrategy(ProductRepository productRepository, NamedParameterJdbcTemplate jdbcTemplate) {
+        this.productRepository = productRepository;
+        this.jdbcTemplate = jdbcTemplate;
+
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        productRepository.findAll().forEach(product -> available.putIfAbsent(product.getId(), product.getAmount()));
+        log.info("Stock ledger rebuilt with {} products", available.size());
+    }
+
+    @Override
+    public void decrease(Map<Integer, Integer> amounts) {
+        var locked = lock(amounts.keySet());
+
+        try {
+            for (var amount : new TreeMap<>(amounts).entrySet()) {
+                if (current(amount.getKey()) < amount.getValue()) {
+                    throw new NotEnoughStockException(String.format("O produto: %s não possui estoque suficiente!", amount.getKey()));
+                }
+            }
+
+            amounts.forEach((id, amount) -> available.merge(id, -amount, Integer::sum));
+        } finally {
+            unlock(locked);
+        }
+
+        afterCompletion(
+                () -> amounts.forEach((id, amount) -> pending.merge(id, -amount, this::sumOrRemove)),
+                () -> amounts.forEach((id, amount) -> available.merge(id, amount, Integer::sum))
+        );
+    }
+
+    @Override
+    public void increase(Map<Integer, Integer> amounts) {
+        var locked = lock(amounts.keySet());
+
+        try {
+            amounts.keySet().forEach(this::current);
+        } finally {
+            unlock(locked);
+        }
+
+        afterCompletion(
+                () -> amounts.forEach((id, amount) -> {
+                    available.merge(id, amount, Integer::sum);
+                    pending.merge(id, amount, this::sumOrRemove);
+                }),
+                () -> {
+                }
+        );
+    }
+
+    @Override
+    public void replace(Integer productId, Integer amount) {
+        var locked = lock(List.of(productId));
+        int delta;
+
+        try {
+            delta = amount - current(productId);
+
+            if (delta < 0) {
+                available.merge(productId, delta, Integer::sum);
+            }
+        } finally {
+            unlock(locked);
+        }
+
+        if (delta == 0) {
+            return;
+        }
+
+        if (delta > 0) {
+            increase(Map.of(productId, delta));
+            return;
+        }
+
+        afterCompletion(
+                () -> pending.merge(productId, delta, this::sumOrRemove),
+                () -> available.merge(productId, -delta, Integer::sum)
+        );
+    }
+
+    @Scheduled(fixedDelayString = "${pdv.stock.ledger.flush-interval:500}")
+    @PreDestroy
+    public void flush() {
+        var drained = new TreeMap<Integer, Integer>();
+
+        for (Integer id : pending.keySet()) {
+            var delta = pending.remove(id);
+
+            if (delta != null) {
+                drained.put(id, delta);
+            }
+        }
+
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        var batch = drained.entrySet().stream()
+                .map(delta -> new MapSqlParameterSource()
+                        .addValue("id", delta.getKey())
+                        .addValue("amount", delta.getValue()))
+                .toArray(MapSqlParameterSource[]::new);
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH, batch);
+        } catch (DataAccessException exception) {
+            drained.forEach((id, delta) -> pending.merge(id, delta, this::sumOrRemove));
+            log.error("Não foi possível sincronizar o estoque: {}", exception.getMessage());
+        }
+    }
+
+    private int current(Integer productId) {
+        var amount = available.get(productId);
+
+        if (amount == null) {
+            amount = productRepository.findById(productId)
+                    .map(product -> available.computeIfAbsent(productId, id -> product.getAmount()))
+                    .orElse(0);
+        }
+
+        return amount;
+    }
+
+    private int[] lock(Collection<Integer> productIds) {
+        var indexes = productIds.stream()
+                .mapToInt(id -> Math.floorMod(id, STRIPES))
+                .distinct()
+                .sorted()
+                .toArray();
+
+        for (int index : indexes) {
+            stripes[index].lock();
+        }
+
+        return indexes;
+    }
+
+    private void unlock(int[] indexes) {
+        for (int i = indexes.length - 1; i >= 0; i--) {
+            stripes[indexes[i]].unlock();
+        }
+    }
+
+    private Integer sumOrRemove(Integer current, Integer delta) {
+        var sum = current + delta;
+        return sum == 0 ? null : sum;
+    }
+
+    private void afterCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,96 @@
+package com.todev.pdv.core.strategies.impl;
+
+import com.todev.pdv.core.exceptions.NotEnoughStockException;
+import com.todev.pdv.core.strategies.contracts.StockMutationStrategy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Component
+@ConditionalOnProperty(name = "pdv.stock.strategy", havingValue = "optimistic")
+public class OptimisticStockMutationStrategy implements StockMutationStrategy {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Integer maxAttempts;
+    private static final String SELECT = "SELECT id, amount, version FROM products WHERE id IN (:ids) ORDER BY id";
+    private static final String UPDATE = """
+            UPDATE products SET amount = :amount, version = version + 1
+            WHERE id = :id AND version = :version""";
+    private static final String REPLACE = """
+            UPDATE products SET amount = :amount, version = version + 1
+            WHERE id = :id""";
+
+    public OptimisticStockMutationStrategy(NamedParameterJdbcTemplate jdbcTemplate,
+                                           @Value("${pdv.stock.max-attempts:5}") Integer maxAttempts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public void decrease(Map<Integer, Integer> amounts) {
+        apply(amounts, -1);
+    }
+
+    @Override
+    public void increase(Map<Integer, Integer> amounts) {
+        apply(amounts, 1);
+    }
+
+    @Override
+    public void replace(Integer productId, Integer amount) {
+        jdbcTemplate.update(REPLACE, Map.of("id", productId, "amount", amount));
+    }
+
+    private void apply(Map<Integer, Integer> amounts, int signal) {
+        var pending = new TreeMap<>(amounts);
+
+        for (int attempt = 0; attempt < maxAttempts && !pending.isEmpty(); attempt++) {
+            var stocks = findStocks(List.copyOf(pending.keySet()));
+            var batch = new MapSqlParameterSource[stocks.size()];
+
+            for (int i = 0; i < stocks.size(); i++) {
+                var stock = stocks.get(i);
+                var amount = stock.amount() + signal * pending.get(stock.id());
+
+                if (amount < 0) {
+                    throw new NotEnoughStockException(String.format("O produto: %s não possui estoque suficiente!", stock.id()));
+                }
+
+                batch[i] = new MapSqlParameterSource()
+                        .addValue("id", stock.id())
+                        .addValue("amount", amount)
+                        .addValue("version", stock.version());
+            }
+
+            var counts = jdbcTemplate.batchUpdate(UPDATE, batch);
+
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    pending.remove(stocks.get(i).id());
+                }
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            throw new OptimisticLockingFailureException("O estoque foi alterado por outra operação, tente novamente!");
+        }
+    }
+
+    private List<ProductStock> findStocks(List<Integer> productIds) {
+        return jdbcTemplate.query(SELECT, Map.of("ids", productIds),
+                (resultSet, row) -> new ProductStock(
+                        resultSet.getInt("id"),
+                        resultSet.getInt("amount"),
+                        resultSet.getInt("version")
+                ));
+    }
+
+    private record ProductStock(Integer id, Integer amount, Integer version) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.todev.pdv.core.strategies.impl;
+
+import com.todev.pdv.core.exceptions.NotEnoughStockException;
+import com.todev.pdv.core.strategies.contracts.StockMutationStrategy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@ConditionalOnProperty(name = "pdv.stock.strategy", havingValue = "pessimistic")
+@RequiredArgsConstructor
+public class PessimisticStockMutationStrategy implements StockMutationStrategy {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private static final String LOCK = "SELECT id, amount FROM products WHERE id IN (:ids) ORDER BY id FOR UPDATE";
+    private static final String UPDATE = """
+            UPDATE products SET amount = amount + :amount, version = version + 1
+            WHERE id = :id""";
+    private static final String REPLACE = """
+            UPDATE products SET amount = :amount, version = version + 1
+            WHERE id = :id""";
+
+    @Override
+    public void decrease(Map<Integer, Integer> amounts) {
+        var productIds = amounts.keySet().stream().sorted().toList();
+        var stock = lock(productIds);
+
+        for (Integer id : productIds) {
+            if (stock.getOrDefault(id, 0) < amounts.get(id)) {
+                throw new NotEnoughStockException(String.format("O produto: %s não possui estoque suficiente!", id));
+            }
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE, toBatch(productIds, amounts, -1));
+    }
+
+    @Override
+    public void increase(Map<Integer, Integer> amounts) {
+        var productIds = amounts.keySet().stream().sorted().toList();
+        lock(productIds);
+        jdbcTemplate.batchUpdate(UPDATE, toBatch(productIds, amounts, 1));
+    }
+
+    @Override
+    public void replace(Integer productId, Integer amount) {
+        lock(List.of(productId));
+        jdbcTemplate.update(REPLACE, Map.of("id", productId, "amount", amount));
+    }
+
+    private Map<Integer, Integer> lock(List<Integer> productIds) {
+        var stock = new HashMap<Integer, Integer>();
+        jdbcTemplate.query(LOCK, Map.of("ids", productIds), resultSet -> {
+            stock.put(resultSet.getInt("id"), resultSet.getInt("amount"));
+        });
+        return stock;
+    }
+
+    private MapSqlParameterSource[] toBatch(List<Integer> productIds, Map<Integer, Integer> amounts, int signal) {
+        return productIds.stream()
+                .map(id -> new MapSqlParameterSource()
+                        .addValue("id", id)
+                        .addValue("amount", signal * amounts.get(id)))
+                .toArray(MapSqlParameterSource[]::new);
+    }
+}
@@ -0,0 +1,23 @@
+package com.todev.pdv.web.commands;
+
+import com.todev.pdv.core.services.contracts.SaleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "pdv.sale.rollup.rebuild", havingValue = "true")
+public class RollupRebuildCommand implements CommandLineRunner {
+    private final SaleService saleService;
+
+    @Override
+    public void run(String... args) {
+        var start = System.nanoTime();
+        saleService.rebuildRollup();
+        log.info("Sales daily rollup rebuilt in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+}
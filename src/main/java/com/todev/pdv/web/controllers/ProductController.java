@@ -1,5 +1,8 @@
 package com.todev.pdv.web.controllers;
 
+import com.todev.pdv.common.dtos.CursorPage;
+import com.todev.pdv.common.dtos.ProductBarcodeRequest;
+import com.todev.pdv.common.dtos.ProductBarcodeResponse;
 import com.todev.pdv.common.dtos.ProductRequest;
 import com.todev.pdv.common.dtos.ProductResponse;
 import com.todev.pdv.core.services.contracts.ProductService;
@@ -11,6 +14,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 import static org.springframework.http.HttpStatus.*;
 
 @RestController
@@ -54,6 +59,38 @@ public class ProductController {
         return new ResponseEntity<>(products, OK);
     }
 
+    @GetMapping("active/cursor")
+    public ResponseEntity<CursorPage<ProductResponse>> findActive(@RequestParam(required = false) String cursor,
+                                                                  @RequestParam(required = false) Integer size) {
+        var products = productService.findActive(cursor, size);
+        return new ResponseEntity<>(products, OK);
+    }
+
+    @PreAuthorize("hasAnyAuthority('ADMIN','MANAGER')")
+    @GetMapping("inactive/cursor")
+    public ResponseEntity<CursorPage<ProductResponse>> findInactive(@RequestParam(required = false) String cursor,
+                                                                    @RequestParam(required = false) Integer size) {
+        var products = productService.findInactive(cursor, size);
+        return new ResponseEntity<>(products, OK);
+    }
+
+    @GetMapping("active/search/cursor")
+    public ResponseEntity<CursorPage<ProductResponse>> findActiveByDescriptionContaining(@RequestParam String description,
+                                                                                         @RequestParam(required = false) String cursor,
+                                                                                         @RequestParam(required = false) Integer size) {
+        var products = productService.findActiveByDescriptionContaining(description, cursor, size);
+        return new ResponseEntity<>(products, OK);
+    }
+
+    @PreAuthorize("hasAnyAuthority('ADMIN','MANAGER')")
+    @GetMapping("inactive/search/cursor")
+    public ResponseEntity<CursorPage<ProductResponse>> findInactiveByDescriptionContaining(@RequestParam String description,
+                                                                                           @RequestParam(required = false) String cursor,
+                                                                                           @RequestParam(required = false) Integer size) {
+        var products = productService.findInactiveByDescriptionContaining(description, cursor, size);
+        return new ResponseEntity<>(products, OK);
+    }
+
     @GetMapping("active/{id}")
     public ResponseEntity<ProductResponse> findActiveById(@PathVariable Integer id) {
         var product = productService.findActiveById(id);
@@ -67,6 +104,34 @@ public class ProductController {
         return new ResponseEntity<>(product, OK);
     }
 
+    @GetMapping("barcode/{code}")
+    public ResponseEntity<ProductResponse> findActiveByBarcode(@PathVariable String code) {
+        var product = productService.findActiveByBarcode(code);
+        return new ResponseEntity<>(product, OK);
+    }
+
+    @PreAuthorize("hasAnyAuthority('ADMIN','MANAGER')")
+    @GetMapping("{id}/barcodes")
+    public ResponseEntity<List<ProductBarcodeResponse>> findBarcodes(@PathVariable Integer id) {
+        var barcodes = productService.findBarcodes(id);
+        return new ResponseEntity<>(barcodes, OK);
+    }
+
+    @PreAuthorize("hasAnyAuthority('ADMIN','MANAGER')")
+    @PostMapping("{id}/barcodes")
+    public ResponseEntity<ProductBarcodeResponse> saveBarcode(@PathVariable Integer id,
+                                                              @RequestBody @Valid ProductBarcodeRequest requestDTO) {
+        var barcode = productService.saveBarcode(id, requestDTO);
+        return new ResponseEntity<>(barcode, CREATED);
+    }
+
+    @PreAuthorize("hasAnyAuthority('ADMIN','MANAGER')")
+    @DeleteMapping("{id}/barcodes/{code}")
+    public ResponseEntity<Void> deleteBarcode(@PathVariable Integer id, @PathVariable String code) {
+        productService.deleteBarcode(id, code);
+        return new ResponseEntity<>(NO_CONTENT);
+    }
+
     @PreAuthorize("hasAnyAuthority('ADMIN','MANAGER')")
     @PutMapping("{id}")
     public ResponseEntity<ProductResponse> update(@PathVariable Integer id, @RequestBody @Valid ProductRequest requestDTO) {
@@ -1,53 +1,257 @@
 package com.todev.pdv.web.controllers;
 
+import com.todev.pdv.common.dtos.LeaderboardResponse;
+import com.todev.pdv.common.dtos.ReportJobRequest;
+import com.todev.pdv.common.dtos.ReportJobResponse;
+import com.todev.pdv.core.enums.ReceiptFormat;
+import com.todev.pdv.core.enums.ReportFormat;
+import com.todev.pdv.core.exceptions.InvalidPayloadException;
+import com.todev.pdv.core.services.contracts.ReportBundleService;
+import com.todev.pdv.core.services.contracts.ReportCacheService;
+import com.todev.pdv.core.services.contracts.ReportExportService;
+import com.todev.pdv.core.services.contracts.ReportJobService;
 import com.todev.pdv.core.services.contracts.ReportService;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static org.springframework.http.HttpHeaders.ACCEPT;
+import static org.springframework.http.HttpStatus.ACCEPTED;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 @RestController
 @RequestMapping("reports")
 @RequiredArgsConstructor
 public class ReportController {
     private final ReportService reportService;
+    private final ReportCacheService reportCacheService;
+    private final ReportJobService reportJobService;
+    private final ReportExportService reportExportService;
+    private final ReportBundleService reportBundleService;
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    private static final MediaType ESC_POS = MediaType.parseMediaType("application/vnd.escpos");
 
     @GetMapping("sale/{saleId}")
-    public void saleReport(@PathVariable Integer saleId, HttpServletResponse response) {
+    public void saleReport(@PathVariable Integer saleId,
+                           @RequestHeader(name = ACCEPT, required = false) String accept,
+                           HttpServletResponse response) throws IOException {
+        var receiptFormat = receiptFormatOf(accept);
+
+        if (receiptFormat != null) {
+            var extension = receiptFormat == ReceiptFormat.TEXT ? ".txt" : ".bin";
+            var contentType = receiptFormat == ReceiptFormat.TEXT ? MediaType.TEXT_PLAIN + ";charset=UTF-8" : ESC_POS.toString();
+            response.setContentType(contentType);
+            response.setHeader("Content-Disposition", "attachment; filename=receipt-" + saleId + extension);
+            reportService.saleReceipt(saleId, receiptFormat, response.getOutputStream());
+            return;
+        }
+
         var headerKey = "Content-Disposition";
         var headerValue = "attachment; filename=report-" + LocalDateTime.now() + ".pdf";
         response.setContentType("application/pdf");
         response.setHeader(headerKey, headerValue);
-        reportService.saleReport(saleId, response);
+        reportService.saleReport(saleId, response.getOutputStream());
     }
 
     @GetMapping("sales/by-date")
-    public void salesReportByDate(@RequestParam LocalDateTime date, HttpServletResponse response) {
+    public void salesReportByDate(@RequestParam LocalDateTime date,
+                                  @RequestHeader(name = ACCEPT, required = false) String accept,
+                                  WebRequest request,
+                                  HttpServletResponse response) throws IOException {
+        var format = formatOf(accept);
+
+        if (format != null) {
+            prepareExport(format, response);
+            reportExportService.salesByDate(date, format, response.getOutputStream());
+            return;
+        }
+
         var headerKey = "Content-Disposition";
         var headerValue = "attachment; filename=report-" + LocalDateTime.now() + ".pdf";
+
+        if (!reportCacheService.isCacheable(date)) {
+            response.setContentType("application/pdf");
+            response.setHeader(headerKey, headerValue);
+            reportService.salesReportByDate(date, response.getOutputStream());
+            return;
+        }
+
+        var report = reportCacheService.salesReportByDate(date);
+
+        if (request.checkNotModified(report.etag())) {
+            return;
+        }
+
         response.setContentType("application/pdf");
         response.setHeader(headerKey, headerValue);
-        reportService.salesReportByDate(date, response);
+        response.setContentLength(report.content().length);
+        response.getOutputStream().write(report.content());
     }
 
     @GetMapping("goods")
-    public void goodsReport(HttpServletResponse response) {
+    public void goodsReport(@RequestHeader(name = ACCEPT, required = false) String accept,
+                            HttpServletResponse response) throws IOException {
+        var format = formatOf(accept);
+
+        if (format != null) {
+            prepareExport(format, response);
+            reportExportService.goods(format, response.getOutputStream());
+            return;
+        }
+
         var headerKey = "Content-Disposition";
         var headerValue = "attachment; filename=report-" + LocalDateTime.now() + ".pdf";
         response.setContentType("application/pdf");
         response.setHeader(headerKey, headerValue);
-        reportService.goodsReport(response);
+        reportService.goodsReport(response.getOutputStream());
     }
 
     @GetMapping("user/{userId}/performance")
     public void performanceReport(@PathVariable Integer userId,
                                   @RequestParam LocalDateTime start,
-                                  HttpServletResponse response) {
+                                  @RequestHeader(name = ACCEPT, required = false) String accept,
+                                  HttpServletResponse response) throws IOException {
+        var format = formatOf(accept);
+
+        if (format != null) {
+            prepareExport(format, response);
+            reportExportService.performance(userId, start, format, response.getOutputStream());
+            return;
+        }
+
         var headerKey = "Content-Disposition";
         var headerValue = "attachment; filename=report-" + LocalDateTime.now() + ".pdf";
         response.setContentType("application/pdf");
         response.setHeader(headerKey, headerValue);
-        reportService.performanceReport(userId, start, response);
+        reportService.performanceReport(userId, start, response.getOutputStream());
+    }
+
+    @PostMapping("jobs")
+    public ResponseEntity<ReportJobResponse> submitJob(Authentication authentication,
+                                                       @RequestBody @Valid ReportJobRequest requestDTO) {
+        var job = reportJobService.submit(authentication.getName(), requestDTO);
+        return new ResponseEntity<>(job, ACCEPTED);
+    }
+
+    @GetMapping("jobs/{job}")
+    public ResponseEntity<ReportJobResponse> findJob(Authentication authentication, @PathVariable String job) {
+        var response = reportJobService.findJob(authentication.getName(), job);
+        return new ResponseEntity<>(response, OK);
+    }
+
+    @GetMapping("jobs/{job}/file")
+    public void downloadJob(Authentication authentication,
+                            @PathVariable String job,
+                            HttpServletResponse response) throws IOException {
+        var file = reportJobService.findFile(authentication.getName(), job);
+        var headerKey = "Content-Disposition";
+        var headerValue = "attachment; filename=report-" + job + ".pdf";
+        response.setContentType("application/pdf");
+        response.setHeader(headerKey, headerValue);
+        response.setContentLengthLong(Files.size(file));
+        Files.copy(file, response.getOutputStream());
+    }
+
+    @GetMapping(value = "leaderboard", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<LeaderboardResponse>> leaderboard(@RequestParam LocalDateTime start,
+                                                                 @RequestParam LocalDateTime end) {
+        checkPeriod(start, end);
+        var leaderboard = reportService.leaderboard(start.toLocalDate(), end.toLocalDate());
+        return new ResponseEntity<>(leaderboard, OK);
+    }
+
+    @GetMapping("leaderboard")
+    public void leaderboardReport(@RequestParam LocalDateTime start,
+                                  @RequestParam LocalDateTime end,
+                                  HttpServletResponse response) throws IOException {
+        checkPeriod(start, end);
+        var headerKey = "Content-Disposition";
+        var headerValue = "attachment; filename=report-" + LocalDateTime.now() + ".pdf";
+        response.setContentType("application/pdf");
+        response.setHeader(headerKey, headerValue);
+        reportService.leaderboardReport(start.toLocalDate(), end.toLocalDate(), response.getOutputStream());
+    }
+
+    @GetMapping("bundles/{day}")
+    public void downloadBundle(@PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate day,
+                               HttpServletResponse response) throws IOException {
+        var bundle = reportBundleService.findBundle(day);
+        var headerKey = "Content-Disposition";
+        var headerValue = "attachment; filename=" + bundle.getFileName();
+        response.setContentType("application/zip");
+        response.setHeader(headerKey, headerValue);
+        response.setContentLengthLong(Files.size(bundle));
+        Files.copy(bundle, response.getOutputStream());
+    }
+
+    private void checkPeriod(LocalDateTime start, LocalDateTime end) {
+        if (end.toLocalDate().isBefore(start.toLocalDate())) {
+            throw new InvalidPayloadException("Os argumentos recebidos são inválidos ou estão ausentes!",
+                    Set.of("A data final deve ser igual ou posterior à data inicial!"));
+        }
+    }
+
+    private ReportFormat formatOf(String accept) {
+        if (accept == null) {
+            return null;
+        }
+
+        for (MediaType mediaType : MediaType.parseMediaTypes(accept)) {
+            if (TEXT_CSV.equalsTypeAndSubtype(mediaType)) {
+                return ReportFormat.CSV;
+            }
+
+            if (MediaType.APPLICATION_NDJSON.equalsTypeAndSubtype(mediaType)) {
+                return ReportFormat.NDJSON;
+            }
+        }
+
+        return null;
+    }
+
+    private ReceiptFormat receiptFormatOf(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return null;
+        }
+
+        var preferred = MediaType.parseMediaTypes(accept).stream()
+                .filter(mediaType -> mediaType.isConcrete() && mediaType.getQualityValue() > 0)
+                .sorted(Comparator.comparingDouble(MediaType::getQualityValue).reversed())
+                .findFirst()
+                .orElse(null);
+
+        if (preferred == null) {
+            return null;
+        }
+
+        if (MediaType.TEXT_PLAIN.equalsTypeAndSubtype(preferred)) {
+            return ReceiptFormat.TEXT;
+        }
+
+        return ESC_POS.equalsTypeAndSubtype(preferred) ? ReceiptFormat.ESC_POS : null;
+    }
+
+    private void prepareExport(ReportFormat format, HttpServletResponse response) {
+        var headerKey = "Content-Disposition";
+        var extension = format == ReportFormat.CSV ? ".csv" : ".ndjson";
+        var headerValue = "attachment; filename=report-" + LocalDateTime.now() + extension;
+        var contentType = format == ReportFormat.CSV ? TEXT_CSV : MediaType.APPLICATION_NDJSON;
+        response.setContentType(contentType + ";charset=UTF-8");
+        response.setHeader(headerKey, headerValue);
     }
 }
@@ -1,9 +1,15 @@
 package com.todev.pdv.web.controllers;
 
+import com.todev.pdv.common.dtos.CursorPage;
+import com.todev.pdv.common.dtos.SaleBulkRequest;
 import com.todev.pdv.common.dtos.SaleDetailsResponse;
 import com.todev.pdv.common.dtos.SaleRequest;
 import com.todev.pdv.common.dtos.SaleResponse;
+import com.todev.pdv.common.dtos.SaleTicketResponse;
+import com.todev.pdv.core.services.contracts.IdempotencyService;
+import com.todev.pdv.core.services.contracts.SaleIngestionService;
 import com.todev.pdv.core.services.contracts.SaleService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -13,23 +19,53 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.springframework.http.HttpStatus.*;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 @RestController
 @RequestMapping("sales")
 @RequiredArgsConstructor
 public class SaleController {
     private final SaleService saleService;
+    private final IdempotencyService idempotencyService;
+    private final SaleIngestionService saleIngestionService;
 
     @PostMapping
-    public ResponseEntity<SaleResponse> save(Authentication authentication, @RequestBody @Valid SaleRequest requestDTO) {
-        var sale = saleService.save(authentication.getName(), requestDTO);
+    public ResponseEntity<?> save(Authentication authentication,
+                                  @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+                                  @RequestBody @Valid SaleRequest requestDTO) {
+        if (saleIngestionService.isEnabled()) {
+            var ticket = saleIngestionService.submit(authentication.getName(), idempotencyKey, requestDTO);
+            return new ResponseEntity<>(ticket, ACCEPTED);
+        }
+
+        var sale = idempotencyKey == null
+                ? saleService.save(authentication.getName(), requestDTO)
+                : idempotencyService.save(authentication.getName(), idempotencyKey, requestDTO);
+        return new ResponseEntity<>(sale, CREATED);
+    }
+
+    @PostMapping(value = "wholesale", consumes = APPLICATION_JSON_VALUE)
+    public ResponseEntity<SaleResponse> saveWholesale(Authentication authentication, HttpServletRequest request) throws IOException {
+        var sale = saleService.saveWholesale(authentication.getName(), request.getInputStream());
         return new ResponseEntity<>(sale, CREATED);
     }
 
+    @GetMapping("tickets/{ticket}")
+    public CompletableFuture<ResponseEntity<SaleTicketResponse>> findTicket(Authentication authentication,
+                                                                            @PathVariable String ticket,
+                                                                            @RequestParam(defaultValue = "0") Long wait) {
+        return saleIngestionService
+                .findTicket(authentication.getName(), ticket, Duration.ofMillis(Math.min(wait, 30000)))
+                .thenApply(response -> new ResponseEntity<>(response, OK));
+    }
+
     @GetMapping("active")
     public ResponseEntity<Page<SaleResponse>> findActive(Pageable pageable) {
         var sales = saleService.findActive(pageable);
@@ -43,6 +79,21 @@ public class SaleController {
         return new ResponseEntity<>(sales, OK);
     }
 
+    @GetMapping("active/cursor")
+    public ResponseEntity<CursorPage<SaleResponse>> findActive(@RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) Integer size) {
+        var sales = saleService.findActive(cursor, size);
+        return new ResponseEntity<>(sales, OK);
+    }
+
+    @PreAuthorize("hasAnyAuthority('ADMIN','MANAGER')")
+    @GetMapping("inactive/cursor")
+    public ResponseEntity<CursorPage<SaleResponse>> findInactive(@RequestParam(required = false) String cursor,
+                                                                 @RequestParam(required = false) Integer size) {
+        var sales = saleService.findInactive(cursor, size);
+        return new ResponseEntity<>(sales, OK);
+    }
+
     @GetMapping("details/{id}")
     public ResponseEntity<SaleDetailsResponse> details(@PathVariable Integer id) {
         var details = saleService.details(id);
@@ -69,6 +120,20 @@ public class SaleController {
         return new ResponseEntity<>(NO_CONTENT);
     }
 
+    @PreAuthorize("hasAnyAuthority('ADMIN','MANAGER')")
+    @PostMapping("bulk/delete")
+    public ResponseEntity<Void> deleteAll(@RequestBody @Valid SaleBulkRequest requestDTO) {
+        saleService.deleteAll(requestDTO);
+        return new ResponseEntity<>(NO_CONTENT);
+    }
+
+    @PreAuthorize("hasAnyAuthority('ADMIN','MANAGER')")
+    @PostMapping("bulk/reactivate")
+    public ResponseEntity<Void> reactivateAll(@RequestBody @Valid SaleBulkRequest requestDTO) {
+        saleService.reactivateAll(requestDTO);
+        return new ResponseEntity<>(NO_CONTENT);
+    }
+
     @PreAuthorize("hasAnyAuthority('ADMIN','MANAGER')")
     @PatchMapping("{id}")
     public ResponseEntity<Void> reactivate(@PathVariable Integer id) {
@@ -1,5 +1,6 @@
 package com.todev.pdv.web.controllers;
 
+import com.todev.pdv.common.dtos.CursorPage;
 import com.todev.pdv.common.dtos.UserRequest;
 import com.todev.pdv.common.dtos.UserResponse;
 import com.todev.pdv.core.services.contracts.UserService;
@@ -55,6 +56,40 @@ public class UserController {
         return new ResponseEntity<>(users, OK);
     }
 
+    @PreAuthorize("hasAnyAuthority('ADMIN','MANAGER')")
+    @GetMapping("active/cursor")
+    public ResponseEntity<CursorPage<UserResponse>> findActive(@RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) Integer size) {
+        var users = userService.findActive(cursor, size);
+        return new ResponseEntity<>(users, OK);
+    }
+
+    @PreAuthorize("hasAnyAuthority('ADMIN','MANAGER')")
+    @GetMapping("inactive/cursor")
+    public ResponseEntity<CursorPage<UserResponse>> findInactive(@RequestParam(required = false) String cursor,
+                                                                 @RequestParam(required = false) Integer size) {
+        var users = userService.findInactive(cursor, size);
+        return new ResponseEntity<>(users, OK);
+    }
+
+    @PreAuthorize("hasAnyAuthority('ADMIN','MANAGER')")
+    @GetMapping("active/search/cursor")
+    public ResponseEntity<CursorPage<UserResponse>> findActiveByNameContaining(@RequestParam String name,
+                                                                               @RequestParam(required = false) String cursor,
+                                                                               @RequestParam(required = false) Integer size) {
+        var users = userService.findActiveByNameContaining(name, cursor, size);
+        return new ResponseEntity<>(users, OK);
+    }
+
+    @PreAuthorize("hasAnyAuthority('ADMIN','MANAGER')")
+    @GetMapping("inactive/search/cursor")
+    public ResponseEntity<CursorPage<UserResponse>> findInactiveByNameContaining(@RequestParam String name,
+                                                                                 @RequestParam(required = false) String cursor,
+                                                                                 @RequestParam(required = false) Integer size) {
+        var users = userService.findInactiveByNameContaining(name, cursor, size);
+        return new ResponseEntity<>(users, OK);
+    }
+
     @PreAuthorize("hasAnyAuthority('ADMIN','MANAGER')")
     @GetMapping("active/{id}")
     public ResponseEntity<UserResponse> findActiveById(@PathVariable Integer id) {
@@ -3,6 +3,7 @@ package com.todev.pdv.web.handlers;
 import com.todev.pdv.common.dtos.ErrorResponse;
 import com.todev.pdv.core.exceptions.*;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -116,4 +117,74 @@ public class DefaultExceptionHandler {
 
         return new ResponseEntity<>(error, BAD_REQUEST);
     }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    protected ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException exception,
+                                                                           HttpServletRequest request) {
+        var error = new ErrorResponse(
+                LocalDateTime.now(),
+                409,
+                exception.getMessage(),
+                request.getServletPath(),
+                Set.of()
+        );
+
+        return new ResponseEntity<>(error, CONFLICT);
+    }
+
+    @ExceptionHandler(InvalidPayloadException.class)
+    protected ResponseEntity<ErrorResponse> handleInvalidPayload(InvalidPayloadException exception,
+                                                                 HttpServletRequest request) {
+        var error = new ErrorResponse(
+                LocalDateTime.now(),
+                400,
+                exception.getMessage(),
+                request.getServletPath(),
+                new HashSet<>(exception.getDetails())
+        );
+
+        return new ResponseEntity<>(error, BAD_REQUEST);
+    }
+
+    @ExceptionHandler(SaleQueueFullException.class)
+    protected ResponseEntity<ErrorResponse> handleSaleQueueFull(SaleQueueFullException exception,
+                                                                HttpServletRequest request) {
+        var error = new ErrorResponse(
+                LocalDateTime.now(),
+                503,
+                exception.getMessage(),
+                request.getServletPath(),
+                Set.of()
+        );
+
+        return new ResponseEntity<>(error, SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(ReportQueueFullException.class)
+    protected ResponseEntity<ErrorResponse> handleReportQueueFull(ReportQueueFullException exception,
+                                                                  HttpServletRequest request) {
+        var error = new ErrorResponse(
+                LocalDateTime.now(),
+                503,
+                exception.getMessage(),
+                request.getServletPath(),
+                Set.of()
+        );
+
+        return new ResponseEntity<>(error, SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(ReportJobLimitException.class)
+    protected ResponseEntity<ErrorResponse> handleReportJobLimit(ReportJobLimitException exception,
+                                                                 HttpServletRequest request) {
+        var error = new ErrorResponse(
+                LocalDateTime.now(),
+                429,
+                exception.getMessage(),
+                request.getServletPath(),
+                Set.of()
+        );
+
+        return new ResponseEntity<>(error, TOO_MANY_REQUESTS);
+    }
 }
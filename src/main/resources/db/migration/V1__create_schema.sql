@@ -0,0 +1,260 @@
+
+CREATE TABLE IF NOT EXISTS users (
+    id INTEGER PRIMARY KEY AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    login VARCHAR(255) UNIQUE NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role VARCHAR(50) NOT NULL,
+    created_at DATETIME NOT NULL,
+    deleted_at DATETIME
+);
+
+CREATE TABLE IF NOT EXISTS products (
+    id INTEGER PRIMARY KEY AUTO_INCREMENT,
+    description VARCHAR(255) UNIQUE NOT NULL,
+    amount INTEGER NOT NULL,
+    price BIGINT NOT NULL,
+    created_at DATETIME NOT NULL,
+    deleted_at DATETIME,
+    version INTEGER NOT NULL DEFAULT 0
+);
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.COLUMNS
+     WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'products' AND COLUMN_NAME = 'version') = 0,
+    'ALTER TABLE products ADD COLUMN version INTEGER NOT NULL DEFAULT 0',
+    'DO 0'
+);
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+CREATE TABLE IF NOT EXISTS sales (
+    id INTEGER PRIMARY KEY AUTO_INCREMENT,
+    user_id INTEGER NOT NULL,
+    payment_method VARCHAR(50) NOT NULL,
+    discount INTEGER NOT NULL,
+    total BIGINT NOT NULL,
+    created_at DATETIME NOT NULL,
+    deleted_at DATETIME,
+    INDEX idx_sales_user_id_created_at (user_id, created_at),
+    FOREIGN KEY (user_id) REFERENCES users(id)
+);
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.STATISTICS
+     WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'sales' AND INDEX_NAME = 'idx_sales_user_id_created_at') = 0,
+    'CREATE INDEX idx_sales_user_id_created_at ON sales (user_id, created_at)',
+    'DO 0'
+);
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+CREATE TABLE IF NOT EXISTS sales_items (
+    id INTEGER PRIMARY KEY AUTO_INCREMENT,
+    sale_id INTEGER NOT NULL,
+    product_id INTEGER NOT NULL,
+    amount INTEGER NOT NULL,
+    price BIGINT NOT NULL,
+    created_at DATETIME NOT NULL,
+    deleted_at DATETIME,
+    FOREIGN KEY (sale_id) REFERENCES sales(id),
+    FOREIGN KEY (product_id) REFERENCES products(id)
+);
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.COLUMNS
+     WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'products' AND COLUMN_NAME = 'price' AND DATA_TYPE = 'double') > 0,
+    'ALTER TABLE products ADD COLUMN price_cents BIGINT NOT NULL DEFAULT 0 AFTER price',
+    'DO 0'
+);
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.COLUMNS
+     WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'products' AND COLUMN_NAME = 'price_cents') > 0,
+    'UPDATE products SET price_cents = ROUND(price * 100)',
+    'DO 0'
+);
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.COLUMNS
+     WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'products' AND COLUMN_NAME = 'price_cents') > 0,
+    'ALTER TABLE products DROP COLUMN price, CHANGE COLUMN price_cents price BIGINT NOT NULL',
+    'DO 0'
+);
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.COLUMNS
+     WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'sales' AND COLUMN_NAME = 'total' AND DATA_TYPE = 'double') > 0,
+    'ALTER TABLE sales ADD COLUMN total_cents BIGINT NOT NULL DEFAULT 0 AFTER total',
+    'DO 0'
+);
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.COLUMNS
+     WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'sales' AND COLUMN_NAME = 'total_cents') > 0,
+    'UPDATE sales SET total_cents = ROUND(total * 100)',
+    'DO 0'
+);
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.COLUMNS
+     WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'sales' AND COLUMN_NAME = 'total_cents') > 0,
+    'ALTER TABLE sales DROP COLUMN total, CHANGE COLUMN total_cents total BIGINT NOT NULL',
+    'DO 0'
+);
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.COLUMNS
+     WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'sales_items' AND COLUMN_NAME = 'price' AND DATA_TYPE = 'double') > 0,
+    'ALTER TABLE sales_items ADD COLUMN price_cents BIGINT NOT NULL DEFAULT 0 AFTER price',
+    'DO 0'
+);
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.COLUMNS
+     WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'sales_items' AND COLUMN_NAME = 'price_cents') > 0,
+    'UPDATE sales_items SET price_cents = ROUND(price * 100)',
+    'DO 0'
+);
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.COLUMNS
+     WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'sales_items' AND COLUMN_NAME = 'price_cents') > 0,
+    'ALTER TABLE sales_items DROP COLUMN price, CHANGE COLUMN price_cents price BIGINT NOT NULL',
+    'DO 0'
+);
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+CREATE TABLE IF NOT EXISTS sales_daily_rollup (
+    day DATE NOT NULL,
+    user_id INTEGER NOT NULL,
+    payment_method VARCHAR(50) NOT NULL,
+    sales INTEGER NOT NULL,
+    gross BIGINT NOT NULL,
+    net BIGINT NOT NULL,
+    PRIMARY KEY (day, user_id, payment_method),
+    INDEX (user_id, day)
+);
+
+SET @statement = IF(
+    NOT EXISTS (SELECT 1 FROM sales_daily_rollup),
+    'INSERT INTO sales_daily_rollup (day, user_id, payment_method, sales, gross, net)
+     SELECT DATE(created_at), user_id, payment_method, COUNT(*), SUM(total), SUM(total - (total * discount + 50) DIV 100)
+     FROM sales WHERE deleted_at IS NULL GROUP BY DATE(created_at), user_id, payment_method',
+    'DO 0'
+);
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    id INTEGER PRIMARY KEY AUTO_INCREMENT,
+    login VARCHAR(255) NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    sale_id INTEGER NOT NULL,
+    created_at DATETIME NOT NULL,
+    UNIQUE (login, idempotency_key),
+    INDEX (created_at),
+    FOREIGN KEY (sale_id) REFERENCES sales(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS returns (
+    id INTEGER PRIMARY KEY AUTO_INCREMENT,
+    total DOUBLE(10, 2) NOT NULL,
+    created_at DATETIME NOT NULL,
+    deleted_at DATETIME
+);
+
+CREATE TABLE IF NOT EXISTS returns_items (
+    id INTEGER PRIMARY KEY AUTO_INCREMENT,
+    return_id INTEGER NOT NULL,
+    product_id INTEGER NOT NULL,
+    amount INTEGER NOT NULL,
+    price DOUBLE (10, 2) NOT NULL,
+    created_at DATETIME NOT NULL,
+    deleted_at DATETIME,
+    FOREIGN KEY (return_id) REFERENCES returns(id),
+    FOREIGN KEY (product_id) REFERENCES products(id)
+);
+
+CREATE TABLE IF NOT EXISTS exchanges (
+    id INTEGER PRIMARY KEY AUTO_INCREMENT,
+    total DOUBLE(10, 2) NOT NULL,
+    created_at DATETIME NOT NULL,
+    deleted_at DATETIME
+);
+
+CREATE TABLE IF NOT EXISTS old_exchanges_items (
+    id INTEGER PRIMARY KEY AUTO_INCREMENT,
+    exchange_id INTEGER NOT NULL,
+    product_id INTEGER NOT NULL,
+    amount INTEGER NOT NULL,
+    price DOUBLE(10, 2) NOT NULL,
+    created_at DATETIME NOT NULL,
+    deleted_at DATETIME,
+    FOREIGN KEY (exchange_id) REFERENCES exchanges(id),
+    FOREIGN KEY (product_id) REFERENCES products(id)
+);
+
+CREATE TABLE IF NOT EXISTS new_exchanges_items (
+    id INTEGER PRIMARY KEY AUTO_INCREMENT,
+    exchange_id INTEGER NOT NULL,
+    product_id INTEGER NOT NULL,
+    amount INTEGER NOT NULL,
+    price DOUBLE(10, 2) NOT NULL,
+    created_at DATETIME NOT NULL,
+    deleted_at DATETIME,
+    FOREIGN KEY (exchange_id) REFERENCES exchanges(id),
+    FOREIGN KEY (product_id) REFERENCES products(id)
+);
+
+CREATE TABLE IF NOT EXISTS customers (
+    id INTEGER PRIMARY KEY AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    phone VARCHAR(50) UNIQUE NOT NULL,
+    purchases INTEGER NOT NULL,
+    birth_date DATE NOT NULL,
+    created_at DATETIME NOT NULL,
+    deleted_at DATETIME
+);
+
+CREATE TABLE IF NOT EXISTS addresses (
+    id INTEGER PRIMARY KEY AUTO_INCREMENT,
+    customer_id INTEGER NOT NULL,
+    house_number MEDIUMINT NOT NULL,
+    street VARCHAR(255) NOT NULL,
+    neighborhood VARCHAR(255) NOT NULL,
+    city VARCHAR(255) NOT NULL,
+    state VARCHAR(2) NOT NULL,
+    created_at DATETIME NOT NULL,
+    deleted_at DATETIME,
+    FOREIGN KEY (customer_id) REFERENCES customers(id)
+);
\ No newline at end of file
@@ -0,0 +1,13 @@
+CREATE INDEX idx_users_deleted_at ON users (deleted_at);
+
+CREATE INDEX idx_products_deleted_at ON products (deleted_at);
+
+CREATE INDEX idx_sales_deleted_at ON sales (deleted_at);
+
+CREATE INDEX idx_sales_created_at_deleted_at ON sales (created_at, deleted_at);
+
+CREATE INDEX idx_sales_user_id_created_at_deleted_at ON sales (user_id, created_at, deleted_at);
+
+DROP INDEX idx_sales_user_id_created_at ON sales;
+
+CREATE INDEX idx_sales_items_sale_id_product_id_amount ON sales_items (sale_id, product_id, amount);
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS products_barcodes (
+    id INTEGER PRIMARY KEY AUTO_INCREMENT,
+    product_id INTEGER NOT NULL,
+    code VARCHAR(64) UNIQUE NOT NULL,
+    created_at DATETIME NOT NULL,
+    FOREIGN KEY (product_id) REFERENCES products(id)
+);
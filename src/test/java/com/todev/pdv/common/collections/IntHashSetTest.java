@@ -0,0 +1,43 @@
+package com.todev.pdv.common.collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntHashSetTest {
+
+    @Test
+    void add_ValueShouldBeAdded_WhenValueIsNew() {
+        var set = new IntHashSet();
+        assertTrue(set.add(1));
+        assertTrue(set.add(0));
+        assertTrue(set.add(-1));
+        assertEquals(3, set.size());
+    }
+
+    @Test
+    void add_ValueShouldNotBeAdded_WhenValueIsDuplicated() {
+        var set = new IntHashSet();
+        set.add(7);
+        set.add(0);
+        assertFalse(set.add(7));
+        assertFalse(set.add(0));
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    void contains_AllValuesShouldBeFound_WhenSetGrewPastInitialCapacity() {
+        var set = new IntHashSet(4);
+
+        for (int value = 1; value <= 100_000; value++) {
+            set.add(value * 31);
+        }
+
+        for (int value = 1; value <= 100_000; value++) {
+            assertTrue(set.contains(value * 31));
+        }
+
+        assertFalse(set.contains(32));
+        assertEquals(100_000, set.size());
+    }
+}
@@ -0,0 +1,91 @@
+package com.todev.pdv.common.paginators.impl;
+
+import com.todev.pdv.core.exceptions.InvalidPayloadException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorPaginatorImplTest {
+    private final CursorPaginatorImpl cursorPaginator = new CursorPaginatorImpl(20, 100);
+    private final List<Integer> ids = IntStream.rangeClosed(1, 250).boxed().toList();
+    private final List<Integer> requestedIds = new ArrayList<>();
+    private final List<Integer> requestedLimits = new ArrayList<>();
+
+    @Test
+    void page_FirstRowsShouldBeReturnedWithNextCursor_WhenCursorIsAbsent() {
+        var page = cursorPaginator.page(null, 5, 0, this::findAfter, Function.identity(), Function.identity());
+        assertEquals(List.of(1, 2, 3, 4, 5), page.content());
+        assertEquals(5, page.size());
+        assertNotNull(page.next());
+        assertEquals(List.of(0), requestedIds);
+        assertEquals(List.of(6), requestedLimits);
+    }
+
+    @Test
+    void page_FollowingRowsShouldBeReturned_WhenNextCursorWasReceived() {
+        var first = cursorPaginator.page(null, 5, 0, this::findAfter, Function.identity(), Function.identity());
+        var second = cursorPaginator.page(first.next(), 5, 0, this::findAfter, Function.identity(), Function.identity());
+        assertEquals(List.of(6, 7, 8, 9, 10), second.content());
+        assertEquals(5, requestedIds.get(1));
+    }
+
+    @Test
+    void page_NextCursorShouldBeNull_WhenLastRowsWereReturned() {
+        var page = cursorPaginator.page(null, 50, 240, this::findAfter, Function.identity(), Function.identity());
+        assertEquals(10, page.content().size());
+        assertNull(page.next());
+    }
+
+    @Test
+    void page_SizeShouldBeLimited_WhenSizeIsGreaterThanMaximum() {
+        var page = cursorPaginator.page(null, 5000, 0, this::findAfter, Function.identity(), Function.identity());
+        assertEquals(100, page.content().size());
+        assertEquals(100, page.size());
+        assertEquals(List.of(101), requestedLimits);
+    }
+
+    @Test
+    void page_DefaultSizeShouldBeUsed_WhenSizeIsAbsent() {
+        var page = cursorPaginator.page(null, null, 0, this::findAfter, Function.identity(), Function.identity());
+        assertEquals(20, page.content().size());
+    }
+
+    @Test
+    void page_RowsShouldNotBeReturned_WhenCursorIsInvalid() {
+        assertThrows(InvalidPayloadException.class,
+                () -> cursorPaginator.page("not-a-cursor", 5, 0, this::findAfter, Function.identity(), Function.identity()));
+        assertTrue(requestedIds.isEmpty());
+    }
+
+    @Test
+    void page_RankedIdsShouldBePagedByPosition_WhenIdsWereReceived() {
+        var ranked = List.of(9, 3, 7, 1, 5);
+        var first = cursorPaginator.page(null, 2, ranked, Function.identity());
+        var second = cursorPaginator.page(first.next(), 2, ranked, Function.identity());
+        var last = cursorPaginator.page(second.next(), 2, ranked, Function.identity());
+
+        assertAll(() -> {
+            assertEquals(List.of(9, 3), first.content());
+            assertEquals(List.of(7, 1), second.content());
+            assertEquals(List.of(5), last.content());
+            assertNull(last.next());
+        });
+    }
+
+    @Test
+    void page_RankedIdsShouldNotBeReturned_WhenIdCursorWasReceived() {
+        var cursor = cursorPaginator.page(null, 5, 0, this::findAfter, Function.identity(), Function.identity()).next();
+        assertThrows(InvalidPayloadException.class, () -> cursorPaginator.page(cursor, 5, ids, Function.identity()));
+    }
+
+    private List<Integer> findAfter(Integer id, Integer limit) {
+        requestedIds.add(id);
+        requestedLimits.add(limit);
+        return ids.stream().filter(value -> value > id).limit(limit).toList();
+    }
+}
@@ -0,0 +1,77 @@
+package com.todev.pdv.common.readers.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todev.pdv.core.exceptions.InvalidPayloadException;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaleReaderImplTest {
+    private SaleReaderImpl saleReader;
+
+    @BeforeEach
+    void setUp() {
+        var validator = Validation.buildDefaultValidatorFactory().getValidator();
+        saleReader = new SaleReaderImpl(new ObjectMapper(), validator, 1000);
+    }
+
+    @Test
+    void open_ItemsShouldBeReadInChunks_WhenCartHasManyItems() {
+        var items = new StringJoiner(",", "[", "]");
+
+        for (int productId = 1; productId <= 2500; productId++) {
+            items.add("{\"productId\":" + productId + ",\"amount\":1}");
+        }
+
+        try (var stream = saleReader.open(inputOf("{\"paymentMethod\":\"CARD\",\"discount\":0,\"items\":" + items + "}"))) {
+            assertEquals("CARD", stream.header().paymentMethod());
+            assertEquals(1000, stream.next().size());
+            assertEquals(1000, stream.next().size());
+            assertEquals(500, stream.next().size());
+            assertFalse(stream.hasNext());
+        }
+    }
+
+    @Test
+    void open_SaleShouldNotBeRead_WhenHeaderIsInvalid() {
+        var inputStream = inputOf("{\"paymentMethod\":\"GOLD\",\"discount\":0,\"items\":[]}");
+        assertThrows(InvalidPayloadException.class, () -> saleReader.open(inputStream));
+    }
+
+    @Test
+    void open_SaleShouldNotBeRead_WhenItemsAreMissing() {
+        var inputStream = inputOf("{\"paymentMethod\":\"CARD\",\"discount\":0}");
+        assertThrows(InvalidPayloadException.class, () -> saleReader.open(inputStream));
+    }
+
+    @Test
+    void next_ItemsShouldNotBeRead_WhenCartIsEmpty() {
+        try (var stream = saleReader.open(inputOf("{\"paymentMethod\":\"CARD\",\"discount\":0,\"items\":[]}"))) {
+            assertThrows(InvalidPayloadException.class, stream::hasNext);
+        }
+    }
+
+    @Test
+    void next_ItemsShouldNotBeRead_WhenItemIsInvalid() {
+        try (var stream = saleReader.open(inputOf("{\"paymentMethod\":\"CARD\",\"discount\":0,\"items\":[{\"productId\":1,\"amount\":0}]}"))) {
+            assertThrows(InvalidPayloadException.class, stream::next);
+        }
+    }
+
+    @Test
+    void next_ItemsShouldNotBeRead_WhenPayloadIsMalformed() {
+        try (var stream = saleReader.open(inputOf("{\"paymentMethod\":\"CARD\",\"discount\":0,\"items\":[{\"productId\":1,"))) {
+            assertThrows(InvalidPayloadException.class, stream::next);
+        }
+    }
+
+    private ByteArrayInputStream inputOf(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,112 @@
+package com.todev.pdv.common.reports.impl;
+
+import com.todev.pdv.common.dtos.SaleDetailsResponse;
+import com.todev.pdv.common.dtos.SaleItemResponse;
+import com.todev.pdv.core.enums.ReceiptFormat;
+import com.todev.pdv.core.models.Money;
+import com.todev.pdv.factories.SaleFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReceiptRendererImplTest {
+    private final ReceiptRendererImpl receiptRenderer = new ReceiptRendererImpl(48);
+
+    @Test
+    void render_TextReceiptShouldBeGenerated_WhenFormatIsText() {
+        var receipt = render(ReceiptFormat.TEXT, details(), 0);
+        var lines = receipt.split("\n");
+
+        assertAll(() -> {
+            assertTrue(receipt.contains("Minha Make"));
+            assertTrue(receipt.contains("Vendedor: Diel"));
+            assertTrue(receipt.contains("Batom"));
+            assertTrue(receipt.contains("CARTÃO"));
+            assertTrue(receipt.contains("Total:"));
+            assertFalse(receipt.contains("Desconto:"));
+            assertFalse(receipt.contains("\u001b"));
+            for (String line : lines) {
+                assertTrue(line.length() <= 48);
+            }
+        });
+    }
+
+    @Test
+    void render_DiscountShouldBeShown_WhenSaleHasDiscount() {
+        var receipt = render(ReceiptFormat.TEXT, details(), 10);
+
+        assertAll(() -> {
+            assertTrue(receipt.contains("Subtotal:"));
+            assertTrue(receipt.contains("Desconto:"));
+            assertTrue(receipt.contains(Money.format(Money.withDiscount(175090L, 10))));
+        });
+    }
+
+    @Test
+    void render_EscPosCommandsShouldBeWritten_WhenFormatIsEscPos() {
+        var response = new ByteArrayOutputStream();
+        var sale = SaleFactory.getSavedSale();
+
+        receiptRenderer.render(sale, details(), ReceiptFormat.ESC_POS, response);
+
+        var bytes = response.toByteArray();
+        var receipt = response.toString(Charset.forName("IBM860"));
+
+        assertAll(() -> {
+            assertEquals(0x1b, bytes[0]);
+            assertEquals('@', bytes[1]);
+            assertTrue(receipt.contains("CARTÃO"));
+            assertTrue(receipt.endsWith("\u001dVB\u0003"));
+        });
+    }
+
+    @Test
+    void render_LongDescriptionShouldBeTruncated_WhenItExceedsWidth() {
+        var details = new SaleDetailsResponse("Diel", List.of(new SaleItemResponse(1, "A".repeat(80), 1, 10.0)));
+        var receipt = render(ReceiptFormat.TEXT, details, 0);
+
+        assertAll(() -> {
+            assertTrue(receipt.contains("A".repeat(48)));
+            assertFalse(receipt.contains("A".repeat(49)));
+        });
+    }
+
+    @Test
+    void render_ReceiptShouldBeComplete_WhenSaleHasManyItems() {
+        var items = new ArrayList<SaleItemResponse>();
+
+        for (int i = 1; i <= 2000; i++) {
+            items.add(new SaleItemResponse(i, "Produto " + i, 1, 1.0));
+        }
+
+        var first = render(ReceiptFormat.TEXT, new SaleDetailsResponse("Diel", items), 0);
+        var second = render(ReceiptFormat.TEXT, details(), 0);
+
+        assertAll(() -> {
+            assertTrue(first.contains("Produto 2000"));
+            assertTrue(first.contains("Pagamento:"));
+            assertFalse(second.contains("Produto"));
+        });
+    }
+
+    private String render(ReceiptFormat format, SaleDetailsResponse details, int discount) {
+        var response = new ByteArrayOutputStream();
+        var sale = SaleFactory.getSavedSale();
+        sale.setDiscount(discount);
+        receiptRenderer.render(sale, details, format, response);
+        return response.toString(UTF_8);
+    }
+
+    private SaleDetailsResponse details() {
+        return new SaleDetailsResponse("Diel", List.of(
+                new SaleItemResponse(1, "Batom", 2, 25.5),
+                new SaleItemResponse(2, "Samsung Galaxy S20", 1, 1699.99)
+        ));
+    }
+}
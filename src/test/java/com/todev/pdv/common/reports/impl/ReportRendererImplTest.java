@@ -0,0 +1,59 @@
+package com.todev.pdv.common.reports.impl;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.PdfWriter;
+import com.lowagie.text.pdf.parser.PdfTextExtractor;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportRendererImplTest {
+    private final ReportRendererImpl reportRenderer = new ReportRendererImpl();
+
+    @Test
+    void addStoreHeader_HeaderShouldBeRendered_WhenReportsAreGeneratedRepeatedly() throws IOException {
+        var first = render(reportRenderer::addStoreHeader);
+        var second = render(reportRenderer::addStoreHeader);
+
+        assertAll(() -> {
+            assertTrue(first.contains("Minha Make"));
+            assertTrue(first.contains("CNPJ 35.699.902/000010-42"));
+            assertEquals(first, second);
+        });
+    }
+
+    @Test
+    void addRow_ValuesShouldBeRendered_WhenTableWasCreated() throws IOException {
+        var text = render(report -> {
+            var table = reportRenderer.createTable("COD", "DESC", "QTD");
+            reportRenderer.addRow(table, "1", "Batom", "10");
+            report.add(table);
+            reportRenderer.addFooter(report, List.of("Total: R$ 10,00"));
+        });
+
+        assertAll(() -> {
+            assertTrue(text.contains("COD"));
+            assertTrue(text.contains("Batom"));
+            assertTrue(text.contains("Total: R$ 10,00"));
+        });
+    }
+
+    private String render(Consumer<Document> content) throws IOException {
+        var outputStream = new ByteArrayOutputStream();
+
+        try (var report = new Document(PageSize.B6)) {
+            PdfWriter.getInstance(report, outputStream);
+            report.open();
+            content.accept(report);
+        }
+
+        return new PdfTextExtractor(new PdfReader(outputStream.toByteArray())).getTextFromPage(1);
+    }
+}
@@ -0,0 +1,34 @@
+package com.todev.pdv.common.writers.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvRowWriterTest {
+
+    @Test
+    void write_RowsShouldBeWrittenAfterHeader_WhenValuesWereReceived() {
+        var outputStream = new ByteArrayOutputStream();
+        var writer = new CsvRowWriter(outputStream, "id", "description", "price");
+
+        writer.write(1, "Batom", BigDecimal.valueOf(1750, 2));
+        writer.flush();
+
+        assertEquals("id,description,price\r\n1,Batom,17.50\r\n", outputStream.toString(UTF_8));
+    }
+
+    @Test
+    void write_ValueShouldBeQuoted_WhenContainsSeparatorOrQuote() {
+        var outputStream = new ByteArrayOutputStream();
+        var writer = new CsvRowWriter(outputStream, "description");
+
+        writer.write("Batom, \"matte\"");
+        writer.flush();
+
+        assertEquals("description\r\n\"Batom, \"\"matte\"\"\"\r\n", outputStream.toString(UTF_8));
+    }
+}
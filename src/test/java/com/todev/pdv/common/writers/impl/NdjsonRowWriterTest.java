@@ -0,0 +1,27 @@
+package com.todev.pdv.common.writers.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NdjsonRowWriterTest {
+
+    @Test
+    void write_EachRowShouldBeALine_WhenValuesWereReceived() {
+        var outputStream = new ByteArrayOutputStream();
+        var writer = new NdjsonRowWriter(outputStream, "id", "description", "price");
+
+        writer.write(1, "Batom", BigDecimal.valueOf(1750, 2));
+        writer.write(2, null, BigDecimal.valueOf(990, 2));
+        writer.flush();
+
+        assertEquals("""
+                {"id":1,"description":"Batom","price":17.50}
+                {"id":2,"description":null,"price":9.90}
+                """, outputStream.toString(UTF_8));
+    }
+}
@@ -0,0 +1,60 @@
+package com.todev.pdv.core.models;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void of_CentsShouldBeRounded_WhenValueHasNoExactBinaryRepresentation() {
+        assertEquals(175090L, Money.of(1750.9).cents());
+        assertEquals(1999L, Money.of(19.99).cents());
+        assertEquals(30L, Money.of(0.1 + 0.2).cents());
+    }
+
+    @Test
+    void of_NullShouldBeReturned_WhenValueIsNull() {
+        assertNull(Money.of(null));
+    }
+
+    @Test
+    void toDouble_ValueShouldBeReturned_WhenCentsWereReceived() {
+        assertEquals(1750.9, Money.ofCents(175090L).toDouble());
+    }
+
+    @Test
+    void times_TotalShouldBeExact_WhenManyLinesAreAccumulated() {
+        var total = 0L;
+
+        for (int i = 0; i < 1_000_000; i++) {
+            total += Money.times(Money.of(0.1).cents(), 3);
+        }
+
+        assertEquals(30_000_000L, total);
+    }
+
+    @Test
+    void times_ExceptionShouldBeThrown_WhenTotalOverflows() {
+        assertThrows(ArithmeticException.class, () -> Money.times(Long.MAX_VALUE, 2));
+    }
+
+    @Test
+    void discountOf_DiscountShouldBeRoundedHalfUp_WhenItHasFractionOfCent() {
+        assertEquals(17509L, Money.discountOf(175090L, 10));
+        assertEquals(1L, Money.discountOf(5L, 10));
+        assertEquals(0L, Money.discountOf(4L, 10));
+    }
+
+    @Test
+    void withDiscount_TotalShouldBeReturned_WhenDiscountIsZero() {
+        assertEquals(175090L, Money.withDiscount(175090L, 0));
+        assertEquals(157581L, Money.withDiscount(175090L, 10));
+    }
+
+    @Test
+    void compareTo_OrderShouldFollowCents_WhenValuesAreCompared() {
+        assertTrue(Money.ofCents(1L).compareTo(Money.ZERO) > 0);
+        assertEquals(Money.ofCents(10L), Money.of(0.1));
+    }
+}
@@ -0,0 +1,56 @@
+package com.todev.pdv.core.providers.impl;
+
+import com.todev.pdv.core.models.IdempotencyKey;
+import com.todev.pdv.core.repositories.IdempotencyKeyRepository;
+import com.todev.pdv.factories.IdempotencyKeyFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.when;
+
+@ExtendWith(SpringExtension.class)
+class IdempotencyKeyProviderImplTest {
+    @InjectMocks
+    private IdempotencyKeyProviderImpl idempotencyKeyProvider;
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @BeforeEach
+    void setUpIdempotencyKeyRepository() {
+        when(idempotencyKeyRepository.save(any(IdempotencyKey.class)))
+                .thenReturn(IdempotencyKeyFactory.getSavedIdempotencyKey());
+
+        when(idempotencyKeyRepository.findByLoginAndIdempotencyKey(anyString(), anyString()))
+                .thenReturn(Optional.of(IdempotencyKeyFactory.getSavedIdempotencyKey()));
+
+        when(idempotencyKeyRepository.deleteCreatedBefore(any(LocalDateTime.class)))
+                .thenReturn(1);
+    }
+
+    @Test
+    void save_IdempotencyKeyShouldBeSaved_WhenValidKeyWasReceived() {
+        assertDoesNotThrow(() -> idempotencyKeyProvider.save(IdempotencyKeyFactory.getIdempotencyKey(1)));
+    }
+
+    @Test
+    void findByLoginAndKey_IdempotencyKeyShouldBeReturned_WhenKeyWasFound() {
+        var idempotencyKey = idempotencyKeyProvider.findByLoginAndKey("seller", "key");
+        assertTrue(idempotencyKey.isPresent());
+    }
+
+    @Test
+    void deleteCreatedBefore_IdempotencyKeysShouldBeDeleted_WhenKeysExpired() {
+        assertEquals(1, idempotencyKeyProvider.deleteCreatedBefore(LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,77 @@
+package com.todev.pdv.core.providers.impl;
+
+import com.todev.pdv.core.models.ProductBarcode;
+import com.todev.pdv.core.repositories.ProductBarcodeRepository;
+import com.todev.pdv.factories.ProductBarcodeFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.when;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(SpringExtension.class)
+class ProductBarcodeProviderImplTest {
+    @InjectMocks
+    private ProductBarcodeProviderImpl productBarcodeProvider;
+
+    @Mock
+    private ProductBarcodeRepository productBarcodeRepository;
+
+    @BeforeEach
+    void setUpProductBarcodeRepository() {
+        when(productBarcodeRepository.save(any(ProductBarcode.class)))
+                .thenReturn(ProductBarcodeFactory.getSavedBarcode());
+
+        when(productBarcodeRepository.findByCode(anyString()))
+                .thenReturn(Optional.of(ProductBarcodeFactory.getSavedBarcode()));
+
+        when(productBarcodeRepository.findByProductId(anyInt()))
+                .thenReturn(List.of(ProductBarcodeFactory.getSavedBarcode()));
+
+        when(productBarcodeRepository.findByIdGreaterThan(anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(ProductBarcodeFactory.getSavedBarcode()));
+    }
+
+    @Test
+    void save_BarcodeShouldBeSaved_WhenValidBarcodeWasReceived() {
+        assertDoesNotThrow(() -> productBarcodeProvider.save(ProductBarcodeFactory.getBarcode(1)));
+    }
+
+    @Test
+    void findByCode_BarcodeShouldBeReturned_WhenCodeWasFound() {
+        var barcode = productBarcodeProvider.findByCode("7891234567895");
+        assertTrue(barcode.isPresent());
+    }
+
+    @Test
+    void findByProductId_BarcodesShouldBeReturned_WhenProductHasBarcodes() {
+        var barcodes = productBarcodeProvider.findByProductId(1);
+        assertEquals(1, barcodes.size());
+    }
+
+    @Test
+    void findAfter_BarcodesShouldBeReturned_WhenHaveBarcodesAfterId() {
+        var barcodes = productBarcodeProvider.findAfter(0, 1000);
+        assertEquals(1, barcodes.size());
+        verify(productBarcodeRepository).findByIdGreaterThan(0, PageRequest.of(0, 1000, Sort.by("id")));
+    }
+
+    @Test
+    void delete_BarcodeShouldBeDeleted_WhenBarcodeWasReceived() {
+        var barcode = ProductBarcodeFactory.getSavedBarcode();
+        productBarcodeProvider.delete(barcode);
+        verify(productBarcodeRepository).delete(barcode);
+    }
+}
@@ -1,6 +1,7 @@
 package com.todev.pdv.core.providers.impl;
 
 import com.todev.pdv.core.exceptions.ModelNotFoundException;
+import com.todev.pdv.core.exceptions.NotEnoughStockException;
 import com.todev.pdv.core.models.Product;
 import com.todev.pdv.core.repositories.ProductRepository;
 import com.todev.pdv.factories.ProductFactory;
@@ -12,14 +13,19 @@ import org.mockito.Mock;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.when;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(SpringExtension.class)
 class ProductProviderImplTest {
@@ -29,6 +35,9 @@ class ProductProviderImplTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
     @BeforeEach
     void setUpProductRepository() {
         when(productRepository.save(any(Product.class)))
@@ -129,4 +138,54 @@ class ProductProviderImplTest {
         var productByDescription = productProvider.findByDescription("Samsung Galaxy S20");
         assertTrue(productByDescription.isPresent());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findActiveAfter_ProductsShouldBeReturned_WhenHaveActiveProductsAfterId() {
+        when(productRepository.findByIdGreaterThanAndDeletedAtIsNull(anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(ProductFactory.getSavedProduct()));
+        var products = productProvider.findActiveAfter(0, 1000);
+        assertEquals(1, products.size());
+        verify(productRepository).findByIdGreaterThanAndDeletedAtIsNull(0, PageRequest.of(0, 1000, Sort.by("id")));
+    }
+
+    @Test
+    void findInactiveAfter_ProductsShouldBeReturned_WhenHaveInactiveProductsAfterId() {
+        when(productRepository.findByIdGreaterThanAndDeletedAtIsNotNull(anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(ProductFactory.getInactiveSavedProduct()));
+        var products = productProvider.findInactiveAfter(0, 20);
+        assertEquals(1, products.size());
+        verify(productRepository).findByIdGreaterThanAndDeletedAtIsNotNull(0, PageRequest.of(0, 20, Sort.by("id")));
+    }
+
+    @Test
+    void findActiveByDescriptionContainingAfter_ProductsShouldBeReturned_WhenHaveActiveProductsAfterId() {
+        when(productRepository.findByDescriptionContainingAndIdGreaterThanAndDeletedAtIsNull(anyString(), anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(ProductFactory.getSavedProduct()));
+        var products = productProvider.findActiveByDescriptionContainingAfter("Gal", 0, 20);
+        assertEquals(1, products.size());
+        verify(productRepository).findByDescriptionContainingAndIdGreaterThanAndDeletedAtIsNull("Gal", 0,
+                PageRequest.of(0, 20, Sort.by("id")));
+    }
+
+    @Test
+    void findInactiveByDescriptionContainingAfter_ProductsShouldBeReturned_WhenHaveInactiveProductsAfterId() {
+        when(productRepository.findByDescriptionContainingAndIdGreaterThanAndDeletedAtIsNotNull(anyString(), anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(ProductFactory.getInactiveSavedProduct()));
+        var products = productProvider.findInactiveByDescriptionContainingAfter("Gal", 0, 20);
+        assertEquals(1, products.size());
+    }
+
+    @Test
+    void decreaseStock_StockShouldBeDecreased_WhenAllProductsHaveEnoughStock() {
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+                .thenReturn(new int[]{1, 1});
+        assertDoesNotThrow(() -> productProvider.decreaseStock(Map.of(1, 2, 2, 3)));
+    }
+
+    @Test
+    void decreaseStock_StockShouldNotBeDecreased_WhenAnyProductDoesNotHaveEnoughStock() {
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+                .thenReturn(new int[]{1, 0});
+        assertThrows(NotEnoughStockException.class, () -> productProvider.decreaseStock(Map.of(1, 2, 2, 3)));
+    }
+}
@@ -8,15 +8,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.when;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(SpringExtension.class)
 class SaleItemProviderImplTest {
@@ -26,6 +38,9 @@ class SaleItemProviderImplTest {
     @Mock
     private SaleItemRepository saleItemRepository;
 
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
     @BeforeEach
     void setUpSaleItemRepository() {
         when(saleItemRepository.save(any(SaleItem.class)))
@@ -45,4 +60,38 @@ class SaleItemProviderImplTest {
         var saleItems = saleItemProvider.findBySaleId(1);
         assertEquals(1, saleItems.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void saveAll_SaleItemsShouldBeSavedInBatches_WhenManySaleItemsWereReceived() {
+        var items = new ArrayList<SaleItem>();
+
+        for (int i = 0; i < 1200; i++) {
+            items.add(SaleItemFactory.getSaleItem());
+        }
+
+        saleItemProvider.saveAll(items);
+        verify(saleItemRepository, times(3)).saveAll(anyList());
+    }
+
+    @Test
+    void sumAmountsBySaleIds_AmountsShouldBeGroupedByProduct_WhenSalesHaveItems() {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(2);
+            var resultSet = mock(ResultSet.class);
+            when(resultSet.getInt("product_id")).thenReturn(1);
+            when(resultSet.getInt("amount")).thenReturn(5);
+            handler.processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+        var amounts = saleItemProvider.sumAmountsBySaleIds(List.of(1, 2));
+        assertEquals(5, amounts.get(1));
+    }
+
+    @Test
+    void updateDeletedAtBySaleIds_SaleItemsShouldBeDeleted_WhenSaleIdsWereReceived() {
+        var deletedAt = LocalDateTime.now();
+        saleItemProvider.updateDeletedAtBySaleIds(List.of(1), deletedAt);
+        verify(saleItemRepository).updateDeletedAtBySaleIdIn(List.of(1), deletedAt);
+    }
+}
@@ -1,5 +1,9 @@
 package com.todev.pdv.core.providers.impl;
 
+import com.todev.pdv.common.dtos.SaleDetailsResponse;
+import com.todev.pdv.common.dtos.SaleItemResponse;
+import com.todev.pdv.common.dtos.SaleReportLine;
+import com.todev.pdv.core.enums.PaymentMethod;
 import com.todev.pdv.core.exceptions.ModelNotFoundException;
 import com.todev.pdv.core.models.Sale;
 import com.todev.pdv.core.repositories.SaleRepository;
@@ -12,16 +16,31 @@ import org.mockito.Mock;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.when;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(SpringExtension.class)
 class SaleProviderImplTest {
@@ -31,6 +50,9 @@ class SaleProviderImplTest {
     @Mock
     private SaleRepository saleRepository;
 
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
     @BeforeEach
     void setUpSaleRepository() {
         when(saleRepository.save(any(Sale.class)))
@@ -56,6 +78,12 @@ class SaleProviderImplTest {
 
         when(saleRepository.findById(anyInt()))
                 .thenReturn(Optional.of(SaleFactory.getSavedSale()));
+
+        when(saleRepository.findByIdInAndDeletedAtIsNullOrderById(anyCollection()))
+                .thenReturn(List.of(SaleFactory.getSavedSale()));
+
+        when(saleRepository.findByUserIdAndCreatedAtBetweenAndDeletedAtIsNotNullOrderById(anyInt(), any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(SaleFactory.getInactiveSavedSale()));
     }
 
     @Test
@@ -122,4 +150,72 @@ class SaleProviderImplTest {
                 .thenReturn(Optional.empty());
         assertThrows(ModelNotFoundException.class, () -> saleProvider.findById(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    void findDetailsById_SaleDetailsShouldBeReturned_WhenIdWasFound() {
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(ResultSetExtractor.class)))
+                .thenReturn(new SaleDetailsResponse("Seller", List.of(new SaleItemResponse(1, "Samsung Galaxy S20", 1, 1750.90))));
+        var details = saleProvider.findDetailsById(1);
+        assertEquals(1, details.items().size());
+    }
+
+    @Test
+    void findDetailsById_SaleDetailsShouldNotBeReturned_WhenIdWasNotFound() {
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(ResultSetExtractor.class)))
+                .thenReturn(null);
+        assertThrows(ModelNotFoundException.class, () -> saleProvider.findDetailsById(0));
+    }
+
+    @Test
+    void lockActiveIds_SaleIdsShouldBeReturned_WhenIdsWereFound() {
+        assertEquals(List.of(1), saleProvider.lockActiveIds(List.of(1, 2)));
+    }
+
+    @Test
+    void lockInactiveIdsByUserAndDate_SaleIdsShouldBeReturned_WhenUserHasInactiveSalesInPeriod() {
+        var saleIds = saleProvider.lockInactiveIdsByUserAndDate(1, LocalDateTime.now().minusDays(1), LocalDateTime.now(), 1001);
+        assertEquals(List.of(1), saleIds);
+    }
+
+    @Test
+    void findActiveLinesByDate_LinesShouldBeStreamed_WhenHaveActiveSalesInPeriod() throws SQLException {
+        var resultSet = mock(ResultSet.class);
+        var createdAt = LocalDateTime.now();
+        when(resultSet.getString("seller_name")).thenReturn("Seller");
+        when(resultSet.getLong("total")).thenReturn(157581L);
+        when(resultSet.getString("payment_method")).thenReturn("PIX");
+        when(resultSet.getObject("created_at", LocalDateTime.class)).thenReturn(createdAt);
+        var jdbcOperations = mock(JdbcOperations.class);
+        when(jdbcTemplate.getJdbcOperations()).thenReturn(jdbcOperations);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(resultSet);
+            handler.processRow(resultSet);
+            return null;
+        }).when(jdbcOperations).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        var lines = new ArrayList<SaleReportLine>();
+
+        saleProvider.findActiveLinesByDate(createdAt.minusDays(1), createdAt, lines::add);
+
+        assertEquals(2, lines.size());
+        assertEquals(new SaleReportLine("Seller", 157581L, PaymentMethod.PIX, createdAt), lines.get(0));
+    }
+
+    @Test
+    void findActiveBefore_NewestSalesShouldBeReturned_WhenHaveActiveSalesBeforeId() {
+        when(saleRepository.findByIdLessThanAndDeletedAtIsNull(anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(SaleFactory.getSavedSale()));
+        var sales = saleProvider.findActiveBefore(Integer.MAX_VALUE, 20);
+        assertEquals(1, sales.size());
+        verify(saleRepository).findByIdLessThanAndDeletedAtIsNull(Integer.MAX_VALUE,
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "id")));
+    }
+
+    @Test
+    void findInactiveBefore_NewestSalesShouldBeReturned_WhenHaveInactiveSalesBeforeId() {
+        when(saleRepository.findByIdLessThanAndDeletedAtIsNotNull(anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(SaleFactory.getInactiveSavedSale()));
+        var sales = saleProvider.findInactiveBefore(Integer.MAX_VALUE, 20);
+        assertEquals(1, sales.size());
+    }
+}
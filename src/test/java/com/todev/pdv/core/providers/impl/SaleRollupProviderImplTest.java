@@ -0,0 +1,107 @@
+package com.todev.pdv.core.providers.impl;
+
+import com.todev.pdv.common.dtos.SellerTotal;
+import com.todev.pdv.core.models.Money;
+import com.todev.pdv.factories.SaleFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.when;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class SaleRollupProviderImplTest {
+    @InjectMocks
+    private SaleRollupProviderImpl saleRollupProvider;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Test
+    void add_RollupShouldReceivePositiveDelta_WhenSaleWasSaved() {
+        var sale = SaleFactory.getSavedSale();
+        sale.setDiscount(10);
+        var parameters = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+
+        saleRollupProvider.add(sale);
+
+        verify(jdbcTemplate).update(anyString(), parameters.capture());
+        assertEquals(sale.getCreatedAt().toLocalDate(), parameters.getValue().getValue("day"));
+        assertEquals(1, parameters.getValue().getValue("sales"));
+        assertEquals(175090L, parameters.getValue().getValue("gross"));
+        assertEquals(157581L, parameters.getValue().getValue("net"));
+    }
+
+    @Test
+    void subtract_RollupShouldReceiveNegativeDelta_WhenSaleWasDeleted() {
+        var sale = SaleFactory.getSavedSale();
+        sale.setDiscount(0);
+        var parameters = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+
+        saleRollupProvider.subtract(sale);
+
+        verify(jdbcTemplate).update(anyString(), parameters.capture());
+        assertEquals(-1, parameters.getValue().getValue("sales"));
+        assertEquals(-175090L, parameters.getValue().getValue("gross"));
+        assertEquals(-175090L, parameters.getValue().getValue("net"));
+    }
+
+    @Test
+    void subtractBySaleIds_RollupShouldReceiveNegativeSign_WhenSalesWereDeleted() {
+        var parameters = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+
+        saleRollupProvider.subtractBySaleIds(List.of(1, 2));
+
+        verify(jdbcTemplate).update(anyString(), parameters.capture());
+        assertEquals(-1, parameters.getValue().getValue("sign"));
+        assertEquals(List.of(1, 2), parameters.getValue().getValue("saleIds"));
+    }
+
+    @Test
+    void sumNetByUserAndDay_TotalShouldBeReturned_WhenUserHasSalesInPeriod() {
+        when(jdbcTemplate.queryForObject(anyString(), any(SqlParameterSource.class), eq(Long.class)))
+                .thenReturn(157581L);
+        var total = saleRollupProvider.sumNetByUserAndDay(1, LocalDate.now().minusMonths(1), LocalDate.now());
+        assertEquals(Money.ofCents(157581L), total);
+    }
+
+    @Test
+    void findSellerTotals_TotalsShouldBeReturned_WhenSellersWereFound() {
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of(new SellerTotal(1, "Seller", 2, 350180L, 315162L)));
+        var parameters = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+
+        var totals = saleRollupProvider.findSellerTotals(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31));
+
+        verify(jdbcTemplate).query(startsWith("SELECT u.id AS user_id"), parameters.capture(), any(RowMapper.class));
+        assertEquals(1, totals.size());
+        assertEquals(LocalDate.of(2024, 5, 1), parameters.getValue().getValue("start"));
+        assertEquals(LocalDate.of(2024, 5, 31), parameters.getValue().getValue("end"));
+    }
+
+    @Test
+    void rebuild_RollupShouldBeClearedAndRecomputed() {
+        var template = mock(JdbcTemplate.class);
+        when(jdbcTemplate.getJdbcTemplate()).thenReturn(template);
+
+        saleRollupProvider.rebuild();
+
+        var inOrder = inOrder(template);
+        inOrder.verify(template).update(startsWith("DELETE FROM sales_daily_rollup"));
+        inOrder.verify(template).update(startsWith("INSERT INTO sales_daily_rollup"));
+    }
+}
@@ -12,6 +12,7 @@ import org.mockito.Mock;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.List;
@@ -20,6 +21,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.when;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(SpringExtension.class)
 class UserProviderImplTest {
@@ -145,4 +147,37 @@ class UserProviderImplTest {
                 .thenReturn(Optional.empty());
         assertThrows(ModelNotFoundException.class, () -> userProvider.findActiveByLogin("admins"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void findActiveAfter_UsersShouldBeReturned_WhenHaveActiveUsersAfterId() {
+        when(userRepository.findByIdGreaterThanAndDeletedAtIsNull(anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(UserFactory.getSavedAdmin()));
+        var users = userProvider.findActiveAfter(0, 20);
+        assertEquals(1, users.size());
+        verify(userRepository).findByIdGreaterThanAndDeletedAtIsNull(0, PageRequest.of(0, 20, Sort.by("id")));
+    }
+
+    @Test
+    void findInactiveAfter_UsersShouldBeReturned_WhenHaveInactiveUsersAfterId() {
+        when(userRepository.findByIdGreaterThanAndDeletedAtIsNotNull(anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(UserFactory.getInactiveSavedManager()));
+        var users = userProvider.findInactiveAfter(0, 20);
+        assertEquals(1, users.size());
+    }
+
+    @Test
+    void findActiveByNameContainingAfter_UsersShouldBeReturned_WhenHaveActiveUsersAfterId() {
+        when(userRepository.findByNameContainingAndIdGreaterThanAndDeletedAtIsNull(anyString(), anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(UserFactory.getSavedSeller()));
+        var users = userProvider.findActiveByNameContainingAfter("Sel", 0, 20);
+        assertEquals(1, users.size());
+    }
+
+    @Test
+    void findInactiveByNameContainingAfter_UsersShouldBeReturned_WhenHaveInactiveUsersAfterId() {
+        when(userRepository.findByNameContainingAndIdGreaterThanAndDeletedAtIsNotNull(anyString(), anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(UserFactory.getInactiveSavedManager()));
+        var users = userProvider.findInactiveByNameContainingAfter("Man", 0, 20);
+        assertEquals(1, users.size());
+    }
+}
@@ -0,0 +1,69 @@
+package com.todev.pdv.core.repositories;
+
+import com.todev.pdv.factories.IdempotencyKeyFactory;
+import com.todev.pdv.factories.SaleFactory;
+import com.todev.pdv.factories.UserFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.jdbc.DataJdbcTest;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
+
+@DataJdbcTest
+@AutoConfigureTestDatabase(replace = NONE)
+class IdempotencyKeyRepositoryTest {
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Integer saleId;
+
+    @BeforeEach
+    void setUp() {
+        var user = userRepository.save(UserFactory.getSeller());
+        var sale = SaleFactory.getSale();
+        sale.setUserId(user.getId());
+        saleId = saleRepository.save(sale).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        idempotencyKeyRepository.deleteAll();
+        saleRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void findByLoginAndIdempotencyKey_IdempotencyKeyShouldBeReturned_WhenKeyWasFound() {
+        var idempotencyKey = idempotencyKeyRepository.save(IdempotencyKeyFactory.getIdempotencyKey(saleId));
+        var keyByLogin = idempotencyKeyRepository.findByLoginAndIdempotencyKey("seller", idempotencyKey.getIdempotencyKey());
+        assertTrue(keyByLogin.isPresent());
+    }
+
+    @Test
+    void findByLoginAndIdempotencyKey_IdempotencyKeyShouldNotBeReturned_WhenKeyBelongsToAnotherUser() {
+        var idempotencyKey = idempotencyKeyRepository.save(IdempotencyKeyFactory.getIdempotencyKey(saleId));
+        var keyByLogin = idempotencyKeyRepository.findByLoginAndIdempotencyKey("manager", idempotencyKey.getIdempotencyKey());
+        assertTrue(keyByLogin.isEmpty());
+    }
+
+    @Test
+    void deleteCreatedBefore_IdempotencyKeysShouldBeDeleted_WhenKeysExpired() {
+        var idempotencyKey = IdempotencyKeyFactory.getIdempotencyKey(saleId);
+        idempotencyKey.setCreatedAt(LocalDateTime.now().minusDays(2));
+        idempotencyKeyRepository.save(idempotencyKey);
+        assertEquals(1, idempotencyKeyRepository.deleteCreatedBefore(LocalDateTime.now().minusDays(1)));
+    }
+}
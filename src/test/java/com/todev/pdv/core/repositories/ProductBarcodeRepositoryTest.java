@@ -0,0 +1,65 @@
+package com.todev.pdv.core.repositories;
+
+import com.todev.pdv.factories.ProductBarcodeFactory;
+import com.todev.pdv.factories.ProductFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.jdbc.DataJdbcTest;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
+
+@DataJdbcTest
+@AutoConfigureTestDatabase(replace = NONE)
+class ProductBarcodeRepositoryTest {
+    @Autowired
+    private ProductBarcodeRepository productBarcodeRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        productBarcodeRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void findByCode_BarcodeShouldBeReturned_WhenCodeWasFound() {
+        var product = productRepository.save(ProductFactory.getProduct());
+        productBarcodeRepository.save(ProductBarcodeFactory.getBarcode(product.getId()));
+        var barcode = productBarcodeRepository.findByCode("7891234567895");
+        assertTrue(barcode.isPresent());
+        assertEquals(product.getId(), barcode.get().getProductId());
+    }
+
+    @Test
+    void findByCode_BarcodeShouldNotBeReturned_WhenCodeWasNotFound() {
+        var product = productRepository.save(ProductFactory.getProduct());
+        productBarcodeRepository.save(ProductBarcodeFactory.getBarcode(product.getId()));
+        var barcode = productBarcodeRepository.findByCode("0000000000000");
+        assertTrue(barcode.isEmpty());
+    }
+
+    @Test
+    void findByProductId_BarcodesShouldBeReturned_WhenProductHasSeveralBarcodes() {
+        var product = productRepository.save(ProductFactory.getProduct());
+        var secondBarcode = ProductBarcodeFactory.getBarcode(product.getId());
+        secondBarcode.setCode("7891234567888");
+        productBarcodeRepository.save(ProductBarcodeFactory.getBarcode(product.getId()));
+        productBarcodeRepository.save(secondBarcode);
+        var barcodes = productBarcodeRepository.findByProductId(product.getId());
+        assertEquals(2, barcodes.size());
+    }
+
+    @Test
+    void save_BarcodeShouldNotBeSaved_WhenCodeIsInUse() {
+        var product = productRepository.save(ProductFactory.getProduct());
+        productBarcodeRepository.save(ProductBarcodeFactory.getBarcode(product.getId()));
+        var duplicated = ProductBarcodeFactory.getBarcode(product.getId());
+        assertThrows(DataIntegrityViolationException.class, () -> productBarcodeRepository.save(duplicated));
+    }
+}
@@ -7,6 +7,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.jdbc.DataJdbcTest;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -120,4 +123,43 @@ class ProductRepositoryTest {
         var product = productRepository.findByDescription("Galaxy S20");
         assertTrue(product.isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findByIdInAndDeletedAtIsNull_ProductsShouldBeReturned_WhenIdsWereFound() {
+        var active = productRepository.save(ProductFactory.getProduct());
+        var inactive = ProductFactory.getInactiveProduct();
+        inactive.setDescription("Samsung Galaxy S21");
+        inactive = productRepository.save(inactive);
+        var products = productRepository.findByIdInAndDeletedAtIsNull(List.of(active.getId(), inactive.getId()));
+        assertEquals(1, products.size());
+    }
+
+    @Test
+    void findByIdGreaterThanAndDeletedAtIsNull_ProductsShouldBeReturnedInIdOrder_WhenIdWasReceived() {
+        var first = productRepository.save(ProductFactory.getProduct());
+        var second = ProductFactory.getProduct();
+        second.setDescription("Samsung Galaxy S21");
+        second = productRepository.save(second);
+        var inactive = ProductFactory.getInactiveProduct();
+        inactive.setDescription("Samsung Galaxy S22");
+        productRepository.save(inactive);
+        var products = productRepository.findByIdGreaterThanAndDeletedAtIsNull(first.getId(), PageRequest.of(0, 5, Sort.by("id")));
+        assertEquals(1, products.size());
+        assertEquals(second.getId(), products.get(0).getId());
+    }
+
+    @Test
+    void findByDescriptionContainingAndIdGreaterThanAndDeletedAtIsNull_ProductsShouldBeReturnedInIdOrder_WhenIdWasReceived() {
+        var first = productRepository.save(ProductFactory.getProduct());
+        var second = ProductFactory.getProduct();
+        second.setDescription("Samsung Galaxy S21");
+        second = productRepository.save(second);
+        var other = ProductFactory.getProduct();
+        other.setDescription("Motorola Edge 40");
+        productRepository.save(other);
+        var products = productRepository.findByDescriptionContainingAndIdGreaterThanAndDeletedAtIsNull("Galaxy",
+                first.getId(), PageRequest.of(0, 5, Sort.by("id")));
+        assertEquals(1, products.size());
+        assertEquals(second.getId(), products.get(0).getId());
+    }
+}
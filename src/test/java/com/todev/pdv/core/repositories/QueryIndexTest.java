@@ -0,0 +1,110 @@
+package com.todev.pdv.core.repositories;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.jdbc.DataJdbcTest;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
+
+@DataJdbcTest
+@AutoConfigureTestDatabase(replace = NONE)
+class QueryIndexTest {
+    private static final LocalDateTime START = LocalDateTime.of(2024, 6, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2024, 6, 1, 23, 59, 59);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void findByDeletedAtIsNull_UsersIndexShouldBeUsable_WhenActiveUsersAreQueried() {
+        assertIndex("idx_users_deleted_at", "SELECT * FROM users WHERE deleted_at IS NULL");
+    }
+
+    @Test
+    void findByDeletedAtIsNotNull_UsersIndexShouldBeUsable_WhenInactiveUsersAreQueried() {
+        assertIndex("idx_users_deleted_at", "SELECT * FROM users WHERE deleted_at IS NOT NULL");
+    }
+
+    @Test
+    void findByLoginAndDeletedAtIsNull_LoginIndexShouldBeUsable_WhenUserIsAuthenticated() {
+        assertIndex("login", "SELECT * FROM users WHERE login = ? AND deleted_at IS NULL", "admin");
+    }
+
+    @Test
+    void findByDeletedAtIsNull_ProductsIndexShouldBeUsable_WhenActiveProductsAreQueried() {
+        assertIndex("idx_products_deleted_at", "SELECT * FROM products WHERE deleted_at IS NULL");
+    }
+
+    @Test
+    void findByDeletedAtIsNotNull_ProductsIndexShouldBeUsable_WhenInactiveProductsAreQueried() {
+        assertIndex("idx_products_deleted_at", "SELECT * FROM products WHERE deleted_at IS NOT NULL");
+    }
+
+    @Test
+    void findByDescription_DescriptionIndexShouldBeUsable_WhenProductIsSearchedByDescription() {
+        assertIndex("description", "SELECT * FROM products WHERE description = ?", "Batom");
+    }
+
+    @Test
+    void findByDeletedAtIsNull_SalesIndexShouldBeUsable_WhenActiveSalesAreQueried() {
+        assertIndex("idx_sales_deleted_at", "SELECT * FROM sales WHERE deleted_at IS NULL");
+    }
+
+    @Test
+    void findByDeletedAtIsNotNull_SalesIndexShouldBeUsable_WhenInactiveSalesAreQueried() {
+        assertIndex("idx_sales_deleted_at", "SELECT * FROM sales WHERE deleted_at IS NOT NULL");
+    }
+
+    @Test
+    void findByCreatedAtBetweenAndDeletedAtIsNull_DateIndexShouldBeUsable_WhenSalesOfDayAreQueried() {
+        assertIndex("idx_sales_created_at_deleted_at",
+                "SELECT * FROM sales WHERE created_at BETWEEN ? AND ? AND deleted_at IS NULL", START, END);
+    }
+
+    @Test
+    void findByCreatedAtBetweenAndDeletedAtIsNotNull_DateIndexShouldBeUsable_WhenInactiveSalesOfDayAreQueried() {
+        assertIndex("idx_sales_created_at_deleted_at",
+                "SELECT * FROM sales WHERE created_at BETWEEN ? AND ? AND deleted_at IS NOT NULL", START, END);
+    }
+
+    @Test
+    void findByUserIdAndCreatedAtBetweenAndDeletedAtIsNull_UserIndexShouldBeUsable_WhenSalesOfUserAreLocked() {
+        assertIndex("idx_sales_user_id_created_at_deleted_at",
+                "SELECT * FROM sales WHERE user_id = ? AND created_at BETWEEN ? AND ? AND deleted_at IS NULL ORDER BY id",
+                1, START, END);
+    }
+
+    @Test
+    void findByUserIdAndCreatedAtBetweenAndDeletedAtIsNotNull_UserIndexShouldBeUsable_WhenInactiveSalesOfUserAreLocked() {
+        assertIndex("idx_sales_user_id_created_at_deleted_at",
+                "SELECT * FROM sales WHERE user_id = ? AND created_at BETWEEN ? AND ? AND deleted_at IS NOT NULL ORDER BY id",
+                1, START, END);
+    }
+
+    @Test
+    void findBySaleId_SaleIdIndexShouldBeUsable_WhenItemsOfSaleAreQueried() {
+        assertIndex("idx_sales_items_sale_id_product_id_amount", "SELECT * FROM sales_items WHERE sale_id = ?", 1);
+    }
+
+    @Test
+    void sumAmountsBySaleIds_SaleIdIndexShouldBeUsable_WhenAmountsAreSummed() {
+        assertIndex("idx_sales_items_sale_id_product_id_amount",
+                "SELECT product_id, SUM(amount) AS amount FROM sales_items WHERE sale_id IN (?, ?) GROUP BY product_id", 1, 2);
+    }
+
+    private void assertIndex(String index, String sql, Object... args) {
+        var plan = jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+        var usable = plan.stream()
+                .map(row -> row.get("possible_keys"))
+                .filter(Objects::nonNull)
+                .anyMatch(keys -> Arrays.asList(keys.toString().split(",")).contains(index));
+        assertTrue(usable, () -> "O índice " + index + " não é considerado pela consulta: " + plan);
+    }
+}
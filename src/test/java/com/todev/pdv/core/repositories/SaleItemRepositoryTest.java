@@ -12,6 +12,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.jdbc.DataJdbcTest;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
@@ -65,4 +68,11 @@ class SaleItemRepositoryTest {
         var saleItems = saleItemRepository.findBySaleId(0);
         assertTrue(saleItems.isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    void updateDeletedAtBySaleIdIn_SaleItemsShouldBeDeleted_WhenSaleIdsWereFound() {
+        var count = saleItemRepository.updateDeletedAtBySaleIdIn(List.of(sale.getId()), LocalDateTime.now());
+        assertEquals(1, count);
+        assertTrue(saleItemRepository.findBySaleId(sale.getId()).stream().allMatch(item -> item.getDeletedAt() != null));
+    }
+}
@@ -1,5 +1,6 @@
 package com.todev.pdv.core.repositories;
 
+import com.todev.pdv.core.models.Sale;
 import com.todev.pdv.core.models.User;
 import com.todev.pdv.factories.SaleFactory;
 import com.todev.pdv.factories.UserFactory;
@@ -10,8 +11,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.jdbc.DataJdbcTest;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -154,4 +157,53 @@ class SaleRepositoryTest {
         var inactiveSaleById = saleRepository.findByIdAndDeletedAtIsNotNull(sale.getId());
         assertTrue(inactiveSaleById.isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findByIdInAndDeletedAtIsNullOrderById_SalesShouldBeReturned_WhenIdsWereFound() {
+        var active = SaleFactory.getSale();
+        active.setUserId(user.getId());
+        saleRepository.save(active);
+        var inactive = SaleFactory.getInactiveSale();
+        inactive.setUserId(user.getId());
+        saleRepository.save(inactive);
+        var sales = saleRepository.findByIdInAndDeletedAtIsNullOrderById(List.of(active.getId(), inactive.getId()));
+        assertEquals(1, sales.size());
+    }
+
+    @Test
+    void findByUserIdAndCreatedAtBetweenAndDeletedAtIsNullOrderById_SalesShouldBeReturned_WhenUserHasSalesInPeriod() {
+        var sale = SaleFactory.getSale();
+        sale.setUserId(user.getId());
+        saleRepository.save(sale);
+        var sales = saleRepository.findByUserIdAndCreatedAtBetweenAndDeletedAtIsNullOrderById(user.getId(),
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), PageRequest.of(0, 10));
+        assertEquals(1, sales.size());
+    }
+
+    @Test
+    void updateDeletedAtByIdIn_SalesShouldBeDeleted_WhenIdsWereFound() {
+        var sale = SaleFactory.getSale();
+        sale.setUserId(user.getId());
+        saleRepository.save(sale);
+        var count = saleRepository.updateDeletedAtByIdIn(List.of(sale.getId()), LocalDateTime.now());
+        assertEquals(1, count);
+        assertTrue(saleRepository.findByIdAndDeletedAtIsNotNull(sale.getId()).isPresent());
+    }
+
+
+    @Test
+    void findByIdLessThanAndDeletedAtIsNull_OlderSalesShouldBeReturnedNewestFirst_WhenIdWasReceived() {
+        var first = SaleFactory.getSale();
+        first.setUserId(user.getId());
+        first = saleRepository.save(first);
+        var second = SaleFactory.getSale();
+        second.setUserId(user.getId());
+        second = saleRepository.save(second);
+        var third = SaleFactory.getSale();
+        third.setUserId(user.getId());
+        third = saleRepository.save(third);
+        var sales = saleRepository.findByIdLessThanAndDeletedAtIsNull(third.getId(),
+                PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "id")));
+        assertEquals(List.of(second.getId(), first.getId()), sales.stream().map(Sale::getId).toList());
+    }
+}
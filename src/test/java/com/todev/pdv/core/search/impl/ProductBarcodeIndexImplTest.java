@@ -0,0 +1,77 @@
+package com.todev.pdv.core.search.impl;
+
+import com.todev.pdv.core.models.ProductBarcode;
+import com.todev.pdv.core.providers.contracts.ProductBarcodeProvider;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProductBarcodeIndexImplTest {
+    private final ProductBarcodeProvider productBarcodeProvider = mock(ProductBarcodeProvider.class);
+    private final ProductBarcodeIndexImpl productBarcodeIndex = new ProductBarcodeIndexImpl(productBarcodeProvider);
+
+    @Test
+    void find_ProductIdShouldBeReturned_WhenCodeWasPut() {
+        productBarcodeIndex.put("7891234567895", 1);
+        assertEquals(Optional.of(1), productBarcodeIndex.find("7891234567895"));
+    }
+
+    @Test
+    void find_ProductIdShouldNotBeReturned_WhenCodeWasRemoved() {
+        productBarcodeIndex.put("7891234567895", 1);
+        productBarcodeIndex.remove("7891234567895");
+        assertEquals(Optional.empty(), productBarcodeIndex.find("7891234567895"));
+    }
+
+    @Test
+    void rebuild_EveryBarcodeShouldBeLoaded_WhenBarcodesSpanSeveralBatches() {
+        var firstBatch = IntStream.rangeClosed(1, 1000).mapToObj(this::barcodeOf).toList();
+        when(productBarcodeProvider.findAfter(anyInt(), anyInt())).thenReturn(List.of());
+        when(productBarcodeProvider.findAfter(eq(0), anyInt())).thenReturn(firstBatch);
+        when(productBarcodeProvider.findAfter(eq(1000), anyInt())).thenReturn(List.of(barcodeOf(1001)));
+
+        productBarcodeIndex.rebuild();
+
+        assertEquals(Optional.of(1), productBarcodeIndex.find("code-1"));
+        assertEquals(Optional.of(1001), productBarcodeIndex.find("code-1001"));
+    }
+
+    @Test
+    void rebuild_RemovedBarcodeShouldNotBeLoaded_WhenItWasDeletedDuringRebuild() {
+        when(productBarcodeProvider.findAfter(eq(0), anyInt())).thenAnswer(invocation -> {
+            productBarcodeIndex.remove("code-1");
+            return List.of(barcodeOf(1), barcodeOf(2));
+        });
+
+        productBarcodeIndex.rebuild();
+
+        assertEquals(Optional.empty(), productBarcodeIndex.find("code-1"));
+        assertEquals(Optional.of(2), productBarcodeIndex.find("code-2"));
+    }
+
+    @Test
+    void rebuild_BarcodeShouldBeKept_WhenItWasPutAgainDuringRebuild() {
+        when(productBarcodeProvider.findAfter(eq(0), anyInt())).thenAnswer(invocation -> {
+            productBarcodeIndex.remove("code-1");
+            productBarcodeIndex.put("code-1", 3);
+            return List.of(barcodeOf(1));
+        });
+
+        productBarcodeIndex.rebuild();
+
+        assertEquals(Optional.of(3), productBarcodeIndex.find("code-1"));
+    }
+
+    private ProductBarcode barcodeOf(int id) {
+        return new ProductBarcode(id, id, "code-" + id, LocalDateTime.now());
+    }
+}
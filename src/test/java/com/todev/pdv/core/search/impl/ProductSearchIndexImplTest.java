@@ -0,0 +1,164 @@
+package com.todev.pdv.core.search.impl;
+
+import com.todev.pdv.core.models.Money;
+import com.todev.pdv.core.models.Product;
+import com.todev.pdv.core.providers.contracts.ProductProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProductSearchIndexImplTest {
+    private final ProductProvider productProvider = mock(ProductProvider.class);
+    private ProductSearchIndexImpl productSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        productSearchIndex = new ProductSearchIndexImpl(productProvider, 500);
+        productSearchIndex.index(1, "Batom Vermelho");
+        productSearchIndex.index(2, "Lápis de Batom");
+        productSearchIndex.index(3, "Rebatom Líquido");
+        productSearchIndex.index(4, "Pó Compacto Ação");
+    }
+
+    @Test
+    void search_AccentsAndCaseShouldBeIgnored_WhenQueryDiffersOnlyByThem() {
+        assertAll(() -> {
+            assertEquals(List.of(4), productSearchIndex.search("PO COMPACTO"));
+            assertEquals(List.of(4), productSearchIndex.search("acao"));
+            assertEquals(List.of(2), productSearchIndex.search("LAPIS"));
+        });
+    }
+
+    @Test
+    void search_PrefixMatchesShouldBeRankedFirst_WhenSeveralProductsMatch() {
+        assertEquals(List.of(1, 2, 3), productSearchIndex.search("batom"));
+    }
+
+    @Test
+    void search_ProductShouldBeFound_WhenQueryHasOneTypo() {
+        assertAll(() -> {
+            assertTrue(productSearchIndex.search("vermelo").contains(1));
+            assertTrue(productSearchIndex.search("vremelho").contains(1));
+            assertTrue(productSearchIndex.search("vermelhho").contains(1));
+            assertTrue(productSearchIndex.search("verm3lho").contains(1));
+        });
+    }
+
+    @Test
+    void search_ProductShouldNotBeFound_WhenQueryHasTwoTypos() {
+        assertTrue(productSearchIndex.search("vxrmxlho").isEmpty());
+    }
+
+    @Test
+    void search_WordPrefixesShouldMatch_WhenQueryIsShort() {
+        assertAll(() -> {
+            assertEquals(List.of(1, 2), productSearchIndex.search("b"));
+            assertEquals(List.of(3), productSearchIndex.search("li"));
+            assertEquals(List.of(2), productSearchIndex.search("d"));
+        });
+    }
+
+    @Test
+    void search_EmptyListShouldBeReturned_WhenQueryIsBlank() {
+        assertTrue(productSearchIndex.search(" - ").isEmpty());
+    }
+
+    @Test
+    void remove_ProductShouldNotBeFound_WhenItWasRemoved() {
+        productSearchIndex.remove(1);
+        assertEquals(List.of(2, 3), productSearchIndex.search("batom"));
+    }
+
+    @Test
+    void index_OldDescriptionShouldNotBeFound_WhenProductWasRenamed() {
+        productSearchIndex.index(1, "Delineador");
+
+        assertAll(() -> {
+            assertEquals(List.of(2, 3), productSearchIndex.search("batom"));
+            assertEquals(List.of(1), productSearchIndex.search("deline"));
+        });
+    }
+
+    @Test
+    void search_ResultsShouldBeLimited_WhenMaxResultsWasReached() {
+        var limitedIndex = new ProductSearchIndexImpl(productProvider, 2);
+        limitedIndex.index(1, "Batom Vermelho");
+        limitedIndex.index(2, "Batom Rosa");
+        limitedIndex.index(3, "Batom Nude");
+
+        assertEquals(2, limitedIndex.search("batom").size());
+    }
+
+    @Test
+    void search_LongerPrefixMatchesShouldOutrankShorterWordMatches_WhenResultsAreLimited() {
+        var limitedIndex = new ProductSearchIndexImpl(productProvider, 2);
+        limitedIndex.index(1, "Lápis Batom");
+        limitedIndex.index(2, "Batom Rosa Escuro Cintilante");
+        limitedIndex.index(3, "Rebatom");
+        limitedIndex.index(4, "Batom Nude");
+
+        assertAll(() -> {
+            assertEquals(List.of(4, 2), limitedIndex.search("batom"));
+            assertEquals(List.of(4, 2), limitedIndex.search("b"));
+            assertEquals(2, limitedIndex.search("batmo").size());
+        });
+    }
+
+    @Test
+    void rebuild_ActiveProductsShouldBeIndexed_WhenApplicationIsReady() {
+        var freshIndex = new ProductSearchIndexImpl(productProvider, 500);
+        when(productProvider.findActiveAfter(eq(0), anyInt()))
+                .thenReturn(List.of(new Product(7, "Máscara de Cílios", 10, Money.ofCents(4990L), LocalDateTime.now(), null, 0)));
+
+        assertFalse(freshIndex.isReady());
+        freshIndex.rebuild();
+
+        assertAll(() -> {
+            assertTrue(freshIndex.isReady());
+            assertEquals(List.of(7), freshIndex.search("cilios"));
+        });
+    }
+
+    @Test
+    void rebuild_StaleDescriptionShouldNotBeIndexed_WhenProductWasRenamedDuringRebuild() {
+        var freshIndex = new ProductSearchIndexImpl(productProvider, 500);
+        when(productProvider.findActiveAfter(eq(0), anyInt())).thenAnswer(invocation -> {
+            freshIndex.index(7, "Delineador");
+            return List.of(new Product(7, "Máscara de Cílios", 10, Money.ofCents(4990L), LocalDateTime.now(), null, 0));
+        });
+
+        freshIndex.rebuild();
+
+        assertAll(() -> {
+            assertTrue(freshIndex.search("cilios").isEmpty());
+            assertEquals(List.of(7), freshIndex.search("delineador"));
+        });
+    }
+
+    @Test
+    void rebuild_DeletedProductShouldNotBeIndexed_WhenItWasRemovedDuringRebuild() {
+        var freshIndex = new ProductSearchIndexImpl(productProvider, 500);
+        when(productProvider.findActiveAfter(eq(0), anyInt())).thenAnswer(invocation -> {
+            freshIndex.remove(7);
+            return List.of(new Product(7, "Máscara de Cílios", 10, Money.ofCents(4990L), LocalDateTime.now(), null, 0),
+                    new Product(8, "Máscara Facial", 10, Money.ofCents(2990L), LocalDateTime.now(), null, 0));
+        });
+
+        freshIndex.rebuild();
+
+        assertEquals(List.of(8), freshIndex.search("mascara"));
+    }
+
+    @Test
+    void normalize_AccentsCaseAndSymbolsShouldBeFolded_WhenValueIsNormalized() {
+        assertEquals("pao de queijo 2", ProductSearchIndexImpl.normalize("  Pão-de-Queijo!! (2) "));
+    }
+}
@@ -0,0 +1,169 @@
+package com.todev.pdv.core.services.impl;
+
+import com.todev.pdv.common.dtos.SaleRequest;
+import com.todev.pdv.common.dtos.SaleResponse;
+import com.todev.pdv.common.mappers.contracts.ModelMapper;
+import com.todev.pdv.core.exceptions.ConstraintConflictException;
+import com.todev.pdv.core.exceptions.NotEnoughStockException;
+import com.todev.pdv.core.models.Sale;
+import com.todev.pdv.core.providers.contracts.IdempotencyKeyProvider;
+import com.todev.pdv.core.providers.contracts.SaleProvider;
+import com.todev.pdv.core.services.contracts.SaleService;
+import com.todev.pdv.factories.IdempotencyKeyFactory;
+import com.todev.pdv.factories.SaleFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.when;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class IdempotencyServiceImplTest {
+    private IdempotencyServiceImpl idempotencyService;
+
+    @Mock
+    private SaleService saleService;
+
+    @Mock
+    private SaleProvider saleProvider;
+
+    @Mock
+    private IdempotencyKeyProvider idempotencyKeyProvider;
+
+    @Mock
+    private ModelMapper modelMapper;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyServiceImpl(saleService, saleProvider, idempotencyKeyProvider, modelMapper, 100, Duration.ofHours(24));
+
+        when(saleService.save(anyString(), anyString(), any(SaleRequest.class)))
+                .thenReturn(SaleFactory.getResponseDTO());
+
+        when(idempotencyKeyProvider.findByLoginAndKey(anyString(), anyString()))
+                .thenReturn(Optional.empty());
+
+        when(saleProvider.findById(anyInt()))
+                .thenReturn(SaleFactory.getSavedSale());
+
+        when(modelMapper.toDTO(any(Sale.class)))
+                .thenReturn(SaleFactory.getResponseDTO());
+    }
+
+    @Test
+    void save_SaleShouldBeSavedOnce_WhenRequestWasRetried() {
+        var first = idempotencyService.save("seller", "key", SaleFactory.getRequestDTO(1));
+        var second = idempotencyService.save("seller", "key", SaleFactory.getRequestDTO(1));
+        assertSame(first, second);
+        verify(saleService, times(1)).save(anyString(), anyString(), any(SaleRequest.class));
+    }
+
+    @Test
+    void save_ConflictShouldBeThrown_WhenKeyWasReusedWithAnotherCart() {
+        idempotencyService.save("seller", "key", SaleFactory.getRequestDTO(1));
+        var otherCart = SaleFactory.getRequestDTO(2);
+        assertThrows(ConstraintConflictException.class, () -> idempotencyService.save("seller", "key", otherCart));
+        verify(saleService, times(1)).save(anyString(), anyString(), any(SaleRequest.class));
+    }
+
+    @Test
+    void save_ConflictShouldBeThrown_WhenPersistedKeyBelongsToAnotherCart() {
+        when(idempotencyKeyProvider.findByLoginAndKey(anyString(), anyString()))
+                .thenReturn(Optional.of(IdempotencyKeyFactory.getSavedIdempotencyKey()));
+        var otherCart = SaleFactory.getRequestDTO(2);
+        assertThrows(ConstraintConflictException.class, () -> idempotencyService.save("seller", "key", otherCart));
+        verify(saleService, never()).save(anyString(), anyString(), any(SaleRequest.class));
+    }
+
+    @Test
+    void save_SaleShouldBeSavedAgain_WhenKeyBelongsToAnotherUser() {
+        idempotencyService.save("seller", "key", SaleFactory.getRequestDTO(1));
+        idempotencyService.save("manager", "key", SaleFactory.getRequestDTO(1));
+        verify(saleService, times(2)).save(anyString(), anyString(), any(SaleRequest.class));
+    }
+
+    @Test
+    void save_StoredSaleShouldBeReturned_WhenKeyWasPersisted() {
+        when(idempotencyKeyProvider.findByLoginAndKey(anyString(), anyString()))
+                .thenReturn(Optional.of(IdempotencyKeyFactory.getSavedIdempotencyKey()));
+        assertNotNull(idempotencyService.save("seller", "key", SaleFactory.getRequestDTO(1)));
+        verify(saleService, never()).save(anyString(), anyString(), any(SaleRequest.class));
+    }
+
+    @Test
+    void save_SaleShouldBeSaved_WhenPersistedKeyExpired() {
+        var expired = IdempotencyKeyFactory.getSavedIdempotencyKey();
+        expired.setCreatedAt(LocalDateTime.now().minusDays(2));
+        when(idempotencyKeyProvider.findByLoginAndKey(anyString(), anyString()))
+                .thenReturn(Optional.of(expired));
+        idempotencyService.save("seller", "key", SaleFactory.getRequestDTO(1));
+        verify(saleService).save(anyString(), anyString(), any(SaleRequest.class));
+    }
+
+    @Test
+    void save_StoredSaleShouldBeReturned_WhenAnotherNodeSavedTheKeyFirst() {
+        when(saleService.save(anyString(), anyString(), any(SaleRequest.class)))
+                .thenThrow(new DuplicateKeyException("idempotency_keys"));
+        when(idempotencyKeyProvider.findByLoginAndKey(anyString(), anyString()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(IdempotencyKeyFactory.getSavedIdempotencyKey()));
+        assertNotNull(idempotencyService.save("seller", "key", SaleFactory.getRequestDTO(1)));
+    }
+
+    @Test
+    void save_SaleShouldBeRetried_WhenFirstExecutionFailed() {
+        when(saleService.save(anyString(), anyString(), any(SaleRequest.class)))
+                .thenThrow(NotEnoughStockException.class)
+                .thenReturn(SaleFactory.getResponseDTO());
+        var request = SaleFactory.getRequestDTO(1);
+        assertThrows(NotEnoughStockException.class, () -> idempotencyService.save("seller", "key", request));
+        assertDoesNotThrow(() -> idempotencyService.save("seller", "key", request));
+    }
+
+    @Test
+    void save_ConcurrentDuplicatesShouldWaitForFirstExecution_WhenKeyIsInFlight() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(saleService.save(anyString(), anyString(), any(SaleRequest.class)))
+                .thenAnswer(invocation -> {
+                    started.countDown();
+                    release.await();
+                    return SaleFactory.getResponseDTO();
+                });
+
+        var executor = Executors.newFixedThreadPool(4);
+
+        try {
+            var first = executor.submit(() -> idempotencyService.save("seller", "key", SaleFactory.getRequestDTO(1)));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            var duplicates = IntStream.range(0, 3)
+                    .mapToObj(i -> executor.submit(() -> idempotencyService.save("seller", "key", SaleFactory.getRequestDTO(1))))
+                    .toList();
+            release.countDown();
+
+            SaleResponse response = first.get(5, TimeUnit.SECONDS);
+
+            for (var duplicate : duplicates) {
+                assertSame(response, duplicate.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(saleService, times(1)).save(anyString(), anyString(), any(SaleRequest.class));
+    }
+}
@@ -1,16 +1,27 @@
 package com.todev.pdv.core.services.impl;
 
+import com.todev.pdv.common.dtos.ProductBarcodeRequest;
 import com.todev.pdv.common.dtos.ProductRequest;
 import com.todev.pdv.common.mappers.contracts.ModelMapper;
+import com.todev.pdv.common.paginators.impl.CursorPaginatorImpl;
 import com.todev.pdv.core.exceptions.ConstraintConflictException;
+import com.todev.pdv.core.exceptions.ModelNotFoundException;
+import com.todev.pdv.core.models.Money;
 import com.todev.pdv.core.models.Product;
+import com.todev.pdv.core.models.ProductBarcode;
+import com.todev.pdv.core.providers.contracts.ProductBarcodeProvider;
 import com.todev.pdv.core.providers.contracts.ProductProvider;
+import com.todev.pdv.core.search.contracts.ProductBarcodeIndex;
+import com.todev.pdv.core.search.contracts.ProductSearchIndex;
+import com.todev.pdv.core.strategies.contracts.StockMutationStrategy;
+import com.todev.pdv.factories.ProductBarcodeFactory;
 import com.todev.pdv.factories.ProductFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -22,6 +33,8 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.when;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(SpringExtension.class)
 class ProductServiceImplTest {
@@ -31,6 +44,21 @@ class ProductServiceImplTest {
     @Mock
     private ProductProvider productProvider;
 
+    @Mock
+    private ProductBarcodeProvider productBarcodeProvider;
+
+    @Mock
+    private StockMutationStrategy stockMutationStrategy;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductBarcodeIndex productBarcodeIndex;
+
+    @Spy
+    private CursorPaginatorImpl cursorPaginator = new CursorPaginatorImpl(20, 100);
+
     @Mock
     private ModelMapper modelMapper;
 
@@ -68,6 +96,12 @@ class ProductServiceImplTest {
 
         when(modelMapper.toDTO(any(Product.class)))
                 .thenReturn(ProductFactory.getResponseDTO());
+
+        when(modelMapper.toModel(any(ProductBarcodeRequest.class)))
+                .thenReturn(ProductBarcodeFactory.getBarcode(null));
+
+        when(modelMapper.toDTO(any(ProductBarcode.class)))
+                .thenReturn(ProductBarcodeFactory.getResponseDTO());
     }
 
     @Test
@@ -123,12 +157,30 @@ class ProductServiceImplTest {
         assertDoesNotThrow(() -> productService.update(1, product));
     }
 
+    @Test
+    void update_StockShouldBeReplaced_WhenAmountWasChanged() {
+        when(modelMapper.toModel(any(ProductRequest.class)))
+                .thenReturn(new Product(null, "Samsung Galaxy S20", 25, Money.ofCents(150000L), null, null, null));
+        productService.update(1, ProductFactory.getRequestDTO());
+        verify(stockMutationStrategy).replace(1, 25);
+    }
+
+    @Test
+    void update_StockShouldBeReplaced_WhenAmountMatchesStoredAmount() {
+        var savedProduct = ProductFactory.getSavedProduct();
+        when(modelMapper.toModel(any(ProductRequest.class)))
+                .thenReturn(new Product(null, savedProduct.getDescription(), savedProduct.getAmount(), Money.ofCents(150000L), null, null, null));
+        productService.update(1, ProductFactory.getRequestDTO());
+        verify(stockMutationStrategy).replace(1, savedProduct.getAmount());
+        verify(modelMapper).toDTO(argThat((Product product) -> product.getAmount().equals(savedProduct.getAmount())));
+    }
+
     @Test
     void update_ProductShouldNotBeUpdated_WhenDescriptionIsInUseByAnotherProduct() {
         when(productProvider.findByDescription(anyString()))
                 .thenReturn(Optional.of(ProductFactory.getSavedProduct()));
         when(modelMapper.toModel(any(ProductRequest.class)))
-                .thenReturn(new Product(null, "iPhone XR", 10, 1800.00, null, null));
+                .thenReturn(new Product(null, "iPhone XR", 10, Money.ofCents(180000L), null, null, null));
         var product = ProductFactory.getRequestDTO();
         assertThrows(ConstraintConflictException.class, () -> productService.update(1, product));
     }
@@ -142,4 +194,166 @@ class ProductServiceImplTest {
     void reactivate_ProductShouldBeReactivated_WhenIdWasFound() {
         assertDoesNotThrow(() -> productService.reactivate(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    void findActiveByDescriptionContaining_IndexShouldBeUsed_WhenIndexIsReady() {
+        when(productSearchIndex.isReady()).thenReturn(true);
+        when(productSearchIndex.search(anyString())).thenReturn(List.of(1, 2, 3));
+        when(productProvider.findActiveByIds(anyList())).thenReturn(List.of(ProductFactory.getSavedProduct()));
+
+        var products = productService.findActiveByDescriptionContaining("galaxy", PageRequest.of(0, 1));
+
+        assertAll(() -> {
+            assertEquals(1, products.getContent().size());
+            assertEquals(3, products.getTotalElements());
+        });
+        verify(productProvider).findActiveByIds(List.of(1));
+        verify(productProvider, never()).findActiveByDescriptionContaining(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void findActiveByDescriptionContaining_DatabaseShouldBeUsed_WhenIndexIsNotReady() {
+        when(productSearchIndex.isReady()).thenReturn(false);
+
+        productService.findActiveByDescriptionContaining("galaxy", PageRequest.of(0, 5));
+
+        verify(productProvider).findActiveByDescriptionContaining(anyString(), any(Pageable.class));
+        verify(productSearchIndex, never()).search(anyString());
+    }
+
+    @Test
+    void save_ProductShouldBeIndexed_WhenProductWasSaved() {
+        productService.save(ProductFactory.getRequestDTO());
+        verify(productSearchIndex).index(any(), eq(ProductFactory.getProduct().getDescription()));
+    }
+
+    @Test
+    void delete_ProductShouldBeRemovedFromIndex_WhenProductWasDeleted() {
+        productService.delete(1);
+        verify(productSearchIndex).remove(1);
+    }
+
+    @Test
+    void reactivate_ProductShouldBeIndexed_WhenProductWasReactivated() {
+        productService.reactivate(1);
+        verify(productSearchIndex).index(eq(1), anyString());
+    }
+
+    @Test
+    void findActiveByBarcode_ProductShouldBeReturned_WhenCodeIsIndexed() {
+        when(productBarcodeIndex.find("7891234567895")).thenReturn(Optional.of(1));
+        assertNotNull(productService.findActiveByBarcode("7891234567895"));
+        verify(productBarcodeProvider, never()).findByCode(anyString());
+        verify(productProvider).findActiveById(1);
+    }
+
+    @Test
+    void findActiveByBarcode_DatabaseShouldBeUsed_WhenCodeIsNotIndexed() {
+        when(productBarcodeIndex.find(anyString())).thenReturn(Optional.empty());
+        when(productBarcodeProvider.findByCode("7891234567895"))
+                .thenReturn(Optional.of(ProductBarcodeFactory.getSavedBarcode()));
+        assertNotNull(productService.findActiveByBarcode("7891234567895"));
+        verify(productProvider).findActiveById(1);
+    }
+
+    @Test
+    void findActiveByBarcode_ProductShouldNotBeReturned_WhenCodeWasNotFound() {
+        when(productBarcodeIndex.find(anyString())).thenReturn(Optional.empty());
+        when(productBarcodeProvider.findByCode(anyString())).thenReturn(Optional.empty());
+        assertThrows(ModelNotFoundException.class, () -> productService.findActiveByBarcode("7891234567895"));
+    }
+
+    @Test
+    void findBarcodes_BarcodesShouldBeReturned_WhenProductHasBarcodes() {
+        when(productProvider.findById(anyInt())).thenReturn(ProductFactory.getSavedProduct());
+        when(productBarcodeProvider.findByProductId(1)).thenReturn(List.of(ProductBarcodeFactory.getSavedBarcode()));
+        assertEquals(1, productService.findBarcodes(1).size());
+    }
+
+    @Test
+    void saveBarcode_BarcodeShouldBeSavedAndIndexed_WhenCodeIsNotInUse() {
+        when(productBarcodeProvider.findByCode(anyString())).thenReturn(Optional.empty());
+        assertNotNull(productService.saveBarcode(1, ProductBarcodeFactory.getRequestDTO()));
+        verify(productBarcodeProvider).save(any(ProductBarcode.class));
+        verify(productBarcodeIndex).put("7891234567895", 1);
+    }
+
+    @Test
+    void saveBarcode_BarcodeShouldNotBeSaved_WhenCodeIsInUse() {
+        when(productBarcodeProvider.findByCode(anyString()))
+                .thenReturn(Optional.of(ProductBarcodeFactory.getSavedBarcode()));
+        var barcode = ProductBarcodeFactory.getRequestDTO();
+        assertThrows(ConstraintConflictException.class, () -> productService.saveBarcode(1, barcode));
+        verify(productBarcodeProvider, never()).save(any(ProductBarcode.class));
+    }
+
+    @Test
+    void deleteBarcode_BarcodeShouldBeDeletedAndRemovedFromIndex_WhenCodeBelongsToProduct() {
+        var barcode = ProductBarcodeFactory.getSavedBarcode();
+        when(productBarcodeProvider.findByCode(anyString())).thenReturn(Optional.of(barcode));
+        productService.deleteBarcode(1, "7891234567895");
+        verify(productBarcodeProvider).delete(barcode);
+        verify(productBarcodeIndex).remove("7891234567895");
+    }
+
+    @Test
+    void deleteBarcode_BarcodeShouldNotBeDeleted_WhenCodeBelongsToAnotherProduct() {
+        when(productBarcodeProvider.findByCode(anyString()))
+                .thenReturn(Optional.of(ProductBarcodeFactory.getSavedBarcode()));
+        assertThrows(ModelNotFoundException.class, () -> productService.deleteBarcode(2, "7891234567895"));
+        verify(productBarcodeProvider, never()).delete(any(ProductBarcode.class));
+    }
+
+    @Test
+    void findActive_ProductsShouldBeReturnedWithNextCursor_WhenHaveMoreActiveProducts() {
+        when(productProvider.findActiveAfter(0, 2))
+                .thenReturn(List.of(ProductFactory.getSavedProduct(), ProductFactory.getSavedProduct()));
+        var products = productService.findActive(null, 1);
+        assertEquals(1, products.content().size());
+        assertNotNull(products.next());
+    }
+
+    @Test
+    void findInactive_ProductsShouldBeReturnedWithoutNextCursor_WhenHaveNoMoreInactiveProducts() {
+        when(productProvider.findInactiveAfter(0, 21))
+                .thenReturn(List.of(ProductFactory.getInactiveSavedProduct()));
+        var products = productService.findInactive(null, null);
+        assertEquals(1, products.content().size());
+        assertNull(products.next());
+    }
+
+    @Test
+    void findActiveByDescriptionContaining_IndexShouldBePagedByPosition_WhenCursorWasRequestedAndIndexIsReady() {
+        when(productSearchIndex.isReady()).thenReturn(true);
+        when(productSearchIndex.search(anyString())).thenReturn(List.of(3, 1, 2));
+        when(productProvider.findActiveByIds(anyList())).thenReturn(List.of(ProductFactory.getSavedProduct()));
+
+        var first = productService.findActiveByDescriptionContaining("galaxy", null, 1);
+        var second = productService.findActiveByDescriptionContaining("galaxy", first.next(), 1);
+
+        assertAll(() -> {
+            assertNotNull(first.next());
+            assertEquals(1, second.content().size());
+        });
+        verify(productProvider).findActiveByIds(List.of(3));
+        verify(productProvider).findActiveByIds(List.of(1));
+        verify(productProvider, never()).findActiveByDescriptionContainingAfter(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void findActiveByDescriptionContaining_DatabaseShouldBeUsed_WhenCursorWasRequested() {
+        when(productProvider.findActiveByDescriptionContainingAfter("Gal", 0, 6))
+                .thenReturn(List.of(ProductFactory.getSavedProduct()));
+        var products = productService.findActiveByDescriptionContaining("Gal", null, 5);
+        assertEquals(1, products.content().size());
+        verify(productSearchIndex, never()).search(anyString());
+    }
+
+    @Test
+    void findInactiveByDescriptionContaining_ProductsShouldBeReturned_WhenCursorWasRequested() {
+        when(productProvider.findInactiveByDescriptionContainingAfter("Gal", 0, 6))
+                .thenReturn(List.of(ProductFactory.getInactiveSavedProduct()));
+        var products = productService.findInactiveByDescriptionContaining("Gal", null, 5);
+        assertEquals(1, products.content().size());
+    }
+}
@@ -0,0 +1,155 @@
+package com.todev.pdv.core.services.impl;
+
+import com.todev.pdv.common.dtos.SaleReportLine;
+import com.todev.pdv.common.dtos.SellerTotal;
+import com.todev.pdv.core.enums.PaymentMethod;
+import com.todev.pdv.core.exceptions.FileExportException;
+import com.todev.pdv.core.exceptions.ModelNotFoundException;
+import com.todev.pdv.core.providers.contracts.SaleProvider;
+import com.todev.pdv.core.providers.contracts.SaleRollupProvider;
+import com.todev.pdv.core.services.contracts.ReportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.when;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class ReportBundleServiceImplTest {
+    private static final LocalDate DAY = LocalDate.of(2024, 5, 10);
+
+    private ReportBundleServiceImpl reportBundleService;
+
+    @Mock
+    private SaleProvider saleProvider;
+
+    @Mock
+    private SaleRollupProvider saleRollupProvider;
+
+    @Mock
+    private ReportService reportService;
+
+    @TempDir
+    private Path directory;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            Consumer<SaleReportLine> consumer = invocation.getArgument(2);
+            consumer.accept(new SaleReportLine("Seller", 157581L, PaymentMethod.PIX, DAY.atTime(10, 0)));
+            return null;
+        }).when(saleProvider).findActiveLinesByDate(any(LocalDateTime.class), any(LocalDateTime.class), any());
+
+        when(saleRollupProvider.findSellerTotals(any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of(
+                        new SellerTotal(1, "Seller", 1, 175090L, 157581L),
+                        new SellerTotal(2, "Manager", 0, 0L, 0L)
+                ));
+
+        doAnswer(invocation -> write(invocation.getArgument(1)))
+                .when(reportService).salesReport(anyList(), any(OutputStream.class));
+        doAnswer(invocation -> write(invocation.getArgument(0)))
+                .when(reportService).goodsReport(any(OutputStream.class));
+        doAnswer(invocation -> write(invocation.getArgument(3)))
+                .when(reportService).performanceReport(any(SellerTotal.class), any(LocalDate.class), any(LocalDate.class), any(OutputStream.class));
+
+        reportBundleService = new ReportBundleServiceImpl(saleProvider, saleRollupProvider, reportService, 2, 7, directory);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        reportBundleService.stop();
+    }
+
+    @Test
+    void build_BundleShouldContainEveryReport_WhenDayWasClosed() throws IOException {
+        var bundle = reportBundleService.build(DAY);
+
+        assertAll(() -> {
+            assertEquals(List.of("vendas-2024-05-10.pdf", "estoque-2024-05-10.pdf",
+                    "performance-1-2024-05-10.pdf", "performance-2-2024-05-10.pdf"), entriesOf(bundle));
+            assertEquals(bundle, reportBundleService.findBundle(DAY));
+            assertEquals(List.of(bundle), filesOf(directory));
+        });
+    }
+
+    @Test
+    void build_SalesShouldBeReadOnce_WhenReportsAreRendered() {
+        reportBundleService.build(DAY);
+
+        verify(saleProvider, times(1)).findActiveLinesByDate(eq(DAY.atStartOfDay()), eq(DAY.atTime(23, 59, 59)), any());
+        verify(saleRollupProvider, times(1)).findSellerTotals(LocalDate.of(2024, 5, 1), DAY);
+        verify(reportService, never()).salesReportByDate(any(LocalDateTime.class), any(OutputStream.class));
+        verify(reportService, never()).performanceReport(anyInt(), any(LocalDateTime.class), any(OutputStream.class));
+    }
+
+    @Test
+    void build_BundleShouldNotBeStored_WhenReportFails() {
+        doThrow(new FileExportException("Não foi possível gerar o relatório do estoque!"))
+                .when(reportService).goodsReport(any(OutputStream.class));
+
+        assertThrows(FileExportException.class, () -> reportBundleService.build(DAY));
+        assertThrows(ModelNotFoundException.class, () -> reportBundleService.findBundle(DAY));
+        assertDoesNotThrow(() -> assertTrue(filesOf(directory).isEmpty()));
+    }
+
+    @Test
+    void findBundle_BundleShouldNotBeReturned_WhenBundleWasNotBuilt() {
+        assertThrows(ModelNotFoundException.class, () -> reportBundleService.findBundle(DAY));
+    }
+
+    @Test
+    void buildPreviousDay_ExpiredBundlesShouldBeRemoved_WhenRetentionHasPassed() throws IOException {
+        var expired = Files.createFile(directory.resolve("bundle-" + LocalDate.now().minusDays(30) + ".zip"));
+        var recent = Files.createFile(directory.resolve("bundle-" + LocalDate.now().minusDays(2) + ".zip"));
+
+        reportBundleService.buildPreviousDay();
+
+        assertAll(() -> {
+            assertFalse(Files.exists(expired));
+            assertTrue(Files.exists(recent));
+            assertDoesNotThrow(() -> reportBundleService.findBundle(LocalDate.now().minusDays(1)));
+        });
+    }
+
+    private Object write(OutputStream outputStream) throws IOException {
+        outputStream.write(new byte[]{1, 2, 3});
+        return null;
+    }
+
+    private List<String> entriesOf(Path bundle) throws IOException {
+        var entries = new ArrayList<String>();
+
+        try (var zip = new ZipInputStream(Files.newInputStream(bundle))) {
+            for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.add(entry.getName());
+            }
+        }
+
+        return entries;
+    }
+
+    private List<Path> filesOf(Path path) throws IOException {
+        try (var files = Files.list(path)) {
+            return files.toList();
+        }
+    }
+}
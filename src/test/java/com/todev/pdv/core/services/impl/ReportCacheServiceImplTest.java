@@ -0,0 +1,172 @@
+package com.todev.pdv.core.services.impl;
+
+import com.todev.pdv.core.services.contracts.ReportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ReportCacheServiceImplTest {
+    private static final LocalDateTime CLOSED_DAY = LocalDateTime.of(2024, 5, 10, 0, 0);
+
+    @TempDir
+    private Path directory;
+
+    private ReportService reportService;
+
+    private AtomicInteger renders;
+
+    @BeforeEach
+    void setUp() {
+        reportService = mock(ReportService.class);
+        renders = new AtomicInteger();
+        doAnswer(invocation -> {
+            LocalDateTime date = invocation.getArgument(0);
+            OutputStream outputStream = invocation.getArgument(1);
+            write(outputStream, date.toLocalDate() + "#" + renders.incrementAndGet());
+            return null;
+        }).when(reportService).salesReportByDate(any(LocalDateTime.class), any(OutputStream.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void isCacheable_DayShouldBeCacheable_WhenItIsClosed() {
+        var cache = createCache(1024);
+        assertTrue(cache.isCacheable(CLOSED_DAY));
+        assertFalse(cache.isCacheable(LocalDateTime.now()));
+    }
+
+    @Test
+    void salesReportByDate_ReportShouldBeRenderedOnce_WhenDayWasRequestedTwice() {
+        var cache = createCache(1024);
+
+        var first = cache.salesReportByDate(CLOSED_DAY);
+        var second = cache.salesReportByDate(CLOSED_DAY.withHour(15));
+
+        assertEquals(1, renders.get());
+        assertEquals(first.etag(), second.etag());
+        assertArrayEquals(first.content(), second.content());
+    }
+
+    @Test
+    void salesReportByDate_ReportShouldBeReadFromDisk_WhenMemoryTierIsFull() throws IOException {
+        var cache = createCache(20);
+
+        var first = cache.salesReportByDate(CLOSED_DAY);
+        cache.salesReportByDate(CLOSED_DAY.minusDays(1));
+
+        try (var files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+
+        var fromDisk = cache.salesReportByDate(CLOSED_DAY);
+
+        assertEquals(2, renders.get());
+        assertEquals(first.etag(), fromDisk.etag());
+    }
+
+    @Test
+    void evictSalesReport_ReportShouldBeRenderedAgain_WhenDayWasEvicted() {
+        var cache = createCache(1024);
+        var first = cache.salesReportByDate(CLOSED_DAY);
+
+        cache.evictSalesReport(CLOSED_DAY.toLocalDate());
+        var second = cache.salesReportByDate(CLOSED_DAY);
+
+        assertEquals(2, renders.get());
+        assertNotEquals(first.etag(), second.etag());
+    }
+
+    @Test
+    void evictSalesReport_OtherDaysShouldBeKept_WhenDayWasEvicted() {
+        var cache = createCache(1024);
+        cache.salesReportByDate(CLOSED_DAY);
+        cache.salesReportByDate(CLOSED_DAY.minusDays(1));
+
+        cache.evictSalesReport(CLOSED_DAY.toLocalDate());
+        cache.salesReportByDate(CLOSED_DAY.minusDays(1));
+
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    void evictSalesReport_EvictionShouldWaitForCommit_WhenTransactionIsActive() {
+        var cache = createCache(1024);
+        cache.salesReportByDate(CLOSED_DAY);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evictSalesReport(CLOSED_DAY.toLocalDate());
+        cache.salesReportByDate(CLOSED_DAY);
+        assertEquals(1, renders.get());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        cache.salesReportByDate(CLOSED_DAY);
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    void salesReportByDate_ReportShouldNotBeCached_WhenEvictionHappenedWhileRendering() {
+        var cache = createCache(1024);
+        var evicting = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            if (evicting.getAndSet(false)) {
+                cache.evictSalesReport(CLOSED_DAY.toLocalDate());
+            }
+
+            write(invocation.getArgument(1), "report#" + renders.incrementAndGet());
+            return null;
+        }).when(reportService).salesReportByDate(any(LocalDateTime.class), any(OutputStream.class));
+
+        cache.salesReportByDate(CLOSED_DAY);
+        cache.salesReportByDate(CLOSED_DAY);
+        cache.salesReportByDate(CLOSED_DAY);
+
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    void evictSalesReports_AllDaysShouldBeEvicted() {
+        var cache = createCache(20);
+        cache.salesReportByDate(CLOSED_DAY);
+        cache.salesReportByDate(CLOSED_DAY.minusDays(1));
+
+        cache.evictSalesReports();
+        cache.salesReportByDate(CLOSED_DAY);
+        cache.salesReportByDate(CLOSED_DAY.minusDays(1));
+
+        assertEquals(4, renders.get());
+    }
+
+    private ReportCacheServiceImpl createCache(long maxBytes) {
+        return new ReportCacheServiceImpl(reportService, maxBytes, 1024L, directory);
+    }
+
+    private void write(OutputStream outputStream, String content) {
+        try {
+            outputStream.write(content.getBytes());
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.todev.pdv.core.services.impl;
+
+import com.todev.pdv.common.dtos.SaleReportLine;
+import com.todev.pdv.core.enums.PaymentMethod;
+import com.todev.pdv.core.models.Money;
+import com.todev.pdv.core.models.Product;
+import com.todev.pdv.core.providers.contracts.ProductProvider;
+import com.todev.pdv.core.providers.contracts.SaleProvider;
+import com.todev.pdv.core.providers.contracts.SaleRollupProvider;
+import com.todev.pdv.core.providers.contracts.UserProvider;
+import com.todev.pdv.factories.ProductFactory;
+import com.todev.pdv.factories.UserFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.todev.pdv.core.enums.ReportFormat.CSV;
+import static com.todev.pdv.core.enums.ReportFormat.NDJSON;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.when;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class ReportExportServiceImplTest {
+    @InjectMocks
+    private ReportExportServiceImpl reportExportService;
+
+    @Mock
+    private SaleProvider saleProvider;
+
+    @Mock
+    private ProductProvider productProvider;
+
+    @Mock
+    private UserProvider userProvider;
+
+    @Mock
+    private SaleRollupProvider saleRollupProvider;
+
+    @Test
+    void salesByDate_LinesShouldBeWrittenAsCsv_WhenCsvWasRequested() {
+        var createdAt = LocalDateTime.of(2024, 5, 10, 14, 30);
+        doAnswer(invocation -> {
+            Consumer<SaleReportLine> consumer = invocation.getArgument(2);
+            consumer.accept(new SaleReportLine("Seller", 157581L, PaymentMethod.PIX, createdAt));
+            return null;
+        }).when(saleProvider).findActiveLinesByDate(any(LocalDateTime.class), any(LocalDateTime.class), any());
+        var response = new ByteArrayOutputStream();
+
+        reportExportService.salesByDate(createdAt, CSV, response);
+
+        assertEquals("seller,total,payment_method,created_at\r\nSeller,1575.81,PIX,2024-05-10T14:30\r\n",
+                response.toString(UTF_8));
+    }
+
+    @Test
+    void goods_ProductsShouldBeReadByKeyset_WhenNdjsonWasRequested() {
+        when(productProvider.findActiveAfter(anyInt(), anyInt()))
+                .thenAnswer(invocation -> productsAfter(invocation.getArgument(0), invocation.getArgument(1), 1500));
+        var response = new ByteArrayOutputStream();
+
+        reportExportService.goods(NDJSON, response);
+
+        verify(productProvider).findActiveAfter(0, 1000);
+        verify(productProvider).findActiveAfter(1000, 1000);
+        verify(productProvider, times(2)).findActiveAfter(anyInt(), anyInt());
+        assertEquals(1500, response.toString(UTF_8).lines().count());
+    }
+
+    @Test
+    void performance_TotalShouldBeWritten_WhenUserWasFound() {
+        when(userProvider.findActiveById(anyInt())).thenReturn(UserFactory.getSavedManager());
+        when(saleRollupProvider.sumNetByUserAndDay(anyInt(), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(Money.ofCents(123450L));
+        var response = new ByteArrayOutputStream();
+
+        reportExportService.performance(1, LocalDateTime.of(2024, 5, 1, 10, 0), NDJSON, response);
+
+        assertEquals("{\"name\":\"" + UserFactory.getSavedManager().getName()
+                        + "\",\"start\":\"2024-05-01\",\"end\":\"2024-06-01\",\"total\":1234.50}\n",
+                response.toString(UTF_8));
+    }
+
+    private List<Product> productsAfter(Integer id, Integer limit, int catalogSize) {
+        var products = new ArrayList<Product>();
+
+        for (int next = id + 1; next <= Math.min(id + limit, catalogSize); next++) {
+            var product = ProductFactory.getSavedProduct();
+            product.setId(next);
+            products.add(product);
+        }
+
+        return products;
+    }
+}
@@ -0,0 +1,185 @@
+package com.todev.pdv.core.services.impl;
+
+import com.todev.pdv.common.dtos.ReportJobRequest;
+import com.todev.pdv.common.dtos.ReportJobResponse;
+import com.todev.pdv.core.exceptions.*;
+import com.todev.pdv.core.services.contracts.ReportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.todev.pdv.core.enums.TicketStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+
+@ExtendWith(SpringExtension.class)
+class ReportJobServiceImplTest {
+    private static final ReportJobRequest GOODS = new ReportJobRequest("GOODS", null, null, null);
+
+    private ReportJobServiceImpl reportJobService;
+
+    @Mock
+    private ReportService reportService;
+
+    @TempDir
+    private Path directory;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(0);
+            outputStream.write(new byte[]{1, 2, 3});
+            return null;
+        }).when(reportService).goodsReport(any(OutputStream.class));
+
+        reportJobService = createService(2, 8, 2, Duration.ofMinutes(30));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        reportJobService.stop();
+    }
+
+    @Test
+    void submit_ReportShouldBeRendered_WhenJobWasProcessed() throws Exception {
+        var job = reportJobService.submit("seller", GOODS);
+        var outcome = awaitJob("seller", job.job());
+        var file = reportJobService.findFile("seller", job.job());
+
+        assertAll(() -> {
+            assertEquals(PENDING, job.status());
+            assertEquals(COMPLETED, outcome.status());
+            assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(file));
+        });
+    }
+
+    @Test
+    void submit_JobShouldFail_WhenSaleWasNotFound() throws Exception {
+        doThrow(new ModelNotFoundException("A venda: 1 não foi encontrada!"))
+                .when(reportService).saleReport(anyInt(), any(OutputStream.class));
+        var job = reportJobService.submit("seller", new ReportJobRequest("SALE", 1, null, null));
+        var outcome = awaitJob("seller", job.job());
+
+        assertAll(() -> {
+            assertEquals(FAILED, outcome.status());
+            assertEquals("A venda: 1 não foi encontrada!", outcome.message());
+            assertEquals(0, Files.list(directory).count());
+        });
+    }
+
+    @Test
+    void submit_JobShouldNotBeQueued_WhenArgumentsAreMissing() {
+        var request = new ReportJobRequest("PERFORMANCE", 1, null, null);
+        assertThrows(InvalidPayloadException.class, () -> reportJobService.submit("seller", request));
+    }
+
+    @Test
+    void submit_JobShouldNotBeQueued_WhenUserReachedTheLimit() throws Exception {
+        var release = block();
+
+        reportJobService.submit("seller", GOODS);
+        reportJobService.submit("seller", GOODS);
+
+        assertThrows(ReportJobLimitException.class, () -> reportJobService.submit("seller", GOODS));
+        assertDoesNotThrow(() -> reportJobService.submit("manager", GOODS));
+        release.countDown();
+    }
+
+    @Test
+    void submit_JobShouldBeQueued_WhenPreviousJobsOfTheUserWereProcessed() throws Exception {
+        awaitJob("seller", reportJobService.submit("seller", GOODS).job());
+        awaitJob("seller", reportJobService.submit("seller", GOODS).job());
+        assertDoesNotThrow(() -> reportJobService.submit("seller", GOODS));
+    }
+
+    @Test
+    void submit_JobShouldNotBeQueued_WhenQueueIsFull() throws Exception {
+        reportJobService.stop();
+        reportJobService = createService(1, 1, 8, Duration.ofMinutes(30));
+        var release = block();
+
+        reportJobService.submit("seller", GOODS);
+
+        assertThrows(ReportQueueFullException.class, () -> reportJobService.submit("seller", GOODS));
+        release.countDown();
+    }
+
+    @Test
+    void findJob_JobShouldNotBeReturned_WhenJobBelongsToAnotherUser() {
+        var job = reportJobService.submit("seller", GOODS).job();
+        assertThrows(ModelNotFoundException.class, () -> reportJobService.findJob("manager", job));
+    }
+
+    @Test
+    void findFile_FileShouldNotBeReturned_WhenJobIsPending() throws Exception {
+        var release = block();
+        var job = reportJobService.submit("seller", GOODS).job();
+        assertThrows(ConstraintConflictException.class, () -> reportJobService.findFile("seller", job));
+        release.countDown();
+    }
+
+    @Test
+    void evictExpired_FileShouldBeRemoved_WhenJobHasExpired() throws Exception {
+        reportJobService.stop();
+        reportJobService = createService(2, 8, 2, Duration.ZERO);
+        var job = reportJobService.submit("seller", GOODS).job();
+        var file = awaitFile("seller", job);
+
+        Thread.sleep(5);
+        reportJobService.evictExpired();
+
+        assertAll(() -> {
+            assertFalse(Files.exists(file));
+            assertThrows(ModelNotFoundException.class, () -> reportJobService.findJob("seller", job));
+        });
+    }
+
+    private CountDownLatch block() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(reportService).goodsReport(any(OutputStream.class));
+
+        reportJobService.submit("blocker", GOODS);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return release;
+    }
+
+    private Path awaitFile(String onlineUser, String job) throws InterruptedException {
+        awaitJob(onlineUser, job);
+        return reportJobService.findFile(onlineUser, job);
+    }
+
+    private ReportJobResponse awaitJob(String onlineUser, String job) throws InterruptedException {
+        var deadline = LocalDateTime.now().plusSeconds(5);
+        var response = reportJobService.findJob(onlineUser, job);
+
+        while (response.status() == PENDING && LocalDateTime.now().isBefore(deadline)) {
+            Thread.sleep(10);
+            response = reportJobService.findJob(onlineUser, job);
+        }
+
+        return response;
+    }
+
+    private ReportJobServiceImpl createService(int threads, int capacity, int perUserLimit, Duration ttl) {
+        return new ReportJobServiceImpl(reportService, threads, capacity, perUserLimit, ttl, directory);
+    }
+}
@@ -0,0 +1,210 @@
+package com.todev.pdv.core.services.impl;
+
+import com.todev.pdv.common.dtos.LeaderboardResponse;
+import com.todev.pdv.common.dtos.SaleDetailsResponse;
+import com.todev.pdv.common.dtos.SaleItemResponse;
+import com.todev.pdv.common.dtos.SaleReportLine;
+import com.todev.pdv.common.dtos.SellerTotal;
+import com.todev.pdv.common.reports.impl.ReceiptRendererImpl;
+import com.todev.pdv.common.reports.impl.ReportRendererImpl;
+import com.todev.pdv.core.enums.PaymentMethod;
+import com.todev.pdv.core.enums.ReceiptFormat;
+import com.todev.pdv.core.models.Money;
+import com.todev.pdv.core.models.Product;
+import com.todev.pdv.core.providers.contracts.ProductProvider;
+import com.todev.pdv.core.providers.contracts.SaleItemProvider;
+import com.todev.pdv.core.providers.contracts.SaleProvider;
+import com.todev.pdv.core.providers.contracts.SaleRollupProvider;
+import com.todev.pdv.core.providers.contracts.UserProvider;
+import com.todev.pdv.factories.ProductFactory;
+import com.todev.pdv.factories.SaleFactory;
+import com.todev.pdv.factories.UserFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.when;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class ReportServiceImplTest {
+    @InjectMocks
+    private ReportServiceImpl reportService;
+
+    @Mock
+    private SaleProvider saleProvider;
+
+    @Mock
+    private SaleItemProvider saleItemProvider;
+
+    @Mock
+    private ProductProvider productProvider;
+
+    @Mock
+    private UserProvider userProvider;
+
+    @Mock
+    private SaleRollupProvider saleRollupProvider;
+
+    @Spy
+    private ReportRendererImpl reportRenderer;
+
+    @Spy
+    private ReceiptRendererImpl receiptRenderer = new ReceiptRendererImpl(48);
+
+    @Test
+    void saleReceipt_ReceiptShouldBeGeneratedWithoutPdf_WhenSaleWasFound() {
+        when(saleProvider.findById(anyInt()))
+                .thenReturn(SaleFactory.getSavedSale());
+        when(saleProvider.findDetailsById(anyInt()))
+                .thenReturn(new SaleDetailsResponse("Diel", List.of(new SaleItemResponse(1, "Batom", 2, 25.5))));
+        var response = new ByteArrayOutputStream();
+
+        reportService.saleReceipt(1, ReceiptFormat.TEXT, response);
+
+        verify(receiptRenderer).render(any(), any(), eq(ReceiptFormat.TEXT), eq(response));
+        verifyNoInteractions(saleItemProvider, productProvider);
+        assertTrue(response.toString().contains("Batom"));
+    }
+
+    @Test
+    void goodsReport_ProductsShouldBeReadByKeyset_WhenCatalogHasManyProducts() {
+        when(productProvider.findActiveAfter(anyInt(), anyInt()))
+                .thenAnswer(invocation -> productsAfter(invocation.getArgument(0), invocation.getArgument(1), 2500));
+        var response = new ByteArrayOutputStream();
+
+        reportService.goodsReport(response);
+
+        verify(productProvider).findActiveAfter(0, 1000);
+        verify(productProvider).findActiveAfter(1000, 1000);
+        verify(productProvider).findActiveAfter(2000, 1000);
+        verify(productProvider, times(3)).findActiveAfter(anyInt(), anyInt());
+        verify(productProvider, never()).findActive(any(Pageable.class));
+        assertTrue(response.size() > 0);
+    }
+
+    @Test
+    void goodsReport_ReportShouldBeGenerated_WhenCatalogIsEmpty() {
+        when(productProvider.findActiveAfter(anyInt(), anyInt()))
+                .thenReturn(List.of());
+        var response = new ByteArrayOutputStream();
+
+        reportService.goodsReport(response);
+
+        verify(productProvider, times(1)).findActiveAfter(0, 1000);
+        assertTrue(response.size() > 0);
+    }
+
+    @Test
+    void salesReportByDate_SellersShouldNotBeLoaded_WhenLinesAreStreamed() {
+        doAnswer(invocation -> {
+            Consumer<SaleReportLine> consumer = invocation.getArgument(2);
+
+            for (int i = 0; i < 2500; i++) {
+                consumer.accept(new SaleReportLine("Seller", 157581L, PaymentMethod.CARD, LocalDateTime.now()));
+            }
+
+            return null;
+        }).when(saleProvider).findActiveLinesByDate(any(LocalDateTime.class), any(LocalDateTime.class), any());
+        var response = new ByteArrayOutputStream();
+
+        reportService.salesReportByDate(LocalDateTime.now(), response);
+
+        verify(saleProvider, times(1)).findActiveLinesByDate(any(LocalDateTime.class), any(LocalDateTime.class), any());
+        verify(saleProvider, never()).findActiveByDate(any(LocalDateTime.class), any(LocalDateTime.class));
+        verifyNoInteractions(userProvider);
+        assertTrue(response.size() > 0);
+    }
+
+    @Test
+    void performanceReport_TotalShouldBeReadFromRollup_WhenSellerHasSales() {
+        when(userProvider.findActiveById(anyInt()))
+                .thenReturn(UserFactory.getSavedSeller());
+        when(saleRollupProvider.sumNetByUserAndDay(anyInt(), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(Money.ofCents(157581L));
+        var response = new ByteArrayOutputStream();
+        var start = LocalDateTime.of(2024, 5, 10, 14, 30);
+
+        reportService.performanceReport(1, start, response);
+
+        verify(saleRollupProvider, times(1)).sumNetByUserAndDay(1, LocalDate.of(2024, 5, 10), LocalDate.of(2024, 6, 10));
+        verifyNoInteractions(saleProvider);
+        assertTrue(response.size() > 0);
+    }
+
+    @Test
+    void salesReport_ReportShouldBeRenderedFromLines_WhenLinesWereLoaded() {
+        var lines = List.of(new SaleReportLine("Seller", 157581L, PaymentMethod.PIX, LocalDateTime.now()));
+        var response = new ByteArrayOutputStream();
+
+        reportService.salesReport(lines, response);
+
+        verifyNoInteractions(saleProvider);
+        assertTrue(response.size() > 0);
+    }
+
+    @Test
+    void performanceReport_ReportShouldBeRenderedFromTotal_WhenSellerTotalWasLoaded() {
+        var seller = new SellerTotal(1, "Seller", 1, 175090L, 157581L);
+        var response = new ByteArrayOutputStream();
+
+        reportService.performanceReport(seller, LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 10), response);
+
+        verifyNoInteractions(userProvider, saleRollupProvider);
+        assertTrue(response.size() > 0);
+    }
+
+    @Test
+    void leaderboard_SellersShouldBeRankedWithAverageTicket_WhenTotalsWereLoaded() {
+        when(saleRollupProvider.findSellerTotals(any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of(
+                        new SellerTotal(2, "Manager", 3, 350000L, 100000L),
+                        new SellerTotal(1, "Seller", 0, 0L, 0L)
+                ));
+
+        var leaderboard = reportService.leaderboard(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+
+        verify(saleRollupProvider, times(1)).findSellerTotals(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        assertEquals(new LeaderboardResponse(1, 2, "Manager", 3, 3500.0, 1000.0, 333.33), leaderboard.get(0));
+        assertEquals(new LeaderboardResponse(2, 1, "Seller", 0, 0.0, 0.0, 0.0), leaderboard.get(1));
+    }
+
+    @Test
+    void leaderboardReport_ReportShouldBeGenerated_WhenTotalsWereLoaded() {
+        when(saleRollupProvider.findSellerTotals(any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of(new SellerTotal(1, "Seller", 2, 350180L, 315162L)));
+        var response = new ByteArrayOutputStream();
+
+        reportService.leaderboardReport(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), response);
+
+        verifyNoInteractions(saleProvider, userProvider);
+        assertTrue(response.size() > 0);
+    }
+
+    private List<Product> productsAfter(int id, int limit, int total) {
+        var products = new ArrayList<Product>();
+
+        for (int next = id + 1; next <= Math.min(id + limit, total); next++) {
+            var product = ProductFactory.getSavedProduct();
+            product.setId(next);
+            products.add(product);
+        }
+
+        return products;
+    }
+}
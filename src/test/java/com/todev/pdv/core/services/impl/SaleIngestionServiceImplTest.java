@@ -0,0 +1,259 @@
+package com.todev.pdv.core.services.impl;
+
+import com.todev.pdv.common.dtos.SaleItemRequest;
+import com.todev.pdv.common.dtos.SaleRequest;
+import com.todev.pdv.common.dtos.SaleResponse;
+import com.todev.pdv.common.dtos.SaleTicketResponse;
+import com.todev.pdv.core.exceptions.DuplicatedItemException;
+import com.todev.pdv.core.exceptions.ModelNotFoundException;
+import com.todev.pdv.core.exceptions.SaleQueueFullException;
+import com.todev.pdv.core.models.Product;
+import com.todev.pdv.core.providers.contracts.ProductProvider;
+import com.todev.pdv.core.services.contracts.IdempotencyService;
+import com.todev.pdv.core.services.contracts.SaleService;
+import com.todev.pdv.factories.ProductFactory;
+import com.todev.pdv.factories.SaleFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.todev.pdv.core.enums.TicketStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.when;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(SpringExtension.class)
+class SaleIngestionServiceImplTest {
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private SaleIngestionServiceImpl saleIngestionService;
+
+    @Mock
+    private SaleService saleService;
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    @Mock
+    private ProductProvider productProvider;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(saleService.saveReserved(anyString(), any(SaleRequest.class)))
+                .thenReturn(SaleFactory.getResponseDTO());
+
+        when(saleService.saveReserved(anyString(), anyString(), any(SaleRequest.class)))
+                .thenReturn(SaleFactory.getResponseDTO());
+
+        when(idempotencyService.save(anyString(), anyString(), any(SaleRequest.class), any(Supplier.class)))
+                .thenAnswer(invocation -> ((Supplier<SaleResponse>) invocation.getArgument(3)).get());
+
+        when(productProvider.findActiveByIds(anyCollection()))
+                .thenAnswer(invocation -> {
+                    Collection<Integer> ids = invocation.getArgument(0);
+                    return ids.stream().map(id -> product(id, id == 2 ? 0 : 10)).toList();
+                });
+
+        saleIngestionService = createService(2, 4, 64);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        saleIngestionService.stop();
+    }
+
+    @Test
+    void submit_SaleShouldBeCompleted_WhenStockIsAvailable() throws Exception {
+        var ticket = saleIngestionService.submit("seller", null, SaleFactory.getRequestDTO(1));
+        var outcome = await(ticket.ticket());
+
+        assertAll(() -> {
+            assertEquals(PENDING, ticket.status());
+            assertEquals(COMPLETED, outcome.status());
+            assertNotNull(outcome.sale());
+        });
+
+        verify(saleService).saveReserved(eq("seller"), any(SaleRequest.class));
+        verify(saleService, never()).save(anyString(), any(SaleRequest.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void submit_SaleShouldBeSavedWithIdempotencyKey_WhenKeyWasReceived() throws Exception {
+        var ticket = saleIngestionService.submit("seller", "key", SaleFactory.getRequestDTO(1));
+        await(ticket.ticket());
+        verify(idempotencyService).save(eq("seller"), eq("key"), any(SaleRequest.class), any(Supplier.class));
+        verify(saleService).saveReserved(eq("seller"), eq("key"), any(SaleRequest.class));
+    }
+
+    @Test
+    void submit_SaleShouldFail_WhenStockIsNotEnough() throws Exception {
+        var request = new SaleRequest("CARD", 0, List.of(new SaleItemRequest(1, 11)));
+        var outcome = await(saleIngestionService.submit("seller", null, request).ticket());
+
+        assertAll(() -> {
+            assertEquals(FAILED, outcome.status());
+            assertEquals("O produto: 1 não possui estoque suficiente!", outcome.message());
+        });
+
+        verify(saleService, never()).saveReserved(anyString(), any(SaleRequest.class));
+    }
+
+    @Test
+    void submit_SaleShouldFail_WhenProductWasNotFound() throws Exception {
+        when(productProvider.findActiveByIds(anyCollection())).thenReturn(List.of());
+        var outcome = await(saleIngestionService.submit("seller", null, SaleFactory.getRequestDTO(1)).ticket());
+
+        assertAll(() -> {
+            assertEquals(FAILED, outcome.status());
+            assertEquals("O produto: 1 não foi encontrado!", outcome.message());
+        });
+    }
+
+    @Test
+    void submit_SaleShouldNotBeQueued_WhenItemsAreDuplicated() {
+        var sale = SaleFactory.getSaleWithDuplicatedItems(1);
+        assertThrows(DuplicatedItemException.class, () -> saleIngestionService.submit("seller", null, sale));
+    }
+
+    @Test
+    void submit_SaleShouldNotBeQueued_WhenQueueIsFull() throws Exception {
+        saleIngestionService.stop();
+        saleIngestionService = createService(1, 1, 1);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(saleService.saveReserved(anyString(), any(SaleRequest.class)))
+                .thenAnswer(invocation -> {
+                    started.countDown();
+                    release.await();
+                    return SaleFactory.getResponseDTO();
+                });
+
+        saleIngestionService.submit("seller", null, SaleFactory.getRequestDTO(1));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        saleIngestionService.submit("seller", null, SaleFactory.getRequestDTO(1));
+
+        var sale = SaleFactory.getRequestDTO(1);
+        assertThrows(SaleQueueFullException.class, () -> saleIngestionService.submit("seller", null, sale));
+        release.countDown();
+    }
+
+    @Test
+    void submit_StockShouldNotBeOversold_WhenSalesCompeteForTheSameProduct() throws Exception {
+        var tickets = new ArrayList<String>();
+
+        for (int i = 0; i < 12; i++) {
+            var request = new SaleRequest("CARD", 0, List.of(new SaleItemRequest(7, 1), new SaleItemRequest(8, 1)));
+            tickets.add(saleIngestionService.submit("seller", null, request).ticket());
+        }
+
+        var completed = 0;
+
+        for (String ticket : tickets) {
+            completed += await(ticket).status() == COMPLETED ? 1 : 0;
+        }
+
+        saleIngestionService.stop();
+
+        assertEquals(10, completed);
+        verify(saleService, times(10)).saveReserved(anyString(), any(SaleRequest.class));
+    }
+
+    @Test
+    void submit_StockChangedOutsideTheShardShouldBeSeen_WhenCacheWasRefreshed() throws Exception {
+        saleIngestionService.stop();
+        saleIngestionService = createService(1, 1, 64, Duration.ofMillis(50));
+        var request = new SaleRequest("CARD", 0, List.of(new SaleItemRequest(1, 10)));
+
+        var first = await(saleIngestionService.submit("seller", null, request).ticket());
+        when(productProvider.findActiveByIds(anyCollection())).thenReturn(List.of(product(1, 10)));
+        Thread.sleep(300);
+        var second = await(saleIngestionService.submit("seller", null, request).ticket());
+
+        assertAll(() -> {
+            assertEquals(COMPLETED, first.status());
+            assertEquals(COMPLETED, second.status());
+        });
+    }
+
+    @Test
+    void constructor_ServiceShouldNotStart_WhenLedgerStrategyIsUsedWithAsyncMode() {
+        assertThrows(IllegalStateException.class, () -> new SaleIngestionServiceImpl(saleService, idempotencyService, productProvider,
+                "async", "ledger", 1, 1, 1, Duration.ofMinutes(10), Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void submit_ReservationsShouldBeReleased_WhenAnotherShardRejectsTheSale() throws Exception {
+        var rejected = new SaleRequest("CARD", 0, List.of(new SaleItemRequest(1, 10), new SaleItemRequest(2, 1)));
+        var accepted = new SaleRequest("CARD", 0, List.of(new SaleItemRequest(1, 10)));
+
+        var first = await(saleIngestionService.submit("seller", null, rejected).ticket());
+        var second = await(saleIngestionService.submit("seller", null, accepted).ticket());
+
+        assertAll(() -> {
+            assertEquals(FAILED, first.status());
+            assertEquals("O produto: 2 não possui estoque suficiente!", first.message());
+            assertEquals(COMPLETED, second.status());
+        });
+    }
+
+    @Test
+    void submit_ReservationsShouldBeReleased_WhenSaleCouldNotBePersisted() throws Exception {
+        when(saleService.saveReserved(anyString(), any(SaleRequest.class)))
+                .thenThrow(new IllegalStateException())
+                .thenReturn(SaleFactory.getResponseDTO());
+
+        var request = new SaleRequest("CARD", 0, List.of(new SaleItemRequest(1, 10)));
+        var first = await(saleIngestionService.submit("seller", null, request).ticket());
+        var second = await(saleIngestionService.submit("seller", null, request).ticket());
+
+        assertAll(() -> {
+            assertEquals(FAILED, first.status());
+            assertEquals("Não foi possível processar a venda!", first.message());
+            assertEquals(COMPLETED, second.status());
+        });
+    }
+
+    @Test
+    void findTicket_TicketShouldNotBeReturned_WhenTicketBelongsToAnotherUser() {
+        var ticket = saleIngestionService.submit("seller", null, SaleFactory.getRequestDTO(1)).ticket();
+        assertThrows(ModelNotFoundException.class, () -> saleIngestionService.findTicket("manager", ticket, Duration.ZERO));
+    }
+
+    private SaleTicketResponse await(String ticket) throws Exception {
+        return saleIngestionService.findTicket("seller", ticket, WAIT).get(5, TimeUnit.SECONDS);
+    }
+
+    private Product product(Integer id, Integer amount) {
+        var product = ProductFactory.getSavedProduct();
+        product.setId(id);
+        product.setAmount(amount);
+        return product;
+    }
+
+    private SaleIngestionServiceImpl createService(int shards, int workers, int capacity) {
+        return createService(shards, workers, capacity, Duration.ofMinutes(1));
+    }
+
+    private SaleIngestionServiceImpl createService(int shards, int workers, int capacity, Duration refreshInterval) {
+        var service = new SaleIngestionServiceImpl(saleService, idempotencyService, productProvider, "async", "atomic",
+                shards, workers, capacity, Duration.ofMinutes(10), refreshInterval);
+        service.start();
+        return service;
+    }
+}
@@ -1,16 +1,29 @@
 package com.todev.pdv.core.services.impl;
 
+import com.todev.pdv.common.dtos.SaleBulkRequest;
+import com.todev.pdv.common.dtos.SaleDetailsResponse;
 import com.todev.pdv.common.dtos.SaleItemRequest;
 import com.todev.pdv.common.dtos.SaleRequest;
 import com.todev.pdv.common.mappers.contracts.ModelMapper;
+import com.todev.pdv.common.paginators.impl.CursorPaginatorImpl;
+import com.todev.pdv.common.readers.contracts.SaleReader;
 import com.todev.pdv.core.exceptions.DuplicatedItemException;
+import com.todev.pdv.core.exceptions.InvalidPayloadException;
+import com.todev.pdv.core.exceptions.ModelNotFoundException;
 import com.todev.pdv.core.exceptions.NotEnoughStockException;
+import com.todev.pdv.core.models.IdempotencyKey;
+import com.todev.pdv.core.models.Money;
+import com.todev.pdv.core.models.Product;
 import com.todev.pdv.core.models.Sale;
 import com.todev.pdv.core.models.SaleItem;
+import com.todev.pdv.core.providers.contracts.IdempotencyKeyProvider;
 import com.todev.pdv.core.providers.contracts.ProductProvider;
 import com.todev.pdv.core.providers.contracts.SaleItemProvider;
 import com.todev.pdv.core.providers.contracts.SaleProvider;
+import com.todev.pdv.core.providers.contracts.SaleRollupProvider;
 import com.todev.pdv.core.providers.contracts.UserProvider;
+import com.todev.pdv.core.services.contracts.ReportCacheService;
+import com.todev.pdv.core.strategies.contracts.StockMutationStrategy;
 import com.todev.pdv.factories.ProductFactory;
 import com.todev.pdv.factories.SaleFactory;
 import com.todev.pdv.factories.SaleItemFactory;
@@ -18,19 +31,30 @@ import com.todev.pdv.factories.UserFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(SpringExtension.class)
 class SaleServiceImplTest {
@@ -49,9 +73,27 @@ class SaleServiceImplTest {
     @Mock
     private UserProvider userProvider;
 
+    @Mock
+    private IdempotencyKeyProvider idempotencyKeyProvider;
+
+    @Mock
+    private SaleRollupProvider saleRollupProvider;
+
+    @Mock
+    private StockMutationStrategy stockMutationStrategy;
+
+    @Mock
+    private ReportCacheService reportCacheService;
+
+    @Spy
+    private CursorPaginatorImpl cursorPaginator = new CursorPaginatorImpl(20, 100);
+
     @Mock
     private ModelMapper modelMapper;
 
+    @Mock
+    private SaleReader saleReader;
+
     @BeforeEach
     void setUpSaleProvider() {
         when(saleProvider.save(any(Sale.class)))
@@ -77,6 +119,9 @@ class SaleServiceImplTest {
 
         when(saleProvider.findById(anyInt()))
                 .thenReturn(SaleFactory.getSavedSale());
+
+        when(saleProvider.findDetailsById(anyInt()))
+                .thenReturn(new SaleDetailsResponse("Seller", List.of()));
     }
 
     @BeforeEach
@@ -95,6 +140,9 @@ class SaleServiceImplTest {
 
         when(productProvider.findById(anyInt()))
                 .thenReturn(ProductFactory.getSavedProduct());
+
+        when(productProvider.findActiveByIds(anyCollection()))
+                .thenReturn(List.of(ProductFactory.getSavedProduct()));
     }
 
     @BeforeEach
@@ -123,6 +171,50 @@ class SaleServiceImplTest {
         assertDoesNotThrow(() -> saleService.save("seller", SaleFactory.getRequestDTO(1)));
     }
 
+    @Test
+    void save_RollupShouldBeIncremented_WhenSaleWasSaved() {
+        saleService.save("seller", SaleFactory.getRequestDTO(1));
+        verify(saleRollupProvider, times(1)).add(any(Sale.class));
+    }
+
+    @Test
+    void save_RollupShouldNotBeIncremented_WhenSaleWasNotSaved() {
+        when(productProvider.findActiveByIds(anyCollection()))
+                .thenReturn(List.of());
+        var sale = SaleFactory.getRequestDTO(1);
+        assertThrows(ModelNotFoundException.class, () -> saleService.save("seller", sale));
+        verifyNoInteractions(saleRollupProvider);
+    }
+
+    @Test
+    void save_IdempotencyKeyShouldBeSaved_WhenSaleWasSavedWithKey() {
+        saleService.save("seller", "key", SaleFactory.getRequestDTO(1));
+        verify(idempotencyKeyProvider).save(any(IdempotencyKey.class));
+    }
+
+    @Test
+    void save_IdempotencyKeyShouldNotBeSaved_WhenSaleWasNotSaved() {
+        when(productProvider.findActiveByIds(anyCollection()))
+                .thenReturn(List.of());
+        var sale = SaleFactory.getRequestDTO(1);
+        assertThrows(ModelNotFoundException.class, () -> saleService.save("seller", "key", sale));
+        verify(idempotencyKeyProvider, never()).save(any(IdempotencyKey.class));
+    }
+
+    @Test
+    void saveReserved_StockShouldBeDecreasedWithoutStrategy_WhenSaleWasSaved() {
+        saleService.saveReserved("seller", SaleFactory.getRequestDTO(1));
+        verify(saleRollupProvider, times(1)).add(any(Sale.class));
+        verify(productProvider).decreaseStock(anyMap());
+        verifyNoInteractions(stockMutationStrategy);
+    }
+
+    @Test
+    void saveReserved_IdempotencyKeyShouldBeSaved_WhenSaleWasSavedWithKey() {
+        saleService.saveReserved("seller", "key", SaleFactory.getRequestDTO(1));
+        verify(idempotencyKeyProvider).save(any(IdempotencyKey.class));
+    }
+
     @Test
     void save_SaleShouldNotBeSaved_WhenReceivedSaleHasDuplicatedProducts() {
         var sale = SaleFactory.getSaleWithDuplicatedItems(1);
@@ -135,10 +227,187 @@ class SaleServiceImplTest {
         item.setAmount(100);
         when(modelMapper.toModel(any(SaleItemRequest.class)))
                 .thenReturn(item);
+        doThrow(NotEnoughStockException.class)
+                .when(stockMutationStrategy).decrease(anyMap());
         var sale = SaleFactory.getSaleWithNotEnoughStockItems(1);
         assertThrows(NotEnoughStockException.class, () -> saleService.save("seller", sale));
     }
 
+    @Test
+    void save_SaleShouldNotBeSaved_WhenReceivedSaleHasNotFoundProducts() {
+        when(productProvider.findActiveByIds(anyCollection()))
+                .thenReturn(List.of());
+        assertThrows(ModelNotFoundException.class, () -> saleService.save("seller", SaleFactory.getRequestDTO(1)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100, 1000})
+    void save_SaleShouldUseConstantRoundTrips_WhenCartHasManyItems(int size) {
+        var products = new ArrayList<Product>();
+
+        for (int id = 1; id <= size; id++) {
+            var product = ProductFactory.getSavedProduct();
+            product.setId(id);
+            products.add(product);
+        }
+
+        when(productProvider.findActiveByIds(anyCollection()))
+                .thenReturn(products);
+        when(modelMapper.toModel(any(SaleItemRequest.class)))
+                .thenAnswer(invocation -> {
+                    SaleItemRequest request = invocation.getArgument(0);
+                    return new SaleItem(null, null, request.productId(), request.amount(), null, null, null);
+                });
+
+        saleService.save("seller", SaleFactory.getRequestDTOWithItems(size));
+
+        verify(productProvider, times(1)).findActiveByIds(anyCollection());
+        verify(stockMutationStrategy, times(1)).decrease(anyMap());
+        verify(productProvider, never()).findActiveById(anyInt());
+        verify(productProvider, never()).save(any(Product.class));
+        verify(saleItemProvider, times(1)).saveAll(anyList());
+        verify(saleItemProvider, never()).save(any(SaleItem.class));
+        verify(saleProvider, times(1)).save(any(Sale.class));
+    }
+
+    @Test
+    void save_SaleTotalShouldBeExact_WhenPricesHaveNoExactBinaryRepresentation() {
+        var sale = SaleFactory.getSale();
+        when(modelMapper.toModel(any(SaleRequest.class)))
+                .thenReturn(sale);
+        mockProductsAndItems();
+        when(productProvider.findActiveByIds(anyCollection()))
+                .thenAnswer(invocation -> {
+                    Collection<Integer> ids = invocation.getArgument(0);
+                    return ids.stream().map(id -> {
+                        var product = ProductFactory.getSavedProduct();
+                        product.setId(id);
+                        product.setPrice(Money.of(0.1));
+                        return product;
+                    }).toList();
+                });
+
+        saleService.save("seller", SaleFactory.getRequestDTOWithItems(1000));
+
+        assertEquals(Money.ofCents(10000L), sale.getTotal());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 999, 1000, 10000})
+    void saveWholesale_SaleShouldBeSavedInChunks_WhenCartHasManyItems(int size) {
+        mockProductsAndItems();
+        when(saleReader.open(any(InputStream.class)))
+                .thenReturn(streamOf(SaleFactory.getRequestDTOWithItems(size), 1000));
+
+        saleService.saveWholesale("seller", InputStream.nullInputStream());
+
+        var chunks = (size + 999) / 1000;
+        verify(productProvider, times(chunks)).findActiveByIds(anyCollection());
+        verify(stockMutationStrategy, times(chunks)).decrease(anyMap());
+        verify(saleItemProvider, times(chunks)).saveAll(anyList());
+        verify(saleProvider, times(2)).save(any(Sale.class));
+    }
+
+    @Test
+    void saveWholesale_SaleShouldNotBeSaved_WhenDuplicatedProductsAreInDifferentChunks() {
+        mockProductsAndItems();
+        var items = new ArrayList<>(SaleFactory.getRequestDTOWithItems(10).items());
+        items.add(new SaleItemRequest(1, 1));
+        when(saleReader.open(any(InputStream.class)))
+                .thenReturn(streamOf(new SaleRequest("CARD", 0, items), 5));
+        var inputStream = InputStream.nullInputStream();
+        assertThrows(DuplicatedItemException.class, () -> saleService.saveWholesale("seller", inputStream));
+    }
+
+    @Test
+    void saveWholesale_SaleShouldNotBeSaved_WhenAnyChunkHasNotEnoughStock() {
+        mockProductsAndItems();
+        doNothing()
+                .doThrow(NotEnoughStockException.class)
+                .when(stockMutationStrategy).decrease(anyMap());
+        when(saleReader.open(any(InputStream.class)))
+                .thenReturn(streamOf(SaleFactory.getRequestDTOWithItems(10), 5));
+        var inputStream = InputStream.nullInputStream();
+        assertThrows(NotEnoughStockException.class, () -> saleService.saveWholesale("seller", inputStream));
+        verify(saleItemProvider, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void deleteAll_StockShouldBeRestoredOnce_WhenSalesWereFoundByIds() {
+        when(saleProvider.lockActiveIds(anyCollection()))
+                .thenReturn(List.of(1, 2));
+        when(saleItemProvider.sumAmountsBySaleIds(anyCollection()))
+                .thenReturn(Map.of(1, 3, 2, 1));
+
+        saleService.deleteAll(new SaleBulkRequest(List.of(1, 2), null, null, null));
+
+        verify(stockMutationStrategy, times(1)).increase(Map.of(1, 3, 2, 1));
+        verify(saleItemProvider, times(1)).updateDeletedAtBySaleIds(eq(List.of(1, 2)), any(LocalDateTime.class));
+        verify(saleProvider, times(1)).updateDeletedAt(eq(List.of(1, 2)), any(LocalDateTime.class));
+        verify(saleRollupProvider, times(1)).subtractBySaleIds(List.of(1, 2));
+        verify(reportCacheService, times(1)).evictSalesReports();
+        verify(saleProvider, never()).save(any(Sale.class));
+    }
+
+    @Test
+    void deleteAll_SalesShouldBeSearchedByUserAndPeriod_WhenIdsWereNotReceived() {
+        var start = LocalDateTime.now().minusDays(1);
+        var end = LocalDateTime.now();
+        when(saleProvider.lockActiveIdsByUserAndDate(1, start, end, 1001))
+                .thenReturn(List.of());
+
+        saleService.deleteAll(new SaleBulkRequest(null, 1, start, end));
+
+        verify(saleProvider).lockActiveIdsByUserAndDate(1, start, end, 1001);
+        verifyNoInteractions(stockMutationStrategy);
+    }
+
+    @Test
+    void deleteAll_SalesShouldNotBeDeleted_WhenPeriodHasMoreThanMaxSales() {
+        var start = LocalDateTime.now().minusDays(1);
+        var end = LocalDateTime.now();
+        when(saleProvider.lockActiveIdsByUserAndDate(1, start, end, 1001))
+                .thenReturn(IntStream.rangeClosed(1, 1001).boxed().toList());
+        var requestDTO = new SaleBulkRequest(null, 1, start, end);
+
+        assertThrows(InvalidPayloadException.class, () -> saleService.deleteAll(requestDTO));
+        verifyNoInteractions(stockMutationStrategy);
+        verify(saleProvider, never()).updateDeletedAt(anyCollection(), any());
+    }
+
+    @Test
+    void reactivateAll_SalesShouldNotBeReactivated_WhenPeriodHasMoreThanMaxSales() {
+        var start = LocalDateTime.now().minusDays(1);
+        var end = LocalDateTime.now();
+        when(saleProvider.lockInactiveIdsByUserAndDate(1, start, end, 1001))
+                .thenReturn(IntStream.rangeClosed(1, 1001).boxed().toList());
+        var requestDTO = new SaleBulkRequest(null, 1, start, end);
+
+        assertThrows(InvalidPayloadException.class, () -> saleService.reactivateAll(requestDTO));
+        verifyNoInteractions(stockMutationStrategy);
+    }
+
+    @Test
+    void deleteAll_SalesShouldNotBeDeleted_WhenRequestHasNoIdsAndNoPeriod() {
+        var requestDTO = new SaleBulkRequest(List.of(), 1, null, null);
+        assertThrows(InvalidPayloadException.class, () -> saleService.deleteAll(requestDTO));
+    }
+
+    @Test
+    void reactivateAll_SalesShouldNotBeReactivated_WhenAnyProductHasNotEnoughStock() {
+        when(saleProvider.lockInactiveIds(anyCollection()))
+                .thenReturn(List.of(1, 2));
+        when(saleItemProvider.sumAmountsBySaleIds(anyCollection()))
+                .thenReturn(Map.of(1, 100));
+        doThrow(NotEnoughStockException.class)
+                .when(stockMutationStrategy).decrease(anyMap());
+        var requestDTO = new SaleBulkRequest(List.of(1, 2), null, null, null);
+
+        assertThrows(NotEnoughStockException.class, () -> saleService.reactivateAll(requestDTO));
+        verify(stockMutationStrategy, times(1)).decrease(Map.of(1, 100));
+        verify(saleProvider, never()).updateDeletedAt(anyCollection(), any());
+    }
+
     @Test
     void findActive_SalesShouldBeReturned_WhenHaveActiveSales() {
         var sales = saleService.findActive(PageRequest.of(0, 5));
@@ -178,11 +447,52 @@ class SaleServiceImplTest {
         assertDoesNotThrow(() -> saleService.details(1));
     }
 
+    @Test
+    void details_SaleDetailsShouldBeLoadedInOneRead_WhenIdWasFound() {
+        saleService.details(1);
+        verify(saleProvider, times(1)).findDetailsById(1);
+        verifyNoInteractions(userProvider, saleItemProvider, productProvider);
+    }
+
     @Test
     void delete_SaleShouldBeDeleted_WhenIdWasFound() {
         assertDoesNotThrow(() -> saleService.delete(1));
     }
 
+    @Test
+    void delete_StockShouldBeRestored_WhenSaleWasDeleted() {
+        saleService.delete(1);
+        verify(stockMutationStrategy, times(1)).increase(Map.of(1, 1));
+    }
+
+    @Test
+    void delete_RollupShouldBeDecremented_WhenSaleWasDeleted() {
+        saleService.delete(1);
+        verify(saleRollupProvider, times(1)).subtract(any(Sale.class));
+    }
+
+    @Test
+    void delete_CachedReportShouldBeEvicted_WhenSaleWasDeleted() {
+        var sale = SaleFactory.getSavedSale();
+        when(saleProvider.findActiveById(anyInt()))
+                .thenReturn(sale);
+        saleService.delete(1);
+        verify(reportCacheService, times(1)).evictSalesReport(sale.getCreatedAt().toLocalDate());
+    }
+
+    @Test
+    void reactivate_RollupShouldBeIncremented_WhenSaleWasReactivated() {
+        saleService.reactivate(1);
+        verify(saleRollupProvider, times(1)).add(any(Sale.class));
+        verify(reportCacheService, times(1)).evictSalesReport(any(LocalDate.class));
+    }
+
+    @Test
+    void rebuildRollup_RollupShouldBeRebuilt() {
+        saleService.rebuildRollup();
+        verify(saleRollupProvider, times(1)).rebuild();
+    }
+
     @Test
     void reactivate_SaleShouldBeReactivated_WhenIdWasFound() {
         assertDoesNotThrow(() -> saleService.reactivate(1));
@@ -190,10 +500,83 @@ class SaleServiceImplTest {
 
     @Test
     void reactivate_SaleShouldNotBeReactivated_WhenProductDoesNotHaveEnoughStock() {
-        var product = ProductFactory.getSavedProduct();
-        product.setAmount(0);
-        when(productProvider.findById(anyInt()))
-                .thenReturn(product);
+        doThrow(NotEnoughStockException.class)
+                .when(stockMutationStrategy).decrease(anyMap());
         assertThrows(NotEnoughStockException.class, () -> saleService.reactivate(1));
     }
-}
\ No newline at end of file
+
+    private void mockProductsAndItems() {
+        when(productProvider.findActiveByIds(anyCollection()))
+                .thenAnswer(invocation -> {
+                    Collection<Integer> ids = invocation.getArgument(0);
+                    return ids.stream().map(id -> {
+                        var product = ProductFactory.getSavedProduct();
+                        product.setId(id);
+                        return product;
+                    }).toList();
+                });
+        when(modelMapper.toModel(any(SaleItemRequest.class)))
+                .thenAnswer(invocation -> {
+                    SaleItemRequest request = invocation.getArgument(0);
+                    return new SaleItem(null, null, request.productId(), request.amount(), null, null, null);
+                });
+    }
+
+    private SaleReader.SaleStream streamOf(SaleRequest requestDTO, int chunkSize) {
+        var chunks = new ArrayList<List<SaleItemRequest>>();
+
+        for (int start = 0; start < requestDTO.items().size(); start += chunkSize) {
+            chunks.add(requestDTO.items().subList(start, Math.min(start + chunkSize, requestDTO.items().size())));
+        }
+
+        Iterator<List<SaleItemRequest>> iterator = chunks.iterator();
+
+        return new SaleReader.SaleStream() {
+            @Override
+            public SaleRequest header() {
+                return new SaleRequest(requestDTO.paymentMethod(), requestDTO.discount(), List.of());
+            }
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public List<SaleItemRequest> next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    @Test
+    void findActive_NewestSalesShouldBeReturned_WhenCursorIsAbsent() {
+        when(saleProvider.findActiveBefore(Integer.MAX_VALUE, 2))
+                .thenReturn(List.of(SaleFactory.getSavedSale(), SaleFactory.getSavedSale()));
+        var sales = saleService.findActive(null, 1);
+        assertEquals(1, sales.content().size());
+        assertNotNull(sales.next());
+    }
+
+    @Test
+    void findActive_OlderSalesShouldBeReturned_WhenNextCursorWasReceived() {
+        when(saleProvider.findActiveBefore(Integer.MAX_VALUE, 2))
+                .thenReturn(List.of(SaleFactory.getSavedSale(), SaleFactory.getSavedSale()));
+        var first = saleService.findActive(null, 1);
+        saleService.findActive(first.next(), 1);
+        verify(saleProvider).findActiveBefore(SaleFactory.getSavedSale().getId(), 2);
+    }
+
+    @Test
+    void findInactive_SalesShouldBeReturned_WhenCursorWasRequested() {
+        when(saleProvider.findInactiveBefore(Integer.MAX_VALUE, 6))
+                .thenReturn(List.of(SaleFactory.getInactiveSavedSale()));
+        var sales = saleService.findInactive(null, 5);
+        assertEquals(1, sales.content().size());
+        assertNull(sales.next());
+    }
+}
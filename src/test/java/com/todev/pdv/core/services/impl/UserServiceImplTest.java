@@ -2,17 +2,20 @@ package com.todev.pdv.core.services.impl;
 
 import com.todev.pdv.common.dtos.UserRequest;
 import com.todev.pdv.common.mappers.contracts.ModelMapper;
+import com.todev.pdv.common.paginators.impl.CursorPaginatorImpl;
 import com.todev.pdv.core.exceptions.ConstraintConflictException;
 import com.todev.pdv.core.exceptions.DependencyInUseException;
 import com.todev.pdv.core.exceptions.PermissionDeniedException;
 import com.todev.pdv.core.models.User;
 import com.todev.pdv.core.providers.contracts.UserProvider;
+import com.todev.pdv.core.services.contracts.ReportCacheService;
 import com.todev.pdv.factories.UserFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -25,6 +28,9 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.when;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(SpringExtension.class)
 class UserServiceImplTest {
@@ -37,6 +43,12 @@ class UserServiceImplTest {
     @Mock
     private PasswordEncoder BCryptEncoder;
 
+    @Mock
+    private ReportCacheService reportCacheService;
+
+    @Spy
+    private CursorPaginatorImpl cursorPaginator = new CursorPaginatorImpl(20, 100);
+
     @Mock
     private ModelMapper modelMapper;
 
@@ -159,6 +171,20 @@ class UserServiceImplTest {
         assertDoesNotThrow(() -> userService.update("seller", user));
     }
 
+    @Test
+    void update_SalesReportsShouldBeEvicted_WhenNameWasChanged() {
+        when(modelMapper.toModel(any(UserRequest.class)))
+                .thenReturn(UserFactory.getManager());
+        userService.update("seller", UserFactory.getManagerWithoutIssues());
+        verify(reportCacheService, times(1)).evictSalesReports();
+    }
+
+    @Test
+    void update_SalesReportsShouldNotBeEvicted_WhenNameWasNotChanged() {
+        userService.update("seller", UserFactory.getRequestDTO());
+        verify(reportCacheService, never()).evictSalesReports();
+    }
+
     @Test
     void update_UserShouldNotBeUpdated_WhenLoginIsInUseByAnotherUser() {
         when(userProvider.findByLogin(anyString()))
@@ -204,4 +230,38 @@ class UserServiceImplTest {
     void reactivate_UserShouldBeReactivated_WhenIdWasFound() {
         assertDoesNotThrow(() -> userService.reactivate(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    void findActive_UsersShouldBeReturnedWithNextCursor_WhenHaveMoreActiveUsers() {
+        when(userProvider.findActiveAfter(0, 2))
+                .thenReturn(List.of(UserFactory.getSavedAdmin(), UserFactory.getSavedSeller()));
+        var users = userService.findActive(null, 1);
+        assertEquals(1, users.content().size());
+        assertNotNull(users.next());
+    }
+
+    @Test
+    void findInactive_UsersShouldBeReturned_WhenCursorWasRequested() {
+        when(userProvider.findInactiveAfter(0, 6))
+                .thenReturn(List.of(UserFactory.getInactiveSavedManager()));
+        var users = userService.findInactive(null, 5);
+        assertEquals(1, users.content().size());
+        assertNull(users.next());
+    }
+
+    @Test
+    void findActiveByNameContaining_UsersShouldBeReturned_WhenCursorWasRequested() {
+        when(userProvider.findActiveByNameContainingAfter("Sel", 0, 6))
+                .thenReturn(List.of(UserFactory.getSavedSeller()));
+        var users = userService.findActiveByNameContaining("Sel", null, 5);
+        assertEquals(1, users.content().size());
+    }
+
+    @Test
+    void findInactiveByNameContaining_UsersShouldBeReturned_WhenCursorWasRequested() {
+        when(userProvider.findInactiveByNameContainingAfter("Man", 0, 6))
+                .thenReturn(List.of(UserFactory.getInactiveSavedManager()));
+        var users = userService.findInactiveByNameContaining("Man", null, 5);
+        assertEquals(1, users.content().size());
+    }
+}
@@ -0,0 +1,60 @@
+package com.todev.pdv.core.strategies.impl;
+
+import com.todev.pdv.core.exceptions.NotEnoughStockException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.when;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class AtomicStockMutationStrategyTest {
+    @InjectMocks
+    private AtomicStockMutationStrategy stockMutationStrategy;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Test
+    void decrease_StockShouldBeDecreased_WhenAllProductsHaveEnoughStock() {
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+                .thenReturn(new int[]{1, 1});
+        assertDoesNotThrow(() -> stockMutationStrategy.decrease(Map.of(1, 2, 2, 3)));
+    }
+
+    @Test
+    void decrease_StockShouldNotBeDecreased_WhenAnyProductDoesNotHaveEnoughStock() {
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+                .thenReturn(new int[]{1, 0});
+        assertThrows(NotEnoughStockException.class, () -> stockMutationStrategy.decrease(Map.of(1, 2, 2, 3)));
+    }
+
+    @Test
+    void increase_StockShouldBeRestoredInOneStatement_WhenManyProductsWereReturned() {
+        stockMutationStrategy.increase(Map.of(1, 2, 2, 3, 3, 4));
+
+        var sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(1)).update(sql.capture(), any(SqlParameterSource.class));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+        assertTrue(sql.getValue().contains("CASE id WHEN :id0 THEN :amount0 WHEN :id1 THEN :amount1 WHEN :id2 THEN :amount2"));
+    }
+
+    @Test
+    void increase_NothingShouldBeUpdated_WhenNoProductsWereReturned() {
+        stockMutationStrategy.increase(Map.of());
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,165 @@
+package com.todev.pdv.core.strategies.impl;
+
+import com.todev.pdv.core.exceptions.NotEnoughStockException;
+import com.todev.pdv.core.repositories.ProductRepository;
+import com.todev.pdv.factories.ProductFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.when;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class LedgerStockMutationStrategyTest {
+    @InjectMocks
+    private LedgerStockMutationStrategy stockMutationStrategy;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUpProductRepository() {
+        when(productRepository.findAll())
+                .thenReturn(List.of(ProductFactory.getSavedProduct()));
+
+        when(productRepository.findById(anyInt()))
+                .thenReturn(Optional.empty());
+
+        stockMutationStrategy.rebuild();
+    }
+
+    @Test
+    void decrease_StockShouldBeDecreased_WhenAllProductsHaveEnoughStock() {
+        stockMutationStrategy.decrease(Map.of(1, 10));
+        assertThrows(NotEnoughStockException.class, () -> stockMutationStrategy.decrease(Map.of(1, 1)));
+    }
+
+    @Test
+    void decrease_StockShouldNotBeDecreased_WhenAnyProductDoesNotHaveEnoughStock() {
+        assertThrows(NotEnoughStockException.class, () -> stockMutationStrategy.decrease(Map.of(1, 5, 2, 1)));
+        assertDoesNotThrow(() -> stockMutationStrategy.decrease(Map.of(1, 10)));
+    }
+
+    @Test
+    void decrease_StockShouldBeLoaded_WhenProductWasNotRebuilt() {
+        var product = ProductFactory.getSavedProduct();
+        product.setId(2);
+        when(productRepository.findById(2))
+                .thenReturn(Optional.of(product));
+        assertDoesNotThrow(() -> stockMutationStrategy.decrease(Map.of(2, 10)));
+    }
+
+    @Test
+    void increase_StockShouldBeIncreased_WhenProductsWereReturned() {
+        stockMutationStrategy.increase(Map.of(1, 5));
+        assertDoesNotThrow(() -> stockMutationStrategy.decrease(Map.of(1, 15)));
+    }
+
+    @Test
+    void replace_StockShouldBeReplaced_WhenAmountWasChanged() {
+        stockMutationStrategy.replace(1, 3);
+        assertThrows(NotEnoughStockException.class, () -> stockMutationStrategy.decrease(Map.of(1, 4)));
+    }
+
+    @Test
+    void replace_StockShouldBeKept_WhenAmountMatchesLedger() {
+        stockMutationStrategy.decrease(Map.of(1, 4));
+        stockMutationStrategy.replace(1, 6);
+        stockMutationStrategy.flush();
+
+        var batch = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+        assertEquals(-4, batch.getValue()[0].getValue("amount"));
+        assertThrows(NotEnoughStockException.class, () -> stockMutationStrategy.decrease(Map.of(1, 7)));
+    }
+
+    @Test
+    void replace_IncreaseShouldNotBeAvailable_WhenTransactionWasNotCommitted() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            stockMutationStrategy.replace(1, 100);
+            assertThrows(NotEnoughStockException.class, () -> stockMutationStrategy.decrease(Map.of(1, 50)));
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThrows(NotEnoughStockException.class, () -> stockMutationStrategy.decrease(Map.of(1, 11)));
+        assertDoesNotThrow(() -> stockMutationStrategy.decrease(Map.of(1, 10)));
+    }
+
+    @Test
+    void replace_DecreaseShouldBeRestored_WhenTransactionWasRolledBack() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            stockMutationStrategy.replace(1, 3);
+            assertThrows(NotEnoughStockException.class, () -> stockMutationStrategy.decrease(Map.of(1, 4)));
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertDoesNotThrow(() -> stockMutationStrategy.decrease(Map.of(1, 10)));
+    }
+
+    @Test
+    void flush_NetDeltasShouldBeWritten_WhenStockWasMutated() {
+        stockMutationStrategy.decrease(Map.of(1, 4));
+        stockMutationStrategy.increase(Map.of(1, 1));
+        stockMutationStrategy.flush();
+
+        var batch = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+        assertEquals(1, batch.getValue().length);
+        assertEquals(-3, batch.getValue()[0].getValue("amount"));
+    }
+
+    @Test
+    void flush_NothingShouldBeWritten_WhenDeltasCancelOut() {
+        stockMutationStrategy.decrease(Map.of(1, 4));
+        stockMutationStrategy.increase(Map.of(1, 4));
+        stockMutationStrategy.flush();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void flush_DeltasShouldBeKept_WhenWriteFailed() {
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(new int[]{1});
+        stockMutationStrategy.decrease(Map.of(1, 2));
+        stockMutationStrategy.flush();
+        stockMutationStrategy.flush();
+        stockMutationStrategy.flush();
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), any(SqlParameterSource[].class));
+    }
+
+    private void complete(int status) {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, status);
+    }
+}
@@ -0,0 +1,66 @@
+package com.todev.pdv.core.strategies.impl;
+
+import com.todev.pdv.core.exceptions.NotEnoughStockException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OptimisticStockMutationStrategyTest {
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private OptimisticStockMutationStrategy stockMutationStrategy;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        stockMutationStrategy = new OptimisticStockMutationStrategy(jdbcTemplate, 3);
+        var resultSet = mock(ResultSet.class);
+        when(resultSet.getInt("id")).thenReturn(1);
+        when(resultSet.getInt("amount")).thenReturn(10);
+        when(resultSet.getInt("version")).thenReturn(0);
+        when(jdbcTemplate.query(anyString(), anyMap(), any(RowMapper.class)))
+                .thenAnswer(invocation -> {
+                    RowMapper<?> rowMapper = invocation.getArgument(2);
+                    return List.of(rowMapper.mapRow(resultSet, 0));
+                });
+    }
+
+    @Test
+    void decrease_StockShouldBeDecreased_WhenVersionWasNotChanged() {
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+                .thenReturn(new int[]{1});
+        assertDoesNotThrow(() -> stockMutationStrategy.decrease(Map.of(1, 2)));
+    }
+
+    @Test
+    void decrease_StockShouldBeDecreased_WhenVersionWasChangedOnce() {
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+                .thenReturn(new int[]{0}, new int[]{1});
+        stockMutationStrategy.decrease(Map.of(1, 2));
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), any(SqlParameterSource[].class));
+    }
+
+    @Test
+    void decrease_StockShouldNotBeDecreased_WhenAttemptsWereExhausted() {
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+                .thenReturn(new int[]{0});
+        assertThrows(OptimisticLockingFailureException.class, () -> stockMutationStrategy.decrease(Map.of(1, 2)));
+    }
+
+    @Test
+    void decrease_StockShouldNotBeDecreased_WhenProductDoesNotHaveEnoughStock() {
+        assertThrows(NotEnoughStockException.class, () -> stockMutationStrategy.decrease(Map.of(1, 20)));
+    }
+}
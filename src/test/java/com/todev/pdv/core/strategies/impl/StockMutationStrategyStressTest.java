@@ -0,0 +1,105 @@
+package com.todev.pdv.core.strategies.impl;
+
+import com.todev.pdv.core.exceptions.NotEnoughStockException;
+import com.todev.pdv.core.repositories.ProductRepository;
+import com.todev.pdv.core.strategies.contracts.StockMutationStrategy;
+import com.todev.pdv.factories.ProductFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.transaction.TransactionDefinition.ISOLATION_READ_COMMITTED;
+
+@Slf4j
+@SpringBootTest
+@EnabledIfSystemProperty(named = "stress", matches = "true")
+class StockMutationStrategyStressTest {
+    private static final int THREADS = 16;
+    private static final int INITIAL_AMOUNT = 2000;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"atomic", "optimistic", "pessimistic"})
+    void decrease_StockShouldNotLoseUpdates_WhenManyThreadsSellTheSameProduct(String name) throws Exception {
+        var strategy = createStrategy(name);
+        var product = ProductFactory.getProduct();
+        product.setAmount(INITIAL_AMOUNT);
+        product = productRepository.save(product);
+
+        var productId = product.getId();
+        var transaction = new TransactionTemplate(transactionManager);
+        var sold = new AtomicInteger();
+        var conflicts = new AtomicInteger();
+        var done = new CountDownLatch(THREADS);
+        var executor = Executors.newFixedThreadPool(THREADS);
+        transaction.setIsolationLevel(ISOLATION_READ_COMMITTED);
+
+        var start = System.nanoTime();
+
+        for (int i = 0; i < THREADS; i++) {
+            executor.execute(() -> {
+                try {
+                    while (true) {
+                        try {
+                            transaction.executeWithoutResult(status -> strategy.decrease(Map.of(productId, 1)));
+                            sold.incrementAndGet();
+                        } catch (OptimisticLockingFailureException exception) {
+                            conflicts.incrementAndGet();
+                        }
+                    }
+                } catch (NotEnoughStockException exception) {
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await(2, TimeUnit.MINUTES);
+        executor.shutdownNow();
+
+        var elapsed = (System.nanoTime() - start) / 1_000_000_000.0;
+        var remaining = productRepository.findById(productId).orElseThrow().getAmount();
+        var lostUpdates = sold.get() - (INITIAL_AMOUNT - remaining);
+
+        log.info("strategy={} sold={} conflicts={} lostUpdates={} throughput={} ops/s",
+                name, sold.get(), conflicts.get(), lostUpdates, String.format("%.1f", sold.get() / elapsed));
+
+        assertEquals(0, lostUpdates);
+        assertEquals(0, remaining);
+    }
+
+    private StockMutationStrategy createStrategy(String name) {
+        return switch (name) {
+            case "optimistic" -> new OptimisticStockMutationStrategy(jdbcTemplate, 5);
+            case "pessimistic" -> new PessimisticStockMutationStrategy(jdbcTemplate);
+            default -> new AtomicStockMutationStrategy(jdbcTemplate);
+        };
+    }
+}
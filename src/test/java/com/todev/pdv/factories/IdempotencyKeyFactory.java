@@ -0,0 +1,32 @@
+package com.todev.pdv.factories;
+
+import com.todev.pdv.core.models.IdempotencyKey;
+
+import java.time.LocalDateTime;
+
+public final class IdempotencyKeyFactory {
+    private IdempotencyKeyFactory() {
+    }
+
+    public static IdempotencyKey getIdempotencyKey(Integer saleId) {
+        return new IdempotencyKey(
+                null,
+                "seller",
+                "3f1c2a9e-5d1b-4c57-9f0e-2b7d4c1a8e6f",
+                SaleFactory.getRequestDTO(1).digest(),
+                saleId,
+                LocalDateTime.now()
+        );
+    }
+
+    public static IdempotencyKey getSavedIdempotencyKey() {
+        return new IdempotencyKey(
+                1,
+                "seller",
+                "3f1c2a9e-5d1b-4c57-9f0e-2b7d4c1a8e6f",
+                SaleFactory.getRequestDTO(1).digest(),
+                1,
+                LocalDateTime.now()
+        );
+    }
+}
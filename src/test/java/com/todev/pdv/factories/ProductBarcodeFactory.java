@@ -0,0 +1,42 @@
+package com.todev.pdv.factories;
+
+import com.todev.pdv.common.dtos.ProductBarcodeRequest;
+import com.todev.pdv.common.dtos.ProductBarcodeResponse;
+import com.todev.pdv.core.models.ProductBarcode;
+
+import java.time.LocalDateTime;
+
+public final class ProductBarcodeFactory {
+    private ProductBarcodeFactory() {
+    }
+
+    public static ProductBarcode getBarcode(Integer productId) {
+        return new ProductBarcode(
+                null,
+                productId,
+                "7891234567895",
+                LocalDateTime.now()
+        );
+    }
+
+    public static ProductBarcode getSavedBarcode() {
+        return new ProductBarcode(
+                1,
+                1,
+                "7891234567895",
+                LocalDateTime.now()
+        );
+    }
+
+    public static ProductBarcodeRequest getRequestDTO() {
+        return new ProductBarcodeRequest("7891234567895");
+    }
+
+    public static ProductBarcodeResponse getResponseDTO() {
+        return new ProductBarcodeResponse(
+                1,
+                "7891234567895",
+                LocalDateTime.now()
+        );
+    }
+}
@@ -2,6 +2,7 @@ package com.todev.pdv.factories;
 
 import com.todev.pdv.common.dtos.ProductRequest;
 import com.todev.pdv.common.dtos.ProductResponse;
+import com.todev.pdv.core.models.Money;
 import com.todev.pdv.core.models.Product;
 
 import java.time.LocalDateTime;
@@ -15,8 +16,9 @@ public final class ProductFactory {
                 null,
                 "Samsung Galaxy S20",
                 10,
-                1750.90,
+                Money.ofCents(175090L),
                 LocalDateTime.now(),
+                null,
                 null
         );
     }
@@ -26,9 +28,10 @@ public final class ProductFactory {
                 1,
                 "Samsung Galaxy S20",
                 10,
-                1750.90,
+                Money.ofCents(175090L),
                 LocalDateTime.now(),
-                null
+                null,
+                0
         );
     }
 
@@ -37,9 +40,10 @@ public final class ProductFactory {
                 null,
                 "Samsung Galaxy S20",
                 10,
-                1750.90,
+                Money.ofCents(175090L),
+                LocalDateTime.now(),
                 LocalDateTime.now(),
-                LocalDateTime.now()
+                null
         );
     }
 
@@ -48,9 +52,10 @@ public final class ProductFactory {
                 1,
                 "Samsung Galaxy S20",
                 10,
-                1750.90,
+                Money.ofCents(175090L),
+                LocalDateTime.now(),
                 LocalDateTime.now(),
-                LocalDateTime.now()
+                0
         );
     }
 
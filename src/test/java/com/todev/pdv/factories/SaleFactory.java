@@ -1,11 +1,14 @@
 package com.todev.pdv.factories;
 
+import com.todev.pdv.common.dtos.SaleItemRequest;
 import com.todev.pdv.common.dtos.SaleRequest;
 import com.todev.pdv.common.dtos.SaleResponse;
 import com.todev.pdv.core.enums.PaymentMethod;
+import com.todev.pdv.core.models.Money;
 import com.todev.pdv.core.models.Sale;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 public final class SaleFactory {
@@ -19,7 +22,7 @@ public final class SaleFactory {
                 1,
                 PaymentMethod.CARD,
                 0,
-                1750.90,
+                Money.ofCents(175090L),
                 LocalDateTime.now(),
                 null
         );
@@ -31,7 +34,7 @@ public final class SaleFactory {
                 1,
                 PaymentMethod.CARD,
                 0,
-                1750.90,
+                Money.ofCents(175090L),
                 LocalDateTime.now(),
                 LocalDateTime.now()
         );
@@ -43,7 +46,7 @@ public final class SaleFactory {
                 1,
                 PaymentMethod.CARD,
                 0,
-                1750.90,
+                Money.ofCents(175090L),
                 LocalDateTime.now(),
                 null
         );
@@ -55,7 +58,7 @@ public final class SaleFactory {
                 1,
                 PaymentMethod.CARD,
                 0,
-                1750.90,
+                Money.ofCents(175090L),
                 LocalDateTime.now(),
                 LocalDateTime.now()
         );
@@ -69,6 +72,16 @@ public final class SaleFactory {
         );
     }
 
+    public static SaleRequest getRequestDTOWithItems(Integer size) {
+        var items = new ArrayList<SaleItemRequest>();
+
+        for (int productId = 1; productId <= size; productId++) {
+            items.add(new SaleItemRequest(productId, 1));
+        }
+
+        return new SaleRequest("CARD", 0, items);
+    }
+
     public static SaleRequest getSaleWithDuplicatedItems(Integer productId) {
         return new SaleRequest(
                 "CARD",
@@ -1,6 +1,7 @@
 package com.todev.pdv.factories;
 
 import com.todev.pdv.common.dtos.SaleItemRequest;
+import com.todev.pdv.core.models.Money;
 import com.todev.pdv.core.models.SaleItem;
 
 import java.time.LocalDateTime;
@@ -16,7 +17,7 @@ public final class SaleItemFactory {
                 1,
                 1,
                 1,
-                1750.90,
+                Money.ofCents(175090L),
                 LocalDateTime.now(),
                 null
         );
@@ -28,7 +29,7 @@ public final class SaleItemFactory {
                 1,
                 1,
                 1,
-                1750.90,
+                Money.ofCents(175090L),
                 LocalDateTime.now(),
                 LocalDateTime.now()
         );
@@ -40,7 +41,7 @@ public final class SaleItemFactory {
                 1,
                 1,
                 1,
-                1750.90,
+                Money.ofCents(175090L),
                 LocalDateTime.now(),
                 null
         );
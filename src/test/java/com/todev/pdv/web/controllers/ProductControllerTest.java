@@ -1,12 +1,17 @@
 package com.todev.pdv.web.controllers;
 
+import com.todev.pdv.common.dtos.CursorPage;
 import com.todev.pdv.common.dtos.ErrorResponse;
+import com.todev.pdv.common.dtos.ProductBarcodeResponse;
 import com.todev.pdv.common.dtos.ProductRequest;
 import com.todev.pdv.common.dtos.ProductResponse;
+import com.todev.pdv.core.models.Money;
 import com.todev.pdv.core.models.Product;
+import com.todev.pdv.core.repositories.ProductBarcodeRepository;
 import com.todev.pdv.core.repositories.ProductRepository;
 import com.todev.pdv.core.repositories.UserRepository;
 import com.todev.pdv.factories.CredentialsFactory;
+import com.todev.pdv.factories.ProductBarcodeFactory;
 import com.todev.pdv.factories.ProductFactory;
 import com.todev.pdv.factories.UserFactory;
 import com.todev.pdv.helpers.SecurityHelper;
@@ -39,6 +44,9 @@ class ProductControllerTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ProductBarcodeRepository productBarcodeRepository;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -51,6 +59,7 @@ class ProductControllerTest {
 
     @AfterEach
     void tearDown() {
+        productBarcodeRepository.deleteAll();
         productRepository.deleteAll();
         userRepository.deleteAll();
     }
@@ -428,7 +437,7 @@ class ProductControllerTest {
 
     @Test
     void update_ProductShouldBeUpdated_WhenDescriptionIsNotInUse() {
-        var product = new Product(null, "iPhone XR", 10, 1750.9, LocalDateTime.now(), null);
+        var product = new Product(null, "iPhone XR", 10, Money.ofCents(175090L), LocalDateTime.now(), null, null);
         productRepository.save(product);
 
         var httpHeaders = securityHelper.authenticate(CredentialsFactory.getAdmin());
@@ -469,7 +478,7 @@ class ProductControllerTest {
 
     @Test
     void update_ProductShouldNotBeUpdated_WhenDescriptionIsInUseByAnotherProduct() {
-        var product = new Product(null, "iPhone XR", 10, 1750.9, LocalDateTime.now(), null);
+        var product = new Product(null, "iPhone XR", 10, Money.ofCents(175090L), LocalDateTime.now(), null, null);
         productRepository.saveAll(List.of(product, ProductFactory.getProduct()));
 
         var httpHeaders = securityHelper.authenticate(CredentialsFactory.getManager());
@@ -663,4 +672,151 @@ class ProductControllerTest {
 
         assertEquals(FORBIDDEN, httpResponse.getStatusCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findActiveByBarcode_ProductShouldBeReturned_WhenCodeWasFound() {
+        var product = productRepository.save(ProductFactory.getProduct());
+        productBarcodeRepository.save(ProductBarcodeFactory.getBarcode(product.getId()));
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getSeller());
+        var httpResponse = apiClient.exchange("/products/barcode/{code}",
+                GET,
+                new HttpEntity<>(httpHeaders),
+                ProductResponse.class,
+                "7891234567895"
+        );
+
+        assertAll(() -> {
+            assertEquals(OK, httpResponse.getStatusCode());
+            assertNotNull(httpResponse.getBody());
+            assertEquals(product.getId(), httpResponse.getBody().id());
+        });
+    }
+
+    @Test
+    void findActiveByBarcode_ProductShouldNotBeReturned_WhenCodeWasNotFound() {
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getSeller());
+        var httpResponse = apiClient.exchange("/products/barcode/{code}",
+                GET,
+                new HttpEntity<>(httpHeaders),
+                ErrorResponse.class,
+                "0000000000000"
+        );
+
+        assertAll(() -> {
+            assertEquals(NOT_FOUND, httpResponse.getStatusCode());
+            assertNotNull(httpResponse.getBody());
+            assertEquals("O código de barras: 0000000000000 não foi encontrado!", httpResponse.getBody().message());
+        });
+    }
+
+    @Test
+    void saveBarcode_BarcodeShouldBeSaved_WhenCodeIsNotInUse() {
+        var product = productRepository.save(ProductFactory.getProduct());
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getManager());
+        var httpResponse = apiClient.exchange("/products/{id}/barcodes",
+                POST,
+                new HttpEntity<>(ProductBarcodeFactory.getRequestDTO(), httpHeaders),
+                ProductBarcodeResponse.class,
+                product.getId()
+        );
+
+        assertAll(() -> {
+            assertEquals(CREATED, httpResponse.getStatusCode());
+            assertNotNull(httpResponse.getBody());
+            assertEquals(product.getId(), httpResponse.getBody().productId());
+            assertEquals("7891234567895", httpResponse.getBody().code());
+        });
+    }
+
+    @Test
+    void saveBarcode_BarcodeShouldNotBeSaved_WhenCodeIsInUse() {
+        var product = productRepository.save(ProductFactory.getProduct());
+        productBarcodeRepository.save(ProductBarcodeFactory.getBarcode(product.getId()));
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getAdmin());
+        var httpResponse = apiClient.exchange("/products/{id}/barcodes",
+                POST,
+                new HttpEntity<>(ProductBarcodeFactory.getRequestDTO(), httpHeaders),
+                ErrorResponse.class,
+                product.getId()
+        );
+
+        assertAll(() -> {
+            assertEquals(CONFLICT, httpResponse.getStatusCode());
+            assertNotNull(httpResponse.getBody());
+            assertEquals("O código de barras: 7891234567895 já está em uso!", httpResponse.getBody().message());
+        });
+    }
+
+    @Test
+    void saveBarcode_BarcodeShouldNotBeSaved_WhenOnlineUserIsASeller() {
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getSeller());
+        var httpResponse = apiClient.exchange("/products/{id}/barcodes",
+                POST,
+                new HttpEntity<>(ProductBarcodeFactory.getRequestDTO(), httpHeaders),
+                ErrorResponse.class,
+                1
+        );
+
+        assertEquals(FORBIDDEN, httpResponse.getStatusCode());
+    }
+
+    @Test
+    void findBarcodes_BarcodesShouldBeReturned_WhenProductHasBarcodes() {
+        var product = productRepository.save(ProductFactory.getProduct());
+        productBarcodeRepository.save(ProductBarcodeFactory.getBarcode(product.getId()));
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getAdmin());
+        var httpResponse = apiClient.exchange("/products/{id}/barcodes",
+                GET,
+                new HttpEntity<>(httpHeaders),
+                new ParameterizedTypeReference<List<ProductBarcodeResponse>>() {
+                },
+                product.getId()
+        );
+
+        assertAll(() -> {
+            assertEquals(OK, httpResponse.getStatusCode());
+            assertNotNull(httpResponse.getBody());
+            assertEquals(1, httpResponse.getBody().size());
+        });
+    }
+
+    @Test
+    void deleteBarcode_BarcodeShouldBeDeleted_WhenCodeBelongsToProduct() {
+        var product = productRepository.save(ProductFactory.getProduct());
+        productBarcodeRepository.save(ProductBarcodeFactory.getBarcode(product.getId()));
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getAdmin());
+        var httpResponse = apiClient.exchange("/products/{id}/barcodes/{code}",
+                DELETE,
+                new HttpEntity<>(httpHeaders),
+                Void.class,
+                product.getId(),
+                "7891234567895"
+        );
+
+        assertAll(() -> {
+            assertEquals(NO_CONTENT, httpResponse.getStatusCode());
+            assertTrue(productBarcodeRepository.findByCode("7891234567895").isEmpty());
+        });
+    }
+
+    @Test
+    void findActive_ProductsShouldBeReturnedWithoutCount_WhenCursorWasRequested() {
+        productRepository.save(ProductFactory.getProduct());
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getSeller());
+        var httpResponse = apiClient.exchange("/products/active/cursor?size={size}",
+                GET,
+                new HttpEntity<>(httpHeaders),
+                new ParameterizedTypeReference<CursorPage<ProductResponse>>() {
+                },
+                5000
+        );
+
+        assertAll(() -> {
+            assertEquals(OK, httpResponse.getStatusCode());
+            assertNotNull(httpResponse.getBody());
+            assertEquals(1, httpResponse.getBody().content().size());
+            assertEquals(100, httpResponse.getBody().size());
+            assertNull(httpResponse.getBody().next());
+        });
+    }
+}
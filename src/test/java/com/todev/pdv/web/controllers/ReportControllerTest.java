@@ -0,0 +1,316 @@
+package com.todev.pdv.web.controllers;
+
+import com.todev.pdv.common.dtos.LeaderboardResponse;
+import com.todev.pdv.common.dtos.ReportJobRequest;
+import com.todev.pdv.common.dtos.ReportJobResponse;
+import com.todev.pdv.core.repositories.SaleRepository;
+import com.todev.pdv.core.repositories.UserRepository;
+import com.todev.pdv.core.services.contracts.ReportBundleService;
+import com.todev.pdv.factories.CredentialsFactory;
+import com.todev.pdv.factories.SaleFactory;
+import com.todev.pdv.factories.UserFactory;
+import com.todev.pdv.helpers.SecurityHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.todev.pdv.core.enums.TicketStatus.COMPLETED;
+import static com.todev.pdv.core.enums.TicketStatus.PENDING;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.HttpMethod.DELETE;
+import static org.springframework.http.HttpMethod.GET;
+import static org.springframework.http.HttpMethod.POST;
+import static org.springframework.http.HttpStatus.*;
+
+@SpringBootTest(webEnvironment = RANDOM_PORT)
+class ReportControllerTest {
+    @Autowired
+    private TestRestTemplate apiClient;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private SecurityHelper securityHelper;
+
+    @Autowired
+    private ReportBundleService reportBundleService;
+
+    private LocalDateTime closedDay;
+
+    @BeforeEach
+    void setUp() {
+        securityHelper.createUser(UserFactory.getManager());
+        closedDay = LocalDateTime.now().minusDays(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        saleRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void salesReportByDate_NotModifiedShouldBeReturned_WhenETagMatches() {
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getManager());
+        var firstResponse = apiClient.exchange("/reports/sales/by-date?date={date}",
+                GET,
+                new HttpEntity<>(httpHeaders),
+                byte[].class,
+                closedDay
+        );
+
+        httpHeaders.setIfNoneMatch(firstResponse.getHeaders().getETag());
+        var secondResponse = apiClient.exchange("/reports/sales/by-date?date={date}",
+                GET,
+                new HttpEntity<>(httpHeaders),
+                byte[].class,
+                closedDay
+        );
+
+        assertAll(() -> {
+            assertEquals(OK, firstResponse.getStatusCode());
+            assertNotNull(firstResponse.getHeaders().getETag());
+            assertEquals(NOT_MODIFIED, secondResponse.getStatusCode());
+        });
+    }
+
+    @Test
+    void salesReportByDate_ReportShouldBeRenderedAgain_WhenSaleOfThatDayWasDeleted() {
+        var manager = userRepository.findByLogin(UserFactory.getManager().getLogin()).orElseThrow();
+        var sale = SaleFactory.getSale();
+        sale.setUserId(manager.getId());
+        sale.setCreatedAt(closedDay);
+        saleRepository.save(sale);
+
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getManager());
+        var firstResponse = apiClient.exchange("/reports/sales/by-date?date={date}",
+                GET,
+                new HttpEntity<>(httpHeaders),
+                byte[].class,
+                closedDay
+        );
+
+        apiClient.exchange("/sales/{id}", DELETE, new HttpEntity<>(httpHeaders), Void.class, sale.getId());
+
+        httpHeaders.setIfNoneMatch(firstResponse.getHeaders().getETag());
+        var secondResponse = apiClient.exchange("/reports/sales/by-date?date={date}",
+                GET,
+                new HttpEntity<>(httpHeaders),
+                byte[].class,
+                closedDay
+        );
+
+        assertAll(() -> {
+            assertEquals(OK, secondResponse.getStatusCode());
+            assertNotEquals(firstResponse.getHeaders().getETag(), secondResponse.getHeaders().getETag());
+        });
+    }
+
+    @Test
+    void salesReportByDate_ETagShouldNotBeReturned_WhenDayIsOpen() {
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getManager());
+        var httpResponse = apiClient.exchange("/reports/sales/by-date?date={date}",
+                GET,
+                new HttpEntity<>(httpHeaders),
+                byte[].class,
+                LocalDateTime.now()
+        );
+
+        assertAll(() -> {
+            assertEquals(OK, httpResponse.getStatusCode());
+            assertNull(httpResponse.getHeaders().getETag());
+        });
+    }
+
+    @Test
+    void submitJob_ReportShouldBeDownloaded_WhenJobWasCompleted() throws InterruptedException {
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getManager());
+        var submitResponse = apiClient.exchange("/reports/jobs",
+                POST,
+                new HttpEntity<>(new ReportJobRequest("GOODS", null, null, null), httpHeaders),
+                ReportJobResponse.class
+        );
+
+        var job = submitResponse.getBody().job();
+        var statusResponse = apiClient.exchange("/reports/jobs/{job}", GET, new HttpEntity<>(httpHeaders), ReportJobResponse.class, job);
+
+        for (int attempt = 0; attempt < 50 && statusResponse.getBody().status() == PENDING; attempt++) {
+            Thread.sleep(100);
+            statusResponse = apiClient.exchange("/reports/jobs/{job}", GET, new HttpEntity<>(httpHeaders), ReportJobResponse.class, job);
+        }
+
+        var fileResponse = apiClient.exchange("/reports/jobs/{job}/file", GET, new HttpEntity<>(httpHeaders), byte[].class, job);
+        var finalStatus = statusResponse.getBody().status();
+
+        assertAll(() -> {
+            assertEquals(ACCEPTED, submitResponse.getStatusCode());
+            assertEquals(COMPLETED, finalStatus);
+            assertEquals(OK, fileResponse.getStatusCode());
+            assertTrue(fileResponse.getBody().length > 0);
+        });
+    }
+
+    @Test
+    void submitJob_BadRequestShouldBeReturned_WhenTypeIsInvalid() {
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getManager());
+        var httpResponse = apiClient.exchange("/reports/jobs",
+                POST,
+                new HttpEntity<>(new ReportJobRequest("UNKNOWN", null, null, null), httpHeaders),
+                String.class
+        );
+
+        assertEquals(BAD_REQUEST, httpResponse.getStatusCode());
+    }
+
+    @Test
+    void saleReport_TextReceiptShouldBeReturned_WhenPlainTextWasAccepted() {
+        var manager = userRepository.findByLogin(UserFactory.getManager().getLogin()).orElseThrow();
+        var sale = SaleFactory.getSale();
+        sale.setUserId(manager.getId());
+        sale = saleRepository.save(sale);
+
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getManager());
+        httpHeaders.setAccept(List.of(MediaType.TEXT_PLAIN));
+        var httpResponse = apiClient.exchange("/reports/sale/{id}", GET, new HttpEntity<>(httpHeaders), String.class, sale.getId());
+
+        assertAll(() -> {
+            assertEquals(OK, httpResponse.getStatusCode());
+            assertTrue(httpResponse.getHeaders().getContentType().isCompatibleWith(MediaType.TEXT_PLAIN));
+            assertTrue(httpResponse.getBody().contains("Minha Make"));
+        });
+    }
+
+    @Test
+    void saleReport_PdfShouldBeReturned_WhenPlainTextIsNotThePreferredType() {
+        var manager = userRepository.findByLogin(UserFactory.getManager().getLogin()).orElseThrow();
+        var sale = SaleFactory.getSale();
+        sale.setUserId(manager.getId());
+        sale = saleRepository.save(sale);
+
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getManager());
+        httpHeaders.set(HttpHeaders.ACCEPT, "application/json, text/plain, */*");
+        var httpResponse = apiClient.exchange("/reports/sale/{id}", GET, new HttpEntity<>(httpHeaders), byte[].class, sale.getId());
+
+        assertAll(() -> {
+            assertEquals(OK, httpResponse.getStatusCode());
+            assertTrue(httpResponse.getHeaders().getContentType().isCompatibleWith(MediaType.APPLICATION_PDF));
+        });
+    }
+
+    @Test
+    void goodsReport_CsvShouldBeReturned_WhenCsvWasAccepted() {
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getManager());
+        httpHeaders.setAccept(List.of(MediaType.parseMediaType("text/csv")));
+        var httpResponse = apiClient.exchange("/reports/goods", GET, new HttpEntity<>(httpHeaders), String.class);
+
+        assertAll(() -> {
+            assertEquals(OK, httpResponse.getStatusCode());
+            assertTrue(httpResponse.getHeaders().getContentType().isCompatibleWith(MediaType.parseMediaType("text/csv")));
+            assertTrue(httpResponse.getBody().startsWith("id,description,amount,price"));
+        });
+    }
+
+    @Test
+    void salesReportByDate_NdjsonShouldBeReturned_WhenNdjsonWasAccepted() {
+        var manager = userRepository.findByLogin(UserFactory.getManager().getLogin()).orElseThrow();
+        var sale = SaleFactory.getSale();
+        sale.setUserId(manager.getId());
+        sale.setCreatedAt(closedDay);
+        saleRepository.save(sale);
+
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getManager());
+        httpHeaders.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+        var httpResponse = apiClient.exchange("/reports/sales/by-date?date={date}",
+                GET,
+                new HttpEntity<>(httpHeaders),
+                String.class,
+                closedDay
+        );
+
+        assertAll(() -> {
+            assertEquals(OK, httpResponse.getStatusCode());
+            assertEquals(1, httpResponse.getBody().lines().count());
+            assertTrue(httpResponse.getBody().contains("\"seller\":\"" + manager.getName() + "\""));
+        });
+    }
+
+    @Test
+    void downloadBundle_ZipShouldBeReturned_WhenBundleWasBuilt() {
+        reportBundleService.build(closedDay.toLocalDate());
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getManager());
+        var httpResponse = apiClient.exchange("/reports/bundles/{day}",
+                GET,
+                new HttpEntity<>(httpHeaders),
+                byte[].class,
+                closedDay.toLocalDate()
+        );
+
+        assertAll(() -> {
+            assertEquals(OK, httpResponse.getStatusCode());
+            assertEquals(MediaType.parseMediaType("application/zip"), httpResponse.getHeaders().getContentType());
+            assertTrue(httpResponse.getBody().length > 0);
+        });
+    }
+
+    @Test
+    void downloadBundle_NotFoundShouldBeReturned_WhenBundleWasNotBuilt() {
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getManager());
+        var httpResponse = apiClient.exchange("/reports/bundles/{day}",
+                GET,
+                new HttpEntity<>(httpHeaders),
+                String.class,
+                LocalDate.of(2000, 1, 1)
+        );
+
+        assertEquals(NOT_FOUND, httpResponse.getStatusCode());
+    }
+
+    @Test
+    void leaderboard_SellersShouldBeReturned_WhenJsonWasAccepted() {
+        var manager = userRepository.findByLogin(UserFactory.getManager().getLogin()).orElseThrow();
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getManager());
+        httpHeaders.setAccept(List.of(MediaType.APPLICATION_JSON));
+        var httpResponse = apiClient.exchange("/reports/leaderboard?start={start}&end={end}",
+                GET,
+                new HttpEntity<>(httpHeaders),
+                LeaderboardResponse[].class,
+                closedDay.minusMonths(1),
+                closedDay
+        );
+
+        assertAll(() -> {
+            assertEquals(OK, httpResponse.getStatusCode());
+            assertEquals(manager.getId(), httpResponse.getBody()[0].userId());
+            assertEquals(0, httpResponse.getBody()[0].sales());
+        });
+    }
+
+    @Test
+    void leaderboardReport_BadRequestShouldBeReturned_WhenEndIsBeforeStart() {
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getManager());
+        var httpResponse = apiClient.exchange("/reports/leaderboard?start={start}&end={end}",
+                GET,
+                new HttpEntity<>(httpHeaders),
+                String.class,
+                closedDay,
+                closedDay.minusMonths(1)
+        );
+
+        assertEquals(BAD_REQUEST, httpResponse.getStatusCode());
+    }
+}
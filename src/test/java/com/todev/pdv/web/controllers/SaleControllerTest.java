@@ -1,5 +1,6 @@
 package com.todev.pdv.web.controllers;
 
+import com.todev.pdv.common.dtos.CursorPage;
 import com.todev.pdv.common.dtos.*;
 import com.todev.pdv.core.models.Product;
 import com.todev.pdv.core.models.Sale;
@@ -9,6 +10,7 @@ import com.todev.pdv.core.repositories.SaleItemRepository;
 import com.todev.pdv.core.repositories.SaleRepository;
 import com.todev.pdv.core.repositories.UserRepository;
 import com.todev.pdv.factories.*;
+import com.todev.pdv.helpers.QueryCountHelper;
 import com.todev.pdv.helpers.SecurityHelper;
 import com.todev.pdv.wrappers.PageableResponse;
 import org.junit.jupiter.api.AfterEach;
@@ -18,9 +20,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpEntity;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -48,6 +53,12 @@ class SaleControllerTest {
     @Autowired
     private SecurityHelper securityHelper;
 
+    @Autowired
+    private QueryCountHelper queryCountHelper;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
     private Product product;
 
     private Sale sale;
@@ -64,6 +75,7 @@ class SaleControllerTest {
 
     @AfterEach
     void tearDown() {
+        jdbcTemplate.getJdbcTemplate().update("DELETE FROM sales_daily_rollup");
         saleItemRepository.deleteAll();
         saleRepository.deleteAll();
         productRepository.deleteAll();
@@ -91,6 +103,59 @@ class SaleControllerTest {
         });
     }
 
+    @Test
+    void save_SaleShouldBeSavedOnce_WhenRequestWasRetriedWithSameIdempotencyKey() {
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getSeller());
+        httpHeaders.set("Idempotency-Key", "3f1c2a9e-5d1b-4c57-9f0e-2b7d4c1a8e6f");
+        var requestBody = SaleFactory.getRequestDTO(product.getId());
+        var firstResponse = apiClient.exchange("/sales",
+                POST,
+                new HttpEntity<>(requestBody, httpHeaders),
+                SaleResponse.class
+        );
+        var retryResponse = apiClient.exchange("/sales",
+                POST,
+                new HttpEntity<>(requestBody, httpHeaders),
+                SaleResponse.class
+        );
+
+        var productById = productRepository.findByIdAndDeletedAtIsNull(product.getId());
+
+        assertAll(() -> {
+            assertEquals(CREATED, firstResponse.getStatusCode());
+            assertEquals(CREATED, retryResponse.getStatusCode());
+            assertNotNull(firstResponse.getBody());
+            assertNotNull(retryResponse.getBody());
+            assertEquals(firstResponse.getBody().id(), retryResponse.getBody().id());
+            assertEquals(1, saleRepository.count());
+            assertTrue(productById.isPresent());
+            assertEquals(8, productById.get().getAmount());
+        });
+    }
+
+    @Test
+    void save_ConflictShouldBeReturned_WhenIdempotencyKeyWasReusedWithAnotherCart() {
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getSeller());
+        httpHeaders.set("Idempotency-Key", "3f1c2a9e-5d1b-4c57-9f0e-2b7d4c1a8e6f");
+        var firstResponse = apiClient.exchange("/sales",
+                POST,
+                new HttpEntity<>(SaleFactory.getRequestDTO(product.getId()), httpHeaders),
+                SaleResponse.class
+        );
+        var otherCart = new SaleRequest("CARD", 0, List.of(new SaleItemRequest(product.getId(), 1)));
+        var reusedResponse = apiClient.exchange("/sales",
+                POST,
+                new HttpEntity<>(otherCart, httpHeaders),
+                ErrorResponse.class
+        );
+
+        assertAll(() -> {
+            assertEquals(CREATED, firstResponse.getStatusCode());
+            assertEquals(CONFLICT, reusedResponse.getStatusCode());
+            assertEquals(1, saleRepository.count());
+        });
+    }
+
     @Test
     void save_SaleShouldNotBeSaved_WhenReceivedSaleHasDuplicatedProducts() {
         var httpHeaders = securityHelper.authenticate(CredentialsFactory.getSeller());
@@ -357,6 +422,90 @@ class SaleControllerTest {
         });
     }
 
+    @Test
+    void deleteAll_SalesShouldBeDeletedAndStockRestored_WhenIdsWereReceived() {
+        var seller = userRepository.findByLogin("seller").orElseThrow();
+        var saleIds = new ArrayList<Integer>();
+
+        for (int i = 0; i < 3; i++) {
+            sale = SaleFactory.getSale();
+            sale.setUserId(seller.getId());
+            saleRepository.save(sale);
+            saleIds.add(sale.getId());
+
+            var item = SaleItemFactory.getSaleItem();
+            item.setSaleId(sale.getId());
+            item.setProductId(product.getId());
+            item.setAmount(2);
+            saleItemRepository.save(item);
+        }
+
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getManager());
+        var httpResponse = apiClient.exchange("/sales/bulk/delete",
+                POST,
+                new HttpEntity<>(new SaleBulkRequest(saleIds, null, null, null), httpHeaders),
+                Void.class);
+
+        var productById = productRepository.findById(product.getId());
+
+        assertAll(() -> {
+            assertEquals(NO_CONTENT, httpResponse.getStatusCode());
+            assertTrue(saleRepository.findByDeletedAtIsNull(Pageable.unpaged()).isEmpty());
+            assertTrue(productById.isPresent());
+            assertEquals(16, productById.get().getAmount());
+        });
+    }
+
+    @Test
+    void deleteAll_SalesShouldNotBeDeleted_WhenUserIsSeller() {
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getSeller());
+        var httpResponse = apiClient.exchange("/sales/bulk/delete",
+                POST,
+                new HttpEntity<>(new SaleBulkRequest(List.of(1), null, null, null), httpHeaders),
+                ErrorResponse.class);
+
+        assertEquals(FORBIDDEN, httpResponse.getStatusCode());
+    }
+
+    @Test
+    void details_SaleDetailsShouldBeLoadedInOneQuery_WhenSaleHasManyItems() {
+        var seller = userRepository.findByLogin("seller").orElseThrow();
+        sale = SaleFactory.getSale();
+        sale.setUserId(seller.getId());
+        saleRepository.save(sale);
+
+        for (int i = 0; i < 30; i++) {
+            var otherProduct = ProductFactory.getProduct();
+            otherProduct.setDescription("Produto " + i);
+            otherProduct = productRepository.save(otherProduct);
+
+            var item = SaleItemFactory.getSaleItem();
+            item.setSaleId(sale.getId());
+            item.setProductId(otherProduct.getId());
+            saleItemRepository.save(item);
+        }
+
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getManager());
+        queryCountHelper.reset();
+        var httpResponse = apiClient.exchange("/sales/details/{id}",
+                GET,
+                new HttpEntity<>(httpHeaders),
+                SaleDetailsResponse.class,
+                sale.getId());
+
+        var saleQueries = queryCountHelper.statements().stream()
+                .filter(statement -> statement.contains("sales"))
+                .count();
+
+        assertAll(() -> {
+            assertEquals(OK, httpResponse.getStatusCode());
+            assertNotNull(httpResponse.getBody());
+            assertEquals(30, httpResponse.getBody().items().size());
+            assertEquals(1, saleQueries);
+            assertEquals(2, queryCountHelper.statements().size());
+        });
+    }
+
     @Test
     void details_SaleDetailsShouldNotBeReturned_WhenIdWasNotFound() {
         var httpHeaders = securityHelper.authenticate(CredentialsFactory.getSeller());
@@ -523,6 +672,32 @@ class SaleControllerTest {
         });
     }
 
+    @Test
+    void delete_RollupShouldFollowSale_WhenSaleWasSavedAndDeleted() {
+        var sellerHeaders = securityHelper.authenticate(CredentialsFactory.getSeller());
+        var saved = apiClient.exchange("/sales",
+                POST,
+                new HttpEntity<>(SaleFactory.getRequestDTO(product.getId()), sellerHeaders),
+                SaleResponse.class
+        );
+        var savedNet = jdbcTemplate.getJdbcTemplate().queryForObject("SELECT SUM(net) FROM sales_daily_rollup", Long.class);
+
+        var managerHeaders = securityHelper.authenticate(CredentialsFactory.getManager());
+        apiClient.exchange("/sales/{id}",
+                DELETE,
+                new HttpEntity<>(managerHeaders),
+                Void.class,
+                saved.getBody().id()
+        );
+        var deletedNet = jdbcTemplate.getJdbcTemplate().queryForObject("SELECT SUM(net) FROM sales_daily_rollup", Long.class);
+
+        assertAll(() -> {
+            assertEquals(CREATED, saved.getStatusCode());
+            assertEquals(350180L, savedNet);
+            assertEquals(0L, deletedNet);
+        });
+    }
+
     @Test
     void delete_SaleShouldNotBeDeleted_WhenIdWasNotFound() {
         var httpHeaders = securityHelper.authenticate(CredentialsFactory.getAdmin());
@@ -644,4 +819,58 @@ class SaleControllerTest {
         assertEquals(FORBIDDEN, httpResponse.getStatusCode());
     }
 
-}
\ No newline at end of file
+
+    @Test
+    void findActive_SalesShouldBeReturnedNewestFirstWithCursor_WhenCursorWasRequested() {
+        var users = userRepository.findAll();
+        users.forEach(user -> {
+            sale = SaleFactory.getSale();
+            sale.setUserId(user.getId());
+            saleRepository.save(sale);
+        });
+
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getAdmin());
+        var firstResponse = apiClient.exchange("/sales/active/cursor?size={size}",
+                GET,
+                new HttpEntity<>(httpHeaders),
+                new ParameterizedTypeReference<CursorPage<SaleResponse>>() {
+                },
+                2
+        );
+        var secondResponse = apiClient.exchange("/sales/active/cursor?cursor={cursor}&size={size}",
+                GET,
+                new HttpEntity<>(httpHeaders),
+                new ParameterizedTypeReference<CursorPage<SaleResponse>>() {
+                },
+                firstResponse.getBody().next(),
+                2
+        );
+
+        assertAll(() -> {
+            assertEquals(OK, firstResponse.getStatusCode());
+            assertEquals(2, firstResponse.getBody().content().size());
+            assertNotNull(firstResponse.getBody().next());
+            assertTrue(firstResponse.getBody().content().get(0).id() > firstResponse.getBody().content().get(1).id());
+            assertEquals(OK, secondResponse.getStatusCode());
+            assertEquals(1, secondResponse.getBody().content().size());
+            assertNull(secondResponse.getBody().next());
+        });
+    }
+
+    @Test
+    void findActive_SalesShouldNotBeReturned_WhenCursorIsInvalid() {
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getSeller());
+        var httpResponse = apiClient.exchange("/sales/active/cursor?cursor={cursor}",
+                GET,
+                new HttpEntity<>(httpHeaders),
+                ErrorResponse.class,
+                "invalido"
+        );
+
+        assertAll(() -> {
+            assertEquals(BAD_REQUEST, httpResponse.getStatusCode());
+            assertNotNull(httpResponse.getBody());
+            assertTrue(httpResponse.getBody().details().contains("O cursor informado é inválido!"));
+        });
+    }
+}
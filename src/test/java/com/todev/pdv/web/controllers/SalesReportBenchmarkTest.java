@@ -0,0 +1,106 @@
+package com.todev.pdv.web.controllers;
+
+import com.todev.pdv.core.repositories.SaleRepository;
+import com.todev.pdv.core.repositories.UserRepository;
+import com.todev.pdv.factories.CredentialsFactory;
+import com.todev.pdv.factories.UserFactory;
+import com.todev.pdv.helpers.QueryCountHelper;
+import com.todev.pdv.helpers.SecurityHelper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.HttpMethod.GET;
+import static org.springframework.http.HttpStatus.OK;
+
+@Slf4j
+@SpringBootTest(webEnvironment = RANDOM_PORT)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SalesReportBenchmarkTest {
+    private static final int SALES = 10_000;
+
+    @Autowired
+    private TestRestTemplate apiClient;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private SecurityHelper securityHelper;
+
+    @Autowired
+    private QueryCountHelper queryCountHelper;
+
+    private LocalDateTime date;
+
+    @BeforeEach
+    void setUp() {
+        securityHelper.createUser(UserFactory.getManager());
+        var user = userRepository.findByLogin(UserFactory.getManager().getLogin()).orElseThrow();
+        var batch = new ArrayList<MapSqlParameterSource>();
+        date = LocalDateTime.now().withHour(12);
+
+        for (int i = 0; i < SALES; i++) {
+            batch.add(new MapSqlParameterSource()
+                    .addValue("userId", user.getId())
+                    .addValue("discount", i % 20)
+                    .addValue("createdAt", date.withMinute(i % 60)));
+        }
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO sales (user_id, payment_method, discount, total, created_at)
+                VALUES (:userId, 'CARD', :discount, 175090, :createdAt)""", batch.toArray(MapSqlParameterSource[]::new));
+    }
+
+    @AfterEach
+    void tearDown() {
+        saleRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void salesReportByDate_DailyReportShouldUseOneSalesQuery() {
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getManager());
+        queryCountHelper.reset();
+
+        var start = System.nanoTime();
+        var httpResponse = apiClient.exchange("/reports/sales/by-date?date={date}",
+                GET,
+                new HttpEntity<>(httpHeaders),
+                byte[].class,
+                date
+        );
+        var elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        var saleQueries = queryCountHelper.statements().stream()
+                .filter(statement -> statement.contains("sales"))
+                .count();
+
+        log.info("sales={} latency={} ms statements={}", SALES, elapsed, queryCountHelper.statements().size());
+
+        assertAll(() -> {
+            assertEquals(OK, httpResponse.getStatusCode());
+            assertEquals(1, saleQueries);
+        });
+    }
+}
@@ -0,0 +1,110 @@
+package com.todev.pdv.web.controllers;
+
+import com.todev.pdv.common.dtos.SaleItemRequest;
+import com.todev.pdv.common.dtos.SaleRequest;
+import com.todev.pdv.common.dtos.SaleResponse;
+import com.todev.pdv.core.repositories.ProductRepository;
+import com.todev.pdv.core.repositories.SaleItemRepository;
+import com.todev.pdv.core.repositories.SaleRepository;
+import com.todev.pdv.core.repositories.UserRepository;
+import com.todev.pdv.factories.CredentialsFactory;
+import com.todev.pdv.factories.UserFactory;
+import com.todev.pdv.helpers.SecurityHelper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.HttpMethod.POST;
+import static org.springframework.http.HttpStatus.CREATED;
+
+@Slf4j
+@SpringBootTest(webEnvironment = RANDOM_PORT)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class WholesaleCheckoutBenchmarkTest {
+    private static final int LINES = 10_000;
+
+    @Autowired
+    private TestRestTemplate apiClient;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private SaleItemRepository saleItemRepository;
+
+    @Autowired
+    private SecurityHelper securityHelper;
+
+    private List<Integer> productIds;
+
+    @BeforeEach
+    void setUp() {
+        var batch = new ArrayList<MapSqlParameterSource>();
+
+        for (int i = 0; i < LINES; i++) {
+            batch.add(new MapSqlParameterSource()
+                    .addValue("description", "Produto atacado " + i)
+                    .addValue("createdAt", LocalDateTime.now()));
+        }
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO products (description, amount, price, created_at)
+                VALUES (:description, 1000, 1000, :createdAt)""", batch.toArray(MapSqlParameterSource[]::new));
+
+        productIds = jdbcTemplate.queryForList("SELECT id FROM products ORDER BY id", new MapSqlParameterSource(), Integer.class);
+        securityHelper.createUser(UserFactory.getSeller());
+    }
+
+    @AfterEach
+    void tearDown() {
+        saleItemRepository.deleteAll();
+        saleRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/sales", "/sales/wholesale"})
+    void save_LargeCartShouldBeSaved(String path) {
+        var httpHeaders = securityHelper.authenticate(CredentialsFactory.getSeller());
+        var items = productIds.stream().map(productId -> new SaleItemRequest(productId, 1)).toList();
+        var requestBody = new SaleRequest("CARD", 0, items);
+
+        var start = System.nanoTime();
+        var httpResponse = apiClient.exchange(path,
+                POST,
+                new HttpEntity<>(requestBody, httpHeaders),
+                SaleResponse.class
+        );
+        var elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        log.info("path={} lines={} latency={} ms", path, LINES, elapsed);
+
+        assertEquals(CREATED, httpResponse.getStatusCode());
+        assertEquals(LINES, saleItemRepository.count());
+    }
+}